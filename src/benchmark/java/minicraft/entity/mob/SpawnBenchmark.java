@@ -0,0 +1,68 @@
+package minicraft.entity.mob;
+
+import minicraft.core.Game;
+import minicraft.level.tile.Tiles;
+import org.tinylog.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Measures how many mobs per second the spawns can make, and how many bytes each one allocates,
+ * like before (making every mob the level could spawn and picking one, and making the mobs
+ * of the spawners by reflection) and with the {@link SpawnTable} and the {@link Mobs} factories.
+ * Like the level benchmarks, this doesn't run the game.
+ */
+public class SpawnBenchmark {
+
+	private static final int spawns = 200000;
+
+	// Like the caves in Level.trySpawn()
+	private static final SpawnTable caveEnemies = new SpawnTable().add(20, Slime.class).add(20, Zombie.class).add(20, OldGolem.class).add(20, Skeleton.class).add(20, Creeper.class);
+
+	public static void main(String[] args) throws ReflectiveOperationException {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		Tiles.initialize();
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		String[] names = { "Cave spawns, every mob made", "Cave spawns, spawn table", "Spawner, reflection", "Spawner, factory" };
+		Mobs.Factory factory = Mobs.getFactory(Mobs.getId(Zombie.class));
+
+		for (int pass = 0; pass < names.length; pass++) {
+			for (int run = 0; run < 2; run++) { // The first one warms up
+				Random random = new Random(0x100);
+				int made = 0;
+
+				long allocated = threads.getThreadAllocatedBytes(threadId);
+				long startTime = System.nanoTime();
+
+				for (int i = 0; i < spawns; i++) {
+					int lvl = random.nextInt(3) + 1;
+					MobAi mob;
+					switch (pass) {
+						case 0: {
+							EnemyMob[] mobs = { new Slime(lvl), new Zombie(lvl), new OldGolem(lvl), new Skeleton(lvl), new Creeper(lvl) };
+							mob = mobs[random.nextInt(100) / 20];
+							break;
+						}
+						case 1: mob = caveEnemies.pick(random)[0].create(lvl); break;
+						case 2: mob = Zombie.class.getConstructor(int.class).newInstance(lvl); break;
+						default: mob = factory.create(lvl); break;
+					}
+					if (mob != null) made++;
+				}
+
+				long time = System.nanoTime() - startTime;
+				allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+				if (run > 0) {
+					Logger.info("{}: {} spawns per second, {} bytes allocated per spawn", names[pass], String.format("%.0f", made / (time / 1e9)), allocated / made);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package minicraft.graphic;
+
+import minicraft.core.Updater;
+import org.tinylog.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Measures the frame time of putting the light screen over the screen, for the surface at night, the caves
+ * and the darkness, and how many bytes that allocates, that should always be 0.
+ * Like the level benchmarks, this doesn't run the game.
+ */
+public class LightCompositorBenchmark {
+
+	private static final int frames = 2000;
+
+	public static void main(String[] args) {
+		Screen screen = new Screen(null, null, null, null, null, null);
+		Screen lightScreen = new Screen(screen);
+
+		Random random = new Random(0x100);
+		for (int i = 0; i < screen.pixels.length; i++) {
+			screen.pixels[i] = random.nextInt(0x1000000);
+			lightScreen.pixels[i] = random.nextInt(4) == 0 ? random.nextInt(4096) : 0; // Some lights in the dark
+		}
+		int[] original = screen.pixels.clone();
+
+		Updater.changeTimeOfDay(Updater.Time.Night);
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		String[] names = { "Surface overlay", "Caves overlay", "Surface darkness" };
+		for (int pass = 0; pass < names.length; pass++) {
+			for (int run = 0; run < 2; run++) { // The first one warms up
+				long allocated = threads.getThreadAllocatedBytes(threadId);
+				long startTime = System.nanoTime();
+
+				for (int frame = 0; frame < frames; frame++) {
+					System.arraycopy(original, 0, screen.pixels, 0, original.length);
+					switch (pass) {
+						case 0: screen.overlay(lightScreen, 3, frame, frame); break;
+						case 1: screen.overlay(lightScreen, 1, frame, frame); break;
+						default: screen.darkness(lightScreen, 3, frame, frame); break;
+					}
+				}
+
+				long time = System.nanoTime() - startTime;
+				allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+				if (run > 0) {
+					Logger.info("{}: {} ms per frame, {} bytes allocated per frame", names[pass], String.format("%.3f", time / 1e6 / frames), allocated / frames);
+					if (allocated > 0) {
+						Logger.error("{} allocated {} bytes in {} frames, it should allocate nothing", names[pass], allocated, frames);
+					}
+				}
+			}
+		}
+	}
+}
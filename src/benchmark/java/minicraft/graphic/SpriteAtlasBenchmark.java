@@ -0,0 +1,152 @@
+package minicraft.graphic;
+
+import minicraft.core.Renderer;
+import org.tinylog.Logger;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Measures the frame time of drawing a screen of tiles, a lot of mobs and a screen of text, pixel by
+ * pixel like before and with the {@link SpriteAtlas}, and checks that both give the same pixels.
+ * Like the level benchmarks, this doesn't run the game.
+ */
+public class SpriteAtlasBenchmark {
+
+	private static final int frames = 2000;
+
+	// What each draw has: x, y, sheet x, sheet y, mirror, sheet, white tint, fullbright, color
+	private static final int FIELDS = 9;
+
+	public static void main(String[] args) {
+		SpriteSheet[] sheets = Renderer.loadDefaultTextures();
+		Screen screen = new Screen(sheets[0], sheets[1], sheets[2], sheets[3], sheets[4], sheets[5]);
+		int[] pixels = new int[Screen.w * Screen.h];
+
+		String[] names = { "Tiles", "Mobs", "Font" };
+		int[][] draws = { tiles(), mobs(), font() };
+
+		for (int pass = 0; pass < names.length; pass++) {
+			int[] draw = draws[pass];
+
+			Sprite.Px[] sprites = new Sprite.Px[draw.length / FIELDS];
+			for (int i = 0; i < sprites.length; i++) {
+				sprites[i] = new Sprite.Px(draw[i * FIELDS + 2], draw[i * FIELDS + 3], 0, draw[i * FIELDS + 5]);
+			}
+
+			for (int run = 0; run < 2; run++) { // The first one warms up
+				boolean samePixels = true;
+				long pixelTime = 0;
+				long atlasTime = 0;
+
+				for (int frame = 0; frame < frames; frame++) {
+					int scroll = frame & 15; // So the ones on the edges are cut in every way
+					Arrays.fill(pixels, 0);
+					screen.clear(0);
+
+					long startTime = System.nanoTime();
+					for (int i = 0; i < draw.length; i += FIELDS) {
+						renderPixels(pixels, sheets[draw[i + 5]], draw[i] - scroll, draw[i + 1] - scroll, draw[i + 2], draw[i + 3],
+							draw[i + 4], draw[i + 6], draw[i + 7] != 0, draw[i + 8]);
+					}
+					pixelTime += System.nanoTime() - startTime;
+
+					screen.setOffset(scroll, scroll);
+					startTime = System.nanoTime();
+					for (int i = 0; i < draw.length; i += FIELDS) {
+						screen.render(draw[i], draw[i + 1], sprites[i / FIELDS], draw[i + 4], draw[i + 6], draw[i + 7] != 0, draw[i + 8]);
+					}
+					atlasTime += System.nanoTime() - startTime;
+					screen.setOffset(0, 0);
+
+					samePixels &= Arrays.equals(pixels, screen.pixels);
+				}
+
+				if (run > 0) {
+					Logger.info("{}: pixel by pixel {} ms per frame, atlas {} ms per frame, same pixels: {}", names[pass],
+						String.format("%.3f", pixelTime / 1e6 / frames), String.format("%.3f", atlasTime / 1e6 / frames), samePixels);
+				}
+			}
+		}
+	}
+
+	/** The ground of a screen, in boxes of the tile sheet. */
+	private static int[] tiles() {
+		Random random = new Random(0x100);
+		int[] draw = new int[((Screen.w >> 3) + 2) * ((Screen.h >> 3) + 2) * FIELDS];
+		int i = 0;
+		for (int y = 0; y < (Screen.h >> 3) + 2; y++) {
+			for (int x = 0; x < (Screen.w >> 3) + 2; x++) {
+				set(draw, i++, x << 3, y << 3, random.nextInt(76), random.nextInt(76), random.nextInt(4), 1, -1, false, 0);
+			}
+		}
+		return draw;
+	}
+
+	/** Mobs all around the screen, some hurt, some with a white tint and some of a single color. */
+	private static int[] mobs() {
+		Random random = new Random(0x200);
+		int[] draw = new int[800 * FIELDS];
+		for (int i = 0; i < 800; i++) {
+			int kind = random.nextInt(16);
+			set(draw, i, random.nextInt(Screen.w + 16) - 8, random.nextInt(Screen.h + 16) - 8, random.nextInt(76), random.nextInt(76),
+				random.nextInt(4), 2, kind == 0 ? random.nextInt(0x1000000) : -1, kind == 1, kind == 2 ? random.nextInt(0x1000000) : 0);
+		}
+		return draw;
+	}
+
+	/** Lines of text with a white tint, like the menus. */
+	private static int[] font() {
+		Random random = new Random(0x300);
+		int[] draw = new int[(Screen.w >> 3) * (Screen.h >> 3) * FIELDS];
+		int i = 0;
+		for (int y = 0; y < (Screen.h >> 3); y++) {
+			int whiteTint = random.nextInt(0x1000000);
+			for (int x = 0; x < (Screen.w >> 3); x++) {
+				set(draw, i++, x << 3, y << 3, random.nextInt(32), random.nextInt(8), 0, 4, whiteTint, false, 0);
+			}
+		}
+		return draw;
+	}
+
+	private static void set(int[] draw, int i, int x, int y, int xTile, int yTile, int bits, int sheet, int whiteTint, boolean fullbright, int color) {
+		int[] values = { x, y, xTile, yTile, bits, sheet, whiteTint, fullbright ? 1 : 0, color };
+		System.arraycopy(values, 0, draw, i * FIELDS, FIELDS);
+	}
+
+	/** What {@link Screen#render} did before the atlas, xp and yp are screen coordinates. */
+	private static void renderPixels(int[] pixels, SpriteSheet sheet, int xp, int yp, int xTile, int yTile, int bits, int whiteTint, boolean fullbright, int color) {
+		boolean mirrorX = (bits & 0x01) > 0;
+		boolean mirrorY = (bits & 0x02) > 0;
+
+		xTile %= sheet.width;
+		yTile %= sheet.height;
+		int toffs = (xTile << 3) + (yTile << 3) * sheet.width;
+
+		for (int y = yp; y < yp + 8; y++) {
+			if (y < 0 || y >= Screen.h) continue;
+
+			for (int x = xp; x < xp + 8; x++) {
+				if (x < 0 || x >= Screen.w) continue;
+
+				int xs = mirrorX ? 7 - (x - xp) : x - xp;
+				int ys = mirrorY ? 7 - (y - yp) : y - yp;
+
+				int spriteColor = sheet.pixels[toffs + xs + ys * sheet.width];
+				if ((spriteColor >> 24) != 0) {
+					int position = x + y * Screen.w;
+
+					if (whiteTint != -1 && spriteColor == 0x1FFFFFF) {
+						pixels[position] = Color.upgrade(whiteTint);
+					} else if (fullbright) {
+						pixels[position] = Color.WHITE;
+					} else if (color != 0) {
+						pixels[position] = color;
+					} else {
+						pixels[position] = Color.upgrade(spriteColor);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package minicraft.item;
+
+import minicraft.core.Game;
+import org.tinylog.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures loading a chest with 500 items from their saved names, and checking all the recipes
+ * against that chest, finding the items like before (searching the list and copying them) and with
+ * the index of {@link Items}. Like the level benchmarks, this doesn't run the game.
+ */
+public class ItemsBenchmark {
+
+	private static final int chestSize = 500;
+	private static final int runs = 2000;
+
+	public static void main(String[] args) {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		// The names like they are saved, with the counts and durabilities
+		List<Item> registered = new ArrayList<>();
+		Items.fillCreativeInventory(new Inventory() {
+			@Override
+			public void add(int slot, Item item) {
+				registered.add(item);
+			}
+		});
+
+		Random random = new Random(0x100);
+		String[] saved = new String[chestSize];
+		for (int i = 0; i < saved.length; i++) {
+			Item item = registered.get(random.nextInt(registered.size()));
+			saved[i] = item instanceof StackableItem || item instanceof ToolItem ? item.getName() + "_" + (1 + random.nextInt(64)) : item.getName();
+		}
+
+		List<Recipe> recipes = new ArrayList<>();
+		recipes.addAll(Recipes.craftRecipes);
+		recipes.addAll(Recipes.workbenchRecipes);
+		recipes.addAll(Recipes.anvilRecipes);
+		recipes.addAll(Recipes.furnaceRecipes);
+		recipes.addAll(Recipes.ovenRecipes);
+		recipes.addAll(Recipes.enchantRecipes);
+		recipes.addAll(Recipes.loomRecipes);
+		recipes.addAll(Recipes.stonecutterRecipes);
+		recipes.addAll(Recipes.breweryRecipes);
+
+		for (int run = 0; run < 2; run++) { // The first one warms up
+			Inventory chest = new Inventory();
+			long startTime = System.nanoTime();
+			for (int i = 0; i < runs; i++) {
+				chest.clear();
+				for (String name : saved) {
+					chest.add(getBySearching(name, registered));
+				}
+			}
+			long searchLoadTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			for (int i = 0; i < runs; i++) {
+				chest.clear();
+				for (String name : saved) {
+					chest.add(Items.get(name));
+				}
+			}
+			long indexLoadTime = System.nanoTime() - startTime;
+
+			int craftable = 0;
+			startTime = System.nanoTime();
+			for (int i = 0; i < runs; i++) {
+				for (Recipe recipe : recipes) {
+					boolean canCraft = true;
+					for (String cost : recipe.getCosts().keySet()) {
+						if (chest.count(getBySearching(cost, registered)) < recipe.getCosts().get(cost)) {
+							canCraft = false;
+							break;
+						}
+					}
+					if (canCraft) craftable++;
+				}
+			}
+			long searchCraftTime = System.nanoTime() - startTime;
+
+			int craftableIndexed = 0;
+			startTime = System.nanoTime();
+			for (int i = 0; i < runs; i++) {
+				for (Recipe recipe : recipes) {
+					if (recipe.hasCosts(chest)) craftableIndexed++;
+				}
+			}
+			long indexCraftTime = System.nanoTime() - startTime;
+
+			if (run > 0) {
+				Logger.info("Loading a chest of {} items: searching {} ms, index {} ms", chestSize,
+					String.format("%.4f", searchLoadTime / 1e6 / runs), String.format("%.4f", indexLoadTime / 1e6 / runs));
+				Logger.info("Checking {} recipes: searching {} ms, cost handles {} ms, same results: {}", recipes.size(),
+					String.format("%.4f", searchCraftTime / 1e6 / runs), String.format("%.4f", indexCraftTime / 1e6 / runs), craftable == craftableIndexed);
+			}
+		}
+	}
+
+	/** What {@link Items#get(String)} did before the index, for the names without an error. */
+	private static Item getBySearching(String name, List<Item> registered) {
+		name = name.toUpperCase();
+		int data = 1;
+		boolean hadUnderscore = false;
+		if (name.contains("_")) {
+			hadUnderscore = true;
+			data = Integer.parseInt(name.substring(name.indexOf("_") + 1));
+			name = name.substring(0, name.indexOf("_"));
+		}
+
+		for (Item currentItem : registered) {
+			if (currentItem.getName().equalsIgnoreCase(name)) {
+				Item item = currentItem.clone();
+				if (item instanceof StackableItem) {
+					((StackableItem) item).count = data;
+				}
+				if (item instanceof ToolItem && hadUnderscore) {
+					((ToolItem) item).durability = data;
+				}
+				return item;
+			}
+		}
+		return new UnknownItem(name);
+	}
+}
@@ -0,0 +1,133 @@
+package minicraft.level;
+
+import minicraft.core.Game;
+import minicraft.core.io.Settings;
+import minicraft.entity.Entity;
+import minicraft.graphic.Rectangle;
+import minicraft.graphic.Screen;
+import minicraft.level.tile.Tiles;
+import org.tinylog.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the tick time of a big level where every entity moves each tick, with 100, 500 and
+ * 2000 entities. Also measures the two entity queries that each move does, with the {@link EntityGrid}
+ * and like before (going through every entity of the level), and checks that both find the same ones.
+ * Like {@link LevelGenBenchmark}, this doesn't run the game.
+ */
+public class EntityGridBenchmark {
+
+	private static final int size = 512;
+	private static final int[] entityCounts = { 100, 500, 2000 };
+
+	/** An entity that walks at random, so it calls move() every tick. */
+	private static class Walker extends Entity {
+		private final Random random = new Random();
+
+		Walker() {
+			super(4, 3);
+		}
+
+		@Override
+		public void tick() {
+			move(random.nextInt(3) - 1, random.nextInt(3) - 1);
+		}
+
+		@Override
+		public void render(Screen screen) {}
+
+		@Override
+		public boolean isSolid() {
+			return false;
+		}
+
+		Rectangle bounds() {
+			return getBounds();
+		}
+	}
+
+	public static void main(String[] args) {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		Tiles.initialize();
+		Settings.set("diff", "Peaceful"); // Only the walkers
+
+		for (int run = 0; run < 2; run++) { // The first one warms up
+			for (int count : entityCounts) {
+				Level level = new Level(size, size, 0, -1, null, false);
+				Arrays.fill(level.tiles, Tiles.get("Dirt").id);
+
+				Random random = new Random(1);
+				for (int i = 0; i < count; i++) {
+					level.add(new Walker(), (random.nextInt(size / 2) + size / 4) << 4, (random.nextInt(size / 2) + size / 4) << 4);
+				}
+				for (int i = 0; i < 300; i++) {
+					level.tick(true);
+				}
+
+				int ticks = count >= 2000 ? 300 : 1000;
+				long startTime = System.nanoTime();
+				for (int i = 0; i < ticks; i++) {
+					level.tick(true);
+				}
+				long tickTime = System.nanoTime() - startTime;
+
+				// The queries of Entity.move2(): where the entity is, and where it would be after moving
+				Entity[] entities = level.getEntityArray();
+				List<Rectangle> areas = new ArrayList<>();
+				for (Entity entity : entities) {
+					Rectangle bounds = ((Walker) entity).bounds();
+					Rectangle moved = new Rectangle(bounds);
+					moved.translate(random.nextInt(3) - 1, random.nextInt(3) - 1);
+					areas.add(bounds);
+					areas.add(moved);
+				}
+
+				int found = 0; // So the queries are not optimized away
+				startTime = System.nanoTime();
+				for (int i = 0; i < 20; i++) {
+					for (Rectangle area : areas) {
+						found += level.getEntitiesInRect(area).size();
+					}
+				}
+				long gridTime = System.nanoTime() - startTime;
+
+				startTime = System.nanoTime();
+				for (int i = 0; i < 20; i++) {
+					for (Rectangle area : areas) {
+						found -= getEntitiesInRectLikeBefore(level, area).size();
+					}
+				}
+				long scanTime = System.nanoTime() - startTime;
+
+				boolean sameEntities = found == 0;
+				for (Rectangle area : areas) {
+					sameEntities &= new HashSet<>(level.getEntitiesInRect(area)).equals(new HashSet<>(getEntitiesInRectLikeBefore(level, area)));
+				}
+
+				if (run > 0) {
+					Logger.info("{} entities: {} ms per tick; the queries of move() {} ms per tick with the grid, {} ms like before, same entities: {}",
+						count, String.format("%.2f", tickTime / 1e6 / ticks),
+						String.format("%.2f", gridTime / 1e6 / 20), String.format("%.2f", scanTime / 1e6 / 20), sameEntities);
+				}
+			}
+		}
+	}
+
+	/** What {@link Level#getEntitiesInRect(Rectangle)} did before the grid. */
+	private static List<Entity> getEntitiesInRectLikeBefore(Level level, Rectangle area) {
+		List<Entity> result = new ArrayList<>();
+		for (Entity entity : level.getEntityArray()) {
+			if (entity.isTouching(area)) {
+				result.add(entity);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,75 @@
+package minicraft.level;
+
+import minicraft.core.Game;
+import minicraft.core.World;
+import minicraft.level.tile.Tiles;
+import org.tinylog.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Measures how long the maps of a whole world take to generate, one level after another
+ * and with every level at the same time, and checks that both give the same maps.
+ * Like {@link LevelGen#main(String[])}, this is only used to test the generation without running the game.
+ */
+public class LevelGenBenchmark {
+
+	private static final int[] sizes = { 256, 512 }; // The world sizes in the settings, the sky map never validates at 128
+	private static final long seed = 0x100; // 256L
+
+	public static void main(String[] args) {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		Tiles.initialize();
+
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		ForkJoinPool pool = new ForkJoinPool(threads);
+
+		for (int size : sizes) {
+			generate(size, null); // Warm up
+
+			long startTime = System.nanoTime();
+			short[][][] sequential = generate(size, null);
+			long sequentialTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			short[][][] parallel = generate(size, pool);
+			long parallelTime = System.nanoTime() - startTime;
+
+			Logger.info("Size {}: one by one {} ms, {} threads {} ms, same maps: {}", size, sequentialTime / 1000000, threads, parallelTime / 1000000, Arrays.deepEquals(sequential, parallel));
+		}
+
+		pool.shutdown();
+	}
+
+	/** Generates the maps of every level like World.initWorld() does, in this thread if the pool is null. */
+	private static short[][][] generate(int size, ForkJoinPool pool) {
+		Random random = new Random(seed);
+
+		List<ForkJoinTask<short[][]>> tasks = new ArrayList<>();
+		short[][][] maps = new short[World.maxLevelDepth - World.minLevelDepth + 1][][];
+
+		for (int depth = World.maxLevelDepth; depth >= World.minLevelDepth; depth--) {
+			int level = depth;
+			long levelSeed = random.nextLong();
+
+			if (pool == null) {
+				maps[World.maxLevelDepth - depth] = LevelGen.createAndValidateMap(size, size, level, levelSeed);
+			} else {
+				tasks.add(pool.submit(() -> LevelGen.createAndValidateMap(size, size, level, levelSeed)));
+			}
+		}
+
+		for (int i = 0; i < tasks.size(); i++) {
+			maps[i] = tasks.get(i).join();
+		}
+
+		return maps;
+	}
+}
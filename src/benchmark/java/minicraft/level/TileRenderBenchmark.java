@@ -0,0 +1,77 @@
+package minicraft.level;
+
+import minicraft.core.Game;
+import minicraft.core.Renderer;
+import minicraft.graphic.Screen;
+import minicraft.graphic.SpriteSheet;
+import minicraft.level.tile.Tile;
+import minicraft.level.tile.Tiles;
+import org.tinylog.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Measures the frame time of the tiles of a big surface level, drawing every tile like before
+ * and with the {@link TileRenderCache}, while scrolling like a walking player. Also checks that
+ * both give the same pixels. Like {@link LevelGenBenchmark}, this doesn't run the game.
+ */
+public class TileRenderBenchmark {
+
+	private static final int size = 512;
+	private static final int frames = 3000;
+
+	public static void main(String[] args) {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		Tiles.initialize();
+
+		SpriteSheet[] sheets = Renderer.loadDefaultTextures();
+		Screen screen = new Screen(sheets[0], sheets[1], sheets[2], sheets[3], sheets[4], sheets[5]);
+		Screen cachedScreen = new Screen(screen);
+
+		Level level = new Level(size, size, 0x100, 0, null, true);
+
+		for (int run = 0; run < 2; run++) { // The first one warms up
+			boolean samePixels = true;
+			long tileTime = 0;
+			long cachedTime = 0;
+
+			for (int frame = 0; frame < frames; frame++) {
+				int xScroll = (size << 3) - Screen.w / 2 + frame;
+				int yScroll = (size << 3) - Screen.h / 2 + frame / 2;
+				Tile.tickCount = frame;
+
+				long startTime = System.nanoTime();
+				renderEveryTile(level, screen, xScroll, yScroll);
+				tileTime += System.nanoTime() - startTime;
+
+				startTime = System.nanoTime();
+				level.renderBackground(cachedScreen, xScroll, yScroll);
+				cachedTime += System.nanoTime() - startTime;
+
+				samePixels &= Arrays.equals(screen.pixels, cachedScreen.pixels);
+			}
+
+			if (run > 0) {
+				Logger.info("Every tile: {} ms per frame ({} fps), cached: {} ms per frame ({} fps), same pixels: {}",
+					String.format("%.3f", tileTime / 1e6 / frames), frames * 1000000000L / tileTime,
+					String.format("%.3f", cachedTime / 1e6 / frames), frames * 1000000000L / cachedTime, samePixels);
+			}
+		}
+	}
+
+	/** What {@link Level#renderBackground(Screen, int, int)} did before the cache. */
+	private static void renderEveryTile(Level level, Screen screen, int xScroll, int yScroll) {
+		int xo = xScroll >> 4;
+		int yo = yScroll >> 4;
+
+		screen.setOffset(xScroll, yScroll);
+		for (int y = yo; y <= (Screen.h >> 4) + yo; y++) {
+			for (int x = xo; x <= (Screen.w >> 4) + xo; x++) {
+				level.getTile(x, y).render(screen, level, x, y);
+			}
+		}
+		screen.setOffset(0, 0);
+	}
+}
@@ -0,0 +1,147 @@
+package minicraft.network;
+
+import minicraft.core.Game;
+import minicraft.core.io.Settings;
+import minicraft.entity.Entity;
+import minicraft.entity.mob.Creeper;
+import minicraft.entity.mob.Mob;
+import minicraft.entity.mob.MobAi;
+import minicraft.entity.mob.Player;
+import minicraft.entity.mob.Skeleton;
+import minicraft.entity.mob.Slime;
+import minicraft.entity.mob.Zombie;
+import minicraft.level.Level;
+import minicraft.level.tile.Tiles;
+import minicraft.level.tile.TorchTile;
+import minicraft.network.MinicraftProtocol.InputType;
+import org.tinylog.Logger;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the bytes a client of the {@link MinicraftServer} gets per second, from a cave level
+ * full of mobs (at the mob cap), sending all the entities around the player every tick like before,
+ * and only what changed with a {@link Replicator}. The messages of the replicator go through a
+ * {@link Replica} like in a client, to check that it ends with the same entities and tiles.
+ * The mobs are all around the player first, and then spread over the level.
+ * Like {@link minicraft.level.LevelGenBenchmark}, this doesn't run the game.
+ */
+public class ReplicationBenchmark {
+
+	private static final int size = 128;
+	private static final int depth = -1;
+	private static final int radius = 16; // Like the server
+	private static final int ticks = 60 * 60;
+	private static final int mineInterval = 10; // A tile changes near the player this often, like mining
+
+	public static void main(String[] args) {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		Tiles.initialize();
+		Settings.set("diff", "Easy"); // 280 mobs in the caves
+
+		run(true);
+		run(false);
+	}
+
+	private static void run(boolean around) {
+		Random random = new Random(0x100);
+		Level level = new Level(size, size, depth, null, false); // All the same tile, so the mobs can walk anywhere
+		level.trackTileChanges();
+
+		RemotePlayer viewer = new RemotePlayer("Viewer");
+		level.add(viewer, size * 8, size * 8);
+
+		for (int i = 0; i < level.maxMobCount; i++) {
+			MobAi[] mobs = { new Zombie(1), new Skeleton(1), new Creeper(1), new Slime(1) };
+			int range = around ? radius * 16 : size * 8;
+			level.add(mobs[i % mobs.length], size * 8 + random.nextInt(range * 2) - range, size * 8 + random.nextInt(range * 2) - range);
+		}
+
+		Replicator replicator = new Replicator(radius);
+		Replica replica = new Replica();
+		replica.width = level.w;
+		replica.height = level.h;
+		replica.tiles = level.tiles.clone();
+		replica.data = level.data.clone();
+
+		ByteBuffer output = ByteBuffer.allocate(1 << 12);
+		long snapshotBytes = 0;
+		long deltaBytes = 0;
+		long inView = 0;
+
+		for (int tick = 0; tick < ticks; tick++) {
+			level.tick(true);
+			viewer.health = Player.maxHealth; // The mobs can't kill it
+
+			if (tick % 60 == 0) {
+				viewer.moveX = random.nextInt(3) - 1;
+				viewer.moveY = random.nextInt(3) - 1;
+			}
+			if (tick % mineInterval == 0) {
+				int x = (viewer.x >> 4) + random.nextInt(radius * 2 + 1) - radius;
+				int y = (viewer.y >> 4) + random.nextInt(radius * 2 + 1) - radius;
+				// Also torches, their ids don't fit in a byte
+				level.setTile(x, y, tick % (mineInterval * 2) == 0 ? Tiles.get("Dirt") : TorchTile.getTorchTile(Tiles.get("Dirt")));
+			}
+
+			// Like the ENTITIES message of before, with the same fields as ADD: eid, x, y, direction, health and hurt time
+			List<Entity> entities = level.getEntitiesInTiles(viewer.x >> 4, viewer.y >> 4, radius);
+			snapshotBytes += MinicraftCodec.HEADER_SIZE + 6 + entities.size() * 14;
+			inView += entities.size();
+
+			output.clear();
+			output = replicator.encode(output, viewer, tick, level.takeTileChanges());
+			deltaBytes += output.position();
+
+			output.flip();
+			while (output.hasRemaining()) {
+				int end = output.position() + MinicraftCodec.nextSize(output, MinicraftCodec.MAX_CONTENT_SIZE);
+				InputType type = MinicraftCodec.readType(output);
+				replica.apply(type, output);
+				output.position(end);
+			}
+		}
+
+		double seconds = ticks / 60.0;
+		Logger.info("{} mobs {}, {} entities in view on average: snapshots {} KB/s, deltas {} KB/s, same replica: {}",
+			level.mobCount, around ? "around the player" : "over the level", inView / ticks,
+			String.format("%.1f", snapshotBytes / 1024.0 / seconds), String.format("%.1f", deltaBytes / 1024.0 / seconds), matches(level, viewer, replica));
+	}
+
+	/** Checks that the replica has the entities in view, and the tiles around the player, like the level. */
+	private static boolean matches(Level level, RemotePlayer viewer, Replica replica) {
+		List<Entity> entities = level.getEntitiesInTiles(viewer.x >> 4, viewer.y >> 4, radius);
+		if (!entities.contains(viewer)) {
+			entities.add(viewer);
+		}
+		if (entities.size() != replica.entities.size()) {
+			return false;
+		}
+
+		for (Entity entity : entities) {
+			Replica.Entity replicated = replica.entities.get(entity.eid);
+			if (replicated == null || replicated.x != entity.x || replicated.y != entity.y) {
+				return false;
+			}
+			if (entity instanceof Mob) {
+				Mob mob = (Mob) entity;
+				if (replicated.dir != mob.dir.ordinal() || replicated.health != mob.health || replicated.hurtTime != mob.hurtTime) {
+					return false;
+				}
+			}
+		}
+
+		for (int y = Math.max((viewer.y >> 4) - radius, 0); y <= Math.min((viewer.y >> 4) + radius, level.h - 1); y++) {
+			for (int x = Math.max((viewer.x >> 4) - radius, 0); x <= Math.min((viewer.x >> 4) + radius, level.w - 1); x++) {
+				if (replica.tiles[x + y * level.w] != level.tiles[x + y * level.w] || replica.data[x + y * level.w] != level.data[x + y * level.w]) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
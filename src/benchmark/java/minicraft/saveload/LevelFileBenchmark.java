@@ -0,0 +1,112 @@
+package minicraft.saveload;
+
+import minicraft.core.Game;
+import minicraft.level.Level;
+import minicraft.level.tile.Tiles;
+import org.tinylog.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Measures how long saving and loading a generated surface level takes, and how big its files are,
+ * with the text files of before (the tile names in the .level file and the data in the .data file)
+ * and with a {@link LevelFile}. Also checks that both give back the same level.
+ * Like the level benchmarks, this doesn't run the game.
+ */
+public class LevelFileBenchmark {
+
+	private static final int size = 512;
+	private static final int runs = 5;
+
+	public static void main(String[] args) throws IOException {
+		// AirWizard needs this in constructor
+		Game.gameDir = "";
+
+		Tiles.initialize();
+
+		Level level = new Level(size, size, 0x100, 0, null, true);
+		for (int x = 0; x < size; x++) {
+			Arrays.fill(level.explored[x], 0, size / 2, true); // Like a world that has been walked half of
+		}
+
+		File folder = Files.createTempDirectory("LevelFileBenchmark").toFile();
+		String textFile = new File(folder, "Level3").getPath();
+		String binaryFile = new File(folder, "Level3" + Save.levelExtension).getPath();
+
+		for (int run = 0; run < runs; run++) { // The first ones warm up
+			long startTime = System.nanoTime();
+			writeText(level, textFile);
+			long textSaveTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			short[][] text = readText(textFile);
+			long textLoadTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			new LevelFile(level).write(binaryFile);
+			long binarySaveTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			LevelFile binary = LevelFile.read(binaryFile);
+			long binaryLoadTime = System.nanoTime() - startTime;
+
+			boolean sameLevel = Arrays.equals(text[0], level.tiles) && Arrays.equals(text[1], level.data)
+				&& Arrays.equals(binary.tiles, level.tiles) && Arrays.equals(binary.data, level.data) && Arrays.deepEquals(binary.explored, level.explored);
+
+			if (run == runs - 1) {
+				long textSize = new File(textFile + Save.worldExtension).length() + new File(textFile + Save.dataExtension).length();
+				Logger.info("Text: save {} ms, load {} ms, {} bytes. LevelFile: save {} ms, load {} ms, {} bytes. Same level: {}",
+					textSaveTime / 1000000, textLoadTime / 1000000, textSize,
+					binarySaveTime / 1000000, binaryLoadTime / 1000000, new File(binaryFile).length(), sameLevel);
+			}
+		}
+
+		for (File file : folder.listFiles()) {
+			file.delete();
+		}
+		folder.delete();
+	}
+
+	/** Like the levels were saved before, the text size doesn't count the .map file. */
+	private static void writeText(Level level, String filename) throws IOException {
+		String[] names = new String[4 + level.w * level.h];
+		String[] datas = new String[level.w * level.h];
+		names[0] = String.valueOf(level.w);
+		names[1] = String.valueOf(level.h);
+		names[2] = String.valueOf(level.getSeed());
+		names[3] = String.valueOf(level.depth);
+
+		for (int x = 0; x < level.w; x++) {
+			for (int y = 0; y < level.h; y++) {
+				names[4 + y + x * level.h] = level.getTile(x, y).name;
+				datas[y + x * level.h] = String.valueOf(level.getData(x, y));
+			}
+		}
+
+		Save.writeToFile(filename + Save.worldExtension, names, true);
+		Save.writeToFile(filename + Save.dataExtension, datas, true);
+	}
+
+	/** Like the levels were loaded before, gives the tiles and the data. */
+	private static short[][] readText(String filename) throws IOException {
+		String[] names = Load.loadFromFile(filename + Save.worldExtension, true).split(",");
+		String[] datas = Load.loadFromFile(filename + Save.dataExtension, true).split(",");
+
+		int w = Integer.parseInt(names[0]);
+		int h = Integer.parseInt(names[1]);
+		short[] tiles = new short[w * h];
+		short[] data = new short[w * h];
+
+		for (int x = 0; x < w; x++) {
+			for (int y = 0; y < h; y++) {
+				tiles[x + y * w] = Tiles.get(names[4 + y + x * h]).id;
+				data[x + y * w] = Short.parseShort(datas[y + x * h]);
+			}
+		}
+
+		return new short[][] { tiles, data };
+	}
+}
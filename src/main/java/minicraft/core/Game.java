@@ -4,7 +4,9 @@ import minicraft.core.io.*;
 import minicraft.entity.mob.Player;
 import minicraft.level.Level;
 import minicraft.level.tile.Tiles;
+import minicraft.network.MinicraftServer;
 import minicraft.saveload.Load;
+import minicraft.saveload.Save;
 import minicraft.saveload.Version;
 import minicraft.screen.Display;
 import minicraft.screen.TexturePackDisplay;
@@ -192,6 +194,21 @@ public class Game {
 		// Parses the command line arguments
 		Initializer.parseArgs(args);
 
+		// Runs a world for the clients, without a window
+		if (Initializer.isServer()) {
+			input = new InputHandler(); // Nothing types in it, the clients send their input
+
+			Settings.initialize();
+			World.resetGame();
+			new Load(true); // The preferences, like the world size
+
+			Tiles.initialize();
+
+			new MinicraftServer(Initializer.getServerPort(), Initializer.getServerWorld()).run();
+
+			System.exit(0);
+		}
+
 		// Initialize input handler
 		input = new InputHandler(Renderer.canvas);
 
@@ -229,6 +246,9 @@ public class Game {
 
 		Sound.shutdown();
 
+		// Don't exit in the middle of an autosave
+		Save.waitForAutosave();
+
 		// EXIT EVENTS
 		Logger.debug("Game main loop ended, terminating application ...");
 
@@ -5,6 +5,7 @@ import de.jcm.discordgamesdk.CreateParams;
 import de.jcm.discordgamesdk.GameSDKException;
 import de.jcm.discordgamesdk.activity.Activity;
 import minicraft.core.io.FileHandler;
+import minicraft.network.MinicraftProtocol;
 import org.tinylog.Logger;
 
 import javax.imageio.ImageIO;
@@ -40,6 +41,21 @@ public class Initializer extends Game {
 		return fra;
 	}
 
+	private static int serverPort = -1; // The port of the --server mode, -1 if the game runs normally
+	private static String serverWorld = "Server"; // The world the server loads, or makes
+
+	public static boolean isServer() {
+		return serverPort >= 0;
+	}
+
+	public static int getServerPort() {
+		return serverPort;
+	}
+
+	public static String getServerWorld() {
+		return serverWorld;
+	}
+
 	static void parseArgs(String[] args) {
 		boolean debug = false;
 		// Parses command line arguments
@@ -52,6 +68,18 @@ public class Initializer extends Game {
 				saveDir = args[i];
 			} else if (args[i].equals("--fullscreen")) {
 				Updater.FULLSCREEN = true;
+			} else if (args[i].equals("--levelticks") && i + 1 < args.length) {
+				i++;
+				LevelTicker.setRate(Integer.parseInt(args[i]));
+			} else if (args[i].equals("--server")) {
+				serverPort = MinicraftProtocol.PORT;
+				if (i + 1 < args.length && args[i + 1].matches("\\d+")) { // The port is optional
+					i++;
+					serverPort = Integer.parseInt(args[i]);
+				}
+			} else if (args[i].equals("--world") && i + 1 < args.length) {
+				i++;
+				serverWorld = args[i];
 			}
 		}
 
@@ -0,0 +1,177 @@
+package minicraft.core;
+
+import minicraft.level.Level;
+import org.tinylog.Logger;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the levels that the player isn't in running, at a lower rate than the current level,
+ * so the crops grow and the spawners work while the player is somewhere else. There's no player
+ * near the spawners of those levels, so they spawn as if there was one, up to the mob cap of the level.
+ *
+ * Every level is always ticked by the same worker thread, and its ticks are sent in batches
+ * every {@code BATCH_INTERVAL} game ticks, so the game thread only has to hand them out.
+ * The game thread must call {@link #waitForBatches()} before it touches the other levels.
+ */
+public class LevelTicker {
+	private LevelTicker() {}
+
+	private static final int BATCH_INTERVAL = 10; // In game ticks
+	private static final int MAX_BATCH = 20; // In level ticks, the rest is dropped when a level can't keep up
+
+	private static int rate = 20; // The level ticks per second of the other levels, 0 turns them off
+
+	private static ExecutorService[] workers;
+	private static final Future<?>[] batches = new Future<?>[Game.levels.length];
+	private static final int[] owedTicks = new int[Game.levels.length]; // Times normalSpeed, so the rate doesn't need to divide it
+	private static int batchTick;
+
+	// Metrics, written by the workers
+	private static final AtomicLongArray tickTimes = new AtomicLongArray(Game.levels.length); // Average, in nanoseconds
+	private static final AtomicLongArray tickCounts = new AtomicLongArray(Game.levels.length);
+	private static final long[] droppedTicks = new long[Game.levels.length];
+
+	private static final class TickerThread extends Thread {
+		TickerThread(Runnable runnable, int number) {
+			super(runnable, "Level Ticker " + number);
+			setDaemon(true);
+		}
+	}
+
+	/** Sets the level ticks per second of the levels that the player isn't in, 0 stops them. */
+	public static void setRate(int ticksPerSecond) {
+		rate = Math.max(0, Math.min(ticksPerSecond, Updater.normalSpeed));
+	}
+
+	public static int getRate() {
+		return rate;
+	}
+
+	/** Called every game tick from the game thread, sends the next batches when it's time. */
+	static void tick() {
+		if (rate == 0) {
+			return;
+		}
+
+		for (int i = 0; i < owedTicks.length; i++) {
+			owedTicks[i] += rate;
+		}
+
+		if (++batchTick < BATCH_INTERVAL) {
+			return;
+		}
+		batchTick = 0;
+
+		if (workers == null) {
+			startWorkers();
+		}
+
+		for (int i = 0; i < Game.levels.length; i++) {
+			Level level = Game.levels[i];
+			int ticks = owedTicks[i] / Updater.normalSpeed;
+
+			if (level == null || i == Game.currentLevel || ticks == 0) {
+				owedTicks[i] = 0; // The current level is already ticked
+				continue;
+			}
+
+			if (batches[i] != null && !batches[i].isDone()) {
+				continue; // Still working on the last one, the ticks wait for the next batch
+			}
+
+			owedTicks[i] -= ticks * Updater.normalSpeed;
+			if (ticks > MAX_BATCH) {
+				droppedTicks[i] += ticks - MAX_BATCH;
+				ticks = MAX_BATCH;
+			}
+
+			int levelIndex = i;
+			int batchTicks = ticks;
+			batches[i] = workers[i % workers.length].submit(() -> tickLevel(level, levelIndex, batchTicks));
+		}
+	}
+
+	private static void startWorkers() {
+		// One thread per level at most, and one core is left for the game thread
+		int count = Math.max(1, Math.min(Game.levels.length - 1, Runtime.getRuntime().availableProcessors() - 1));
+		Logger.debug("Starting {} level ticker threads ...", count);
+
+		workers = new ExecutorService[count];
+		for (int i = 0; i < count; i++) {
+			int number = i + 1;
+			workers[i] = Executors.newSingleThreadExecutor(runnable -> new TickerThread(runnable, number));
+		}
+	}
+
+	private static void tickLevel(Level level, int levelIndex, int ticks) {
+		long startTime = System.nanoTime();
+		level.tickInBackground(ticks);
+		long tickTime = (System.nanoTime() - startTime) / ticks;
+
+		long average = tickTimes.get(levelIndex);
+		tickTimes.set(levelIndex, average == 0 ? tickTime : (average * 7 + tickTime) / 8);
+		tickCounts.addAndGet(levelIndex, ticks);
+	}
+
+	/**
+	 * Blocks until the batches being ticked right now are done. No new batches are sent until the next
+	 * game tick, so after this the game thread can change the other levels, or save them.
+	 */
+	public static void waitForBatches() {
+		for (int i = 0; i < batches.length; i++) {
+			if (batches[i] == null) {
+				continue;
+			}
+
+			try {
+				batches[i].get();
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException exception) {
+				Logger.error("Failed to tick level {} in the background", World.indexToDepth[i]);
+				exception.getCause().printStackTrace();
+			}
+
+			batches[i] = null;
+		}
+	}
+
+	/** Forgets the ticks and metrics of the last world, called when the levels are replaced. */
+	static void reset() {
+		waitForBatches();
+
+		for (int i = 0; i < owedTicks.length; i++) {
+			owedTicks[i] = 0;
+			droppedTicks[i] = 0;
+			tickTimes.set(i, 0);
+			tickCounts.set(i, 0);
+		}
+		batchTick = 0;
+	}
+
+	/** @return If this is one of the threads that tick the other levels, where nothing that the player can hear or see should happen. */
+	public static boolean isTickerThread() {
+		return Thread.currentThread() instanceof TickerThread;
+	}
+
+	/** @return The average time that one tick of the level took in the background, in nanoseconds. */
+	public static long getTickTime(int levelIndex) {
+		return tickTimes.get(levelIndex);
+	}
+
+	/** @return How many times the level has been ticked in the background. */
+	public static long getTickCount(int levelIndex) {
+		return tickCounts.get(levelIndex);
+	}
+
+	/** @return How many ticks of the level were skipped because the batches were too slow. */
+	public static long getDroppedTicks(int levelIndex) {
+		return droppedTicks[levelIndex];
+	}
+}
@@ -7,6 +7,7 @@ import minicraft.entity.mob.AirWizard;
 import minicraft.entity.mob.EyeQueen;
 import minicraft.entity.mob.Keeper;
 import minicraft.entity.mob.Player;
+import minicraft.entity.particle.ParticleSystem;
 import minicraft.graphic.Color;
 import minicraft.graphic.*;
 import minicraft.graphic.Ellipsis.DotUpdater.TickUpdater;
@@ -18,6 +19,7 @@ import minicraft.item.PotionType;
 import minicraft.item.ToolItem;
 import minicraft.item.ToolType;
 import minicraft.level.Level;
+import minicraft.saveload.Save;
 import minicraft.screen.CreditsDisplay;
 import minicraft.screen.InfoDisplay;
 import minicraft.screen.LoadingDisplay;
@@ -279,6 +281,8 @@ public class Renderer extends Game {
 
         if (Updater.saving) {
             permStatus.add(Localization.getLocalized("Saving") + " " + Math.round(LoadingDisplay.getPercentage()) + "%");
+        } else if (Save.isAutosaving()) {
+            permStatus.add(Localization.getLocalized("Saving") + " " + Save.getAutosaveProgress() + "%");
         }
 
         if (Bed.sleeping()) {
@@ -560,6 +564,10 @@ public class Renderer extends Game {
 
                 info.add("Current level: " + levelName);
                 info.add("Mobs Count: " + levels[currentLevel].mobCount + "/" + levels[currentLevel].maxMobCount);
+                info.add("Mobs: " + levels[currentLevel].getEnemyMobCount() + " enemy, " + levels[currentLevel].getPassiveMobCount() + " passive, " + levels[currentLevel].getVillagerCount() + " villagers, " + levels[currentLevel].getEvictedMobCount() + " removed by cap");
+                info.add("Particles: " + levels[currentLevel].getParticleCount() + "/" + ParticleSystem.CAPACITY + ", " + levels[currentLevel].getDroppedParticleCount() + " dropped");
+                info.add("Items: " + levels[currentLevel].getItemEntityCount() + " on the ground, " + levels[currentLevel].getMergedItemCount() + " merged, " + levels[currentLevel].getEvictedItemCount() + " removed by cap");
+                info.add("Tile ticks: " + levels[currentLevel].getTickedTileCount() + " tiles, " + String.format("%.2f", levels[currentLevel].getTileTickTime() / 1000000.0) + " ms");
 
                 /// Displays number of chests left, if on dungeon level.
                 if (currentLevel == 6) {
@@ -581,6 +589,15 @@ public class Renderer extends Game {
                 info.add("Moon phase: " + player.isNiceNight + " -> " + player.nightCount + "/4");
             }
 
+            // the other levels, ticking in the background
+            subinfo.add("");
+            subinfo.add("Other levels: " + LevelTicker.getRate() + " tps");
+            for (int i = 0; i < levels.length; i++) {
+                if (levels[i] != null && i != currentLevel) {
+                    subinfo.add("Depth " + levels[i].depth + ": " + String.format("%.2f", LevelTicker.getTickTime(i) / 1000000.0) + " ms" + (LevelTicker.getDroppedTicks(i) > 0 ? " (" + LevelTicker.getDroppedTicks(i) + " lost)" : ""));
+                }
+            }
+
             FontStyle style = new FontStyle(Color.WHITE).setShadowType(Color.BLACK, true).setXPos(1).setYPos(1);
             FontStyle substyle = new FontStyle(Color.WHITE).setShadowType(Color.BLACK, true).setXPos(Screen.w - 121).setYPos(1);
 
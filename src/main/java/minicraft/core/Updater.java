@@ -58,6 +58,8 @@ public class Updater extends Game {
 		Evening(dayLength / 2),
 		Night(dayLength / 4 * 3);
 
+		public static final Time[] values = Time.values(); // values() makes a new array every call
+
 		public final int tickTime;
 
 		Time(int ticks) {
@@ -140,12 +142,18 @@ public class Updater extends Game {
 
 		if (asTick > astime) {
 			if (Settings.getBoolean("autosave") && !gameOver && player.health > 0) {
-				new Save(WorldSelectDisplay.getWorldName());
+				Save.autosave(WorldSelectDisplay.getWorldName());
 			}
 
 			asTick = 0;
 		}
 
+		// the autosave is written in another thread, notify it here
+		if (Save.checkAutosaveFinished()) {
+			WorldSelectDisplay.updateWorlds();
+			notifyAll("World Saved!");
+		}
+
 		// Increment tickCount if the game is not paused
 		if (!paused) {
 			setTime(tickCount + 1);
@@ -207,6 +215,8 @@ public class Updater extends Game {
 					Tile.tickCount++;
 				}
 
+				LevelTicker.tick(); // The other levels, in the background
+
 				if (input.getKey("F3").clicked) { // shows debug info in upper-left
 					Renderer.showDebugInfo = !Renderer.showDebugInfo;
 				}
@@ -265,10 +275,10 @@ public class Updater extends Game {
 					if (input.getKey("minus").clicked && player.moveSpeed > 1) player.moveSpeed--; // -= 0.5D;
 
 					if (input.getKey("shift-u").clicked) {
-						levels[currentLevel].setTile(player.x >> 4, player.y >> 4, Tiles.get("Stairs Up"));
+						levels[currentLevel].setTile(player.x >> 4, player.y >> 4, Tiles.STAIRS_UP);
 					}
 					if (input.getKey("shift-d").clicked) {
-						levels[currentLevel].setTile(player.x >> 4, player.y >> 4, Tiles.get("Stairs Down"));
+						levels[currentLevel].setTile(player.x >> 4, player.y >> 4, Tiles.STAIRS_DOWN);
 					}
 
 				} // end debug only cond.
@@ -278,6 +288,23 @@ public class Updater extends Game {
 		} // end hasfocus conditional
 	} // end tick()
 
+	/**
+	 * The tick of the --server mode, see {@link minicraft.network.MinicraftServer}. There's no display,
+	 * input or host player, so only the time passes, and the levels are ticked. Like before the server
+	 * was removed, only the levels with players are fully ticked.
+	 */
+	public static void tickServer() {
+		setTime(tickCount + 1);
+		gameTime++;
+
+		for (Level level : levels) {
+			if (level != null) {
+				level.tick(level.getPlayers().length > 0);
+			}
+		}
+		Tile.tickCount++;
+	}
+
 	/// this is the proper way to change the tickCount.
 	public static void setTime(int ticks) {
 		if (ticks < Time.Morning.tickTime) ticks = 0; // error correct
@@ -309,8 +336,7 @@ public class Updater extends Game {
 	}
 
 	public static Time getTime() {
-		Time[] times = Time.values();
-		return times[time];
+		return Time.values[time];
 	}
 
 	/** This adds a notification to all player games. */
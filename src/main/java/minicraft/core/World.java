@@ -4,13 +4,18 @@ import minicraft.core.io.Settings;
 import minicraft.entity.furniture.Bed;
 import minicraft.entity.mob.Player;
 import minicraft.level.Level;
+import minicraft.level.LevelGen;
 import minicraft.saveload.Load;
 import minicraft.screen.*;
 import minicraft.util.Action;
 import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class World extends Game {
 	private World() {}
@@ -71,6 +76,7 @@ public class World extends Game {
 
 	public static void resetGame(boolean keepPlayer) {
 		Logger.debug("Resetting player game info ...");
+		LevelTicker.reset();
 		playerDeadTime = 0;
 		currentLevel = 3;
 		Updater.asTick = 0;
@@ -124,6 +130,16 @@ public class World extends Game {
             seed = WorldGenDisplay.getSeed().orElse(new Random().nextLong());
 			random = new Random(seed);
 
+			// The maps of the levels only depend on their seeds, so they are all generated at the same time
+			List<Long> levelSeeds = new ArrayList<>();
+			List<ForkJoinTask<short[][]>> levelMaps = new ArrayList<>();
+			for (int i = maxLevelDepth; i >= minLevelDepth; i--) {
+				int depth = i;
+				long levelSeed = random.nextLong();
+				levelSeeds.add(levelSeed);
+				levelMaps.add(ForkJoinPool.commonPool().submit(() -> LevelGen.createAndValidateMap(worldSize, worldSize, depth, levelSeed)));
+			}
+
 			float loadingIncrement = 100f / (maxLevelDepth - minLevelDepth + 1); // The .002 is for floating point errors, in case they occur.
 			for (int i = maxLevelDepth; i >= minLevelDepth; i--) {
 				// i = level depth; the array starts from the top because the parent level is used as a reference, so it should be constructed first. It is expected that the highest level will have a null parent.
@@ -131,10 +147,12 @@ public class World extends Game {
 				Logger.trace("Loading level {} ..." , i);
 
 				LoadingDisplay.setProgressType(Level.getDepthString(i));
+				long levelSeed = levelSeeds.get(maxLevelDepth - i);
+				short[][] levelMap = levelMaps.get(maxLevelDepth - i).join();
 				if (i > 0) {
-					levels[levelIndex(i)] = new Level(worldSize, worldSize, random.nextLong(), i, null, !WorldSelectDisplay.hasLoadedWorld());
+					levels[levelIndex(i)] = new Level(worldSize, worldSize, levelSeed, i, null, levelMap);
 				} else {
-					levels[levelIndex(i)] = new Level(worldSize, worldSize, random.nextLong(), i, levels[levelIndex(i + 1)], !WorldSelectDisplay.hasLoadedWorld());
+					levels[levelIndex(i)] = new Level(worldSize, worldSize, levelSeed, i, levels[levelIndex(i + 1)], levelMap);
 				}
 
 				LoadingDisplay.progress(loadingIncrement);
@@ -176,12 +194,15 @@ public class World extends Game {
 	 * For example, 'changeLevel(1)' will make you go up a level,
 	 while 'changeLevel(-1)' will make you go down a level. */
 	public static void changeLevel(int dir) {
+		LevelTicker.waitForBatches(); // The next level could be ticking in the background
+
 		if (onChangeAction != null) {
 			onChangeAction.act();
 			onChangeAction = null;
 		}
 
 		levels[currentLevel].remove(player); // Removes the player from the current level.
+		levels[currentLevel].clearRenderCache(); // It won't be rendered until the player comes back
 
 		int nextLevel = currentLevel + dir;
 		if (nextLevel <= -1) nextLevel = levels.length-1; // Fix accidental level underflow
@@ -6,6 +6,7 @@ import com.jogamp.openal.ALException;
 import com.jogamp.openal.ALFactory;
 import com.jogamp.openal.util.ALut;
 import minicraft.core.Game;
+import minicraft.core.LevelTicker;
 import minicraft.entity.mob.Player;
 import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
@@ -19,14 +20,18 @@ import java.util.Objects;
 public class Sound {
     private static final HashMap<String, Sound> sounds = new HashMap<>();
 
-	static AL al = ALFactory.getAL();
-	static ALC alc = ALFactory.getALC();
+	// Made by initialize(), which the --server mode never calls, so it doesn't load OpenAL (without it there are no sounds to play)
+	static AL al;
+	static ALC alc;
 
 	private final int source;
 
     public static void initialize() {
     	Logger.debug("Initializing sound engine ...");
 
+    	al = ALFactory.getAL();
+    	alc = ALFactory.getALC();
+
         while (true) {
             try {
                 ALut.alutInit();
@@ -115,6 +120,10 @@ public class Sound {
     }
 
 	public static void shutdown() {
+		if (al == null) {
+			return; // Never initialized
+		}
+
 		Logger.info("Shutting down sound engine ...");
 		ALut.alutExit();
 		sounds.clear();
@@ -184,7 +193,8 @@ public class Sound {
 	}
 
 	private void playAt(int x, int y, boolean async) {
-	    if (!Settings.getBoolean("sound")) {
+	    // The levels ticking in the background can't be heard
+	    if (!Settings.getBoolean("sound") || LevelTicker.isTickerThread()) {
 	        return;
 	    }
 
@@ -214,7 +224,7 @@ public class Sound {
 	}
 
     private void play() {
-        if (!Settings.getBoolean("sound")) {
+        if (!Settings.getBoolean("sound") || LevelTicker.isTickerThread()) {
             return;
         }
 
@@ -222,7 +232,7 @@ public class Sound {
     }
 
     private void loop(boolean start) {
-        if (!Settings.getBoolean("sound")) {
+        if (!Settings.getBoolean("sound") || LevelTicker.isTickerThread()) {
             return;
         }
 
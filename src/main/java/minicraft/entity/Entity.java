@@ -252,6 +252,7 @@ public abstract class Entity implements Tickable {
         // Finally, the entity moves!
         x += xd;
         y += yd;
+        level.entityMoved(this);
 
         return true; // the move was successful.
     }
@@ -7,6 +7,8 @@ import minicraft.graphic.Color;
 import minicraft.graphic.Screen;
 import minicraft.item.Item;
 import minicraft.item.Items;
+import minicraft.item.StackableItem;
+import minicraft.item.UnknownItem;
 import minicraft.level.tile.LavaTile;
 
 import java.util.List;
@@ -15,7 +17,7 @@ public class ItemEntity extends Entity implements ClientTickable {
 	private int lifeTime; // the life time of this entity in the level
 	private double xa, ya, za; // the x, y, and z accelerations.
 	private double xx, yy, zz; // the x, y, and z coordinates; in double precision.
-	public final Item item; // the item that this entity is based off of.
+	public Item item; // the item that this entity is based off of, a bigger stack when another one is merged in.
 	private int time = 0; // time it has lasted in the level
 
 	// solely for multiplayer use.
@@ -86,7 +88,7 @@ public class ItemEntity extends Entity implements ClientTickable {
 	@Override
 	public void tick() {
 		time++;
-		if (time >= lifeTime && !item.equals(Items.get("Grimoire"))) { // if the time is larger or equal to lifeTime then...
+		if (time >= lifeTime && !isPermanent()) { // if the time is larger or equal to lifeTime then...
 			remove(); // remove from the world
 			return; // skip the rest of the code
 		}
@@ -129,7 +131,7 @@ public class ItemEntity extends Entity implements ClientTickable {
 		yy += goty - expectedy;
 
 		// If some item touch lava, is burned
-		if (level.getTile(x >> 4,y >> 4) instanceof LavaTile && !item.equals(Items.get("Grimoire"))) {
+		if (level.getTile(x >> 4,y >> 4) instanceof LavaTile && !isPermanent()) {
 			for (int i = 0; i < 1 + random.nextInt(2); i++) {
 				int randX = random.nextInt(16);
 				int randY = random.nextInt(12);
@@ -142,7 +144,7 @@ public class ItemEntity extends Entity implements ClientTickable {
 			}
 		}
 
-		if (item.equals(Items.get("Grimoire")) && time % 20 == 0) {
+		if (isPermanent() && time % 20 == 0) {
 			for (int i = 0; i < 1 + random.nextInt(2); i++) {
 				level.add(new FireParticle(x - 8 + random.nextInt(8), y - 12 + random.nextInt(12)));
 			}
@@ -154,6 +156,42 @@ public class ItemEntity extends Entity implements ClientTickable {
 		return false; // mobs cannot block this
 	}
 
+	/** Whether this item stays in the level forever, like the grimoire. */
+	public boolean isPermanent() {
+		return item.equals(Items.getPrototype("Grimoire"));
+	}
+
+	/** Whether this item can be merged with the same items, the unknown items are not (they don't keep their count). */
+	public boolean isStackable() {
+		return item instanceof StackableItem && !(item instanceof UnknownItem);
+	}
+
+	/**
+	 * Merges the other item into this one if they stack, the other one is removed.
+	 * This one lasts as long as the one of the two that had more time left.
+	 *
+	 * @param other The item to merge into this one.
+	 * @return If the items were merged.
+	 */
+	public boolean absorb(ItemEntity other) {
+		if (other == this || other.isRemoved() || isRemoved() || !isStackable() || !((StackableItem) item).stacksWith(other.item)) {
+			return false;
+		}
+
+		// The item might be shared with other entities, so the new stack is a copy
+		StackableItem stack = ((StackableItem) item).clone();
+		stack.count += ((StackableItem) other.item).count;
+		item = stack;
+
+		if (other.lifeTime - other.time > lifeTime - time) {
+			lifeTime = other.lifeTime;
+			time = other.time;
+		}
+
+		other.remove();
+		return true;
+	}
+
 	@Override
 	public void render(Screen screen) {
 		int xo = 0;
@@ -165,7 +203,7 @@ public class ItemEntity extends Entity implements ClientTickable {
 		}
 
 		/* This first part is for the blinking effect */
-		if (time >= lifeTime - 6 * 20 && !item.equals(Items.get("Grimoire"))) {
+		if (time >= lifeTime - 6 * 20 && !isPermanent()) {
 			if (time / 6 % 2 == 0) return;
 		}
 
@@ -208,14 +246,14 @@ public class ItemEntity extends Entity implements ClientTickable {
 	@Override
 	public int getLightRadius() {
 	    return (
-	    	this.item.equals(Items.get("Torch")) ||
-	    	this.item.equals(Items.get("Lava Bucket")) ||
-	    	this.item.equals(Items.get("Lantern")) ||
-	    	this.item.equals(Items.get("Iron Lantern")) ||
-	    	this.item.equals(Items.get("Gold Lantern")) ||
-	    	this.item.equals(Items.get("Summon Altar"))
+	    	this.item.equals(Items.getPrototype("Torch")) ||
+	    	this.item.equals(Items.getPrototype("Lava Bucket")) ||
+	    	this.item.equals(Items.getPrototype("Lantern")) ||
+	    	this.item.equals(Items.getPrototype("Iron Lantern")) ||
+	    	this.item.equals(Items.getPrototype("Gold Lantern")) ||
+	    	this.item.equals(Items.getPrototype("Summon Altar"))
 	    ) ? 1:
-	    	this.item.equals(Items.get("Grimoire")) ? 2 : 0;
+	    	this.item.equals(Items.getPrototype("Grimoire")) ? 2 : 0;
 	}
 
 }
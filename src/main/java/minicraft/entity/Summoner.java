@@ -137,7 +137,7 @@ public class Summoner extends Entity {
                 // Use the pre-calculated spawnTime rather than checking every tick.
                 if (!spawned && time > spawnTime) {
                     // Get all entities in a large area around the summoner.
-                    List<Entity> entitiesInRange = Game.levels[Game.currentLevel].getEntitiesInRect(new Rectangle(x, y, 360 << 1, 360 << 1, Rectangle.CENTER_DIMS));
+                    List<Entity> entitiesInRange = level.getEntitiesInRect(new Rectangle(x, y, 360 << 1, 360 << 1, Rectangle.CENTER_DIMS));
 
                     // Do not spawn if certain boss entities are already present.
                     for (Entity entity : entitiesInRange) {
@@ -146,15 +146,13 @@ public class Summoner extends Entity {
                         }
                     }
 
-                    try {
-                        // Create a new mob instance to be summoned.
-                        MobAi newmob = amuletItem.getSummonMob().getClass().getConstructor(int.class).newInstance(1);
-                        level.add(newmob, x, y);
-                    } catch (Exception exception) {
-                        Logger.error("Could not spawn mob, error initializing mob instance:");
-                        exception.printStackTrace();
+                    // Create a new mob instance to be summoned.
+                    Mobs.Factory factory = Mobs.getFactory(amuletItem.getSummonMob());
+                    if (factory == null) {
+                        Logger.error("Could not spawn mob, {} can't be made", amuletItem.getSummonMob());
                         return;
                     }
+                    level.add(factory.create(1), x, y);
 
                     // Mark that the mob has been spawned to avoid duplicate spawns.
                     spawned = true;
@@ -1,23 +1,21 @@
 package minicraft.entity.furniture;
 
 import minicraft.core.Game;
+import minicraft.core.LevelTicker;
 import minicraft.core.Updater;
 import minicraft.core.io.Settings;
 import minicraft.core.io.Sound;
 import minicraft.entity.Direction;
 import minicraft.entity.mob.EnemyMob;
 import minicraft.entity.mob.MobAi;
+import minicraft.entity.mob.Mobs;
 import minicraft.entity.mob.Player;
 import minicraft.entity.particle.FireParticle;
 import minicraft.entity.particle.TextParticle;
 import minicraft.graphic.Color;
-import minicraft.graphic.Point;
 import minicraft.graphic.Sprite;
 import minicraft.item.*;
 import minicraft.level.tile.Tile;
-import org.tinylog.Logger;
-
-import java.util.ArrayList;
 
 public class Spawner extends Furniture {
 
@@ -29,6 +27,7 @@ public class Spawner extends Furniture {
 	private static final int minMobSpawnChance = 10; // 1 in minMobSpawnChance chance of calling trySpawn every interval.
 
 	public MobAi mob;
+	private Mobs.Factory factory; // Makes the mobs like the one above
 	private int health;
 	private int lvl;
 	private int maxMobLevel;
@@ -42,6 +41,7 @@ public class Spawner extends Furniture {
 	 */
 	private void initMob(MobAi m) {
 		mob = m;
+		factory = Mobs.getFactory(m);
 		sprite.color = color = mob.color;
 
 		if (m instanceof EnemyMob) {
@@ -132,49 +132,50 @@ public class Spawner extends Furniture {
 	        }
 	    }
 
-	    Player player = getClosestPlayer();
-	    if (player == null) {
-	        return;
-	    }
+	    // There are no players in the levels ticked in the background, so there the spawner works as if one was near
+	    if (!LevelTicker.isTickerThread()) {
+	        Player player = getClosestPlayer();
+	        if (player == null) {
+	            return;
+	        }
 
-	    int xd = player.x - x;
-	    int yd = player.y - y;
+	        int xd = player.x - x;
+	        int yd = player.y - y;
 
-	    if (xd * xd + yd * yd > ACTIVE_RADIUS * ACTIVE_RADIUS) {
-	        return;
+	        if (xd * xd + yd * yd > ACTIVE_RADIUS * ACTIVE_RADIUS) {
+	            return;
+	        }
 	    }
 
-	    MobAi newmob;
-	    try {
-	        if (mob instanceof EnemyMob) {
-	            newmob = mob.getClass().getConstructor(int.class).newInstance(lvl);
-	        } else {
-	            newmob = mob.getClass().getDeclaredConstructor().newInstance();
-	        }
-	    } catch (Exception exception) {
-	        Logger.error("Could not spawn mob, error initializing mob instance:");
-	        exception.printStackTrace();
-	        return;
+	    if (factory == null) {
+	        return; // this kind of mob can't be made again
 	    }
 
-	    Point position = new Point(x >> 4, y >> 4);
-	    Point[] areaPositions = level.getAreaTilePositions(position.x, position.y, 1);
-	    ArrayList<Point> validPositions = new ArrayList<>();
-	    for (Point point : areaPositions) {
-	        Tile tile = level.getTile(point.x, point.y);
-	        if (!(!tile.mayPass(level, point.x, point.y, newmob) || mob instanceof EnemyMob && tile.getLightRadius(level, point.x, point.y) > 0)) {
-	            validPositions.add(point);
+	    // picks one of the free tiles around, the mob is only made once there's one
+	    int xt = x >> 4;
+	    int yt = y >> 4;
+	    int spawnX = -1;
+	    int spawnY = -1;
+	    int validPositions = 0;
+	    for (int yp = Math.max(yt - 1, 0); yp <= Math.min(yt + 1, level.h - 1); yp++) {
+	        for (int xp = Math.max(xt - 1, 0); xp <= Math.min(xt + 1, level.w - 1); xp++) {
+	            Tile tile = level.getTile(xp, yp);
+	            if (tile.mayPass(level, xp, yp, mob) && !(mob instanceof EnemyMob && tile.getLightRadius(level, xp, yp) > 0)) {
+	                if (random.nextInt(++validPositions) == 0) {
+	                    spawnX = xp;
+	                    spawnY = yp;
+	                }
+	            }
 	        }
 	    }
 
-	    if (validPositions.isEmpty()) {
+	    if (validPositions == 0) {
 	        return; // cannot spawn mob.
 	    }
 
-	    Point spawnPos = validPositions.get(random.nextInt(validPositions.size()));
-
-	    newmob.x = spawnPos.x << 4;
-	    newmob.y = spawnPos.y << 4;
+	    MobAi newmob = factory.create(lvl);
+	    newmob.x = spawnX << 4;
+	    newmob.y = spawnY << 4;
 
 	    if (Game.debug) level.printLevelLoc("Spawning new " + mob, (newmob.x >> 4), (newmob.y >> 4), "...");
 
@@ -256,11 +257,8 @@ public class Spawner extends Furniture {
     		if (lvl > maxMobLevel) {
     			lvl = 1;
     		}
-    		try {
-    			EnemyMob newmob = (EnemyMob) mob.getClass().getConstructor(int.class).newInstance(lvl);
-    			initMob(newmob);
-    		} catch (Exception exception) {
-    			exception.printStackTrace();
+    		if (factory != null) {
+    			initMob(factory.create(lvl));
     		}
     		return true;
     	}
@@ -135,9 +135,9 @@ public class Tnt extends Furniture implements ActionListener {
 		int yt = (y - 2) >> 4;
 
 		if (levelSave.depth != 1 && levelSave.depth != 2) {
-			levelSave.setAreaTiles(xt, yt, 1, Tiles.get("Hole"), 0, explosionBlacklist);
+			levelSave.setAreaTiles(xt, yt, 1, Tiles.HOLE, 0, explosionBlacklist);
 		} else {
-			levelSave.setAreaTiles(xt, yt, 1, Tiles.get("Ferrosite"), 0, explosionBlacklist);
+			levelSave.setAreaTiles(xt, yt, 1, Tiles.FERROSITE, 0, explosionBlacklist);
 		}
 
 		levelSave = null;
@@ -129,9 +129,9 @@ public class Creeper extends EnemyMob {
 					}
 					if (!hasSpawner) {
 						if (level.depth != 1) {
-							level.setAreaTiles(this.x >> 4, this.y >> 4, this.lvl - 1, Tiles.get("Hole"), 0, explosionBlacklist);
+							level.setAreaTiles(this.x >> 4, this.y >> 4, this.lvl - 1, Tiles.HOLE, 0, explosionBlacklist);
 						} else {
-							level.setAreaTiles(tilePosition.x, tilePosition.y, 0, Tiles.get("Infinite Fall"), 0, explosionBlacklist);
+							level.setAreaTiles(tilePosition.x, tilePosition.y, 0, Tiles.INFINITE_FALL, 0, explosionBlacklist);
 						}
 
 					}
@@ -88,11 +88,11 @@ public class DefenderMob extends MobAi {
         }
 
         Tile tile = level.getTile(x >> 4, y >> 4);
-        if (tile != Tiles.get("Oak Planks") && tile != Tiles.get("Path")) {
+        if (tile != Tiles.OAK_PLANKS && tile != Tiles.PATH) {
             return false;
-        } else if (tile != Tiles.get("Grass") && tile != Tiles.get("Sand") && tile != Tiles.get("Snow")
-                && tile != Tiles.get("Birch tree") && tile != Tiles.get("Oak tree")
-                && tile != Tiles.get("Water") && tile != Tiles.get("Wheat") && tile != Tiles.get("Farmland")) {
+        } else if (tile != Tiles.GRASS && tile != Tiles.SAND && tile != Tiles.SNOW
+                && tile != Tiles.BIRCH_TREE && tile != Tiles.OAK_TREE
+                && tile != Tiles.WATER && tile != Tiles.get("Wheat") && tile != Tiles.FARMLAND) {
             return true;
         } else {
             return false;
@@ -25,7 +25,7 @@ public class Firefly extends FlyMob {
 		Tile tile = level.getTile(x >> 4, y >> 4);
 
 		if (Updater.getTime() == Time.Night) {
-			if (tickTime % 100 == 0 && (tile.id == Tiles.get("Oak tree").id || tile.id == Tiles.get("Birch tree").id)) {
+			if (tickTime % 100 == 0 && (tile.id == Tiles.OAK_TREE.id || tile.id == Tiles.BIRCH_TREE.id)) {
 				remove();
 				return;
 			}
@@ -41,7 +41,7 @@ public class Firefly extends FlyMob {
 			if (randomWalkTime != 0) {
 				waitTime = 20 + random.nextInt(60);
 			}
-			if (waitTime == 0 || tile.id != Tiles.get("Oak tree").id || tile.id != Tiles.get("Birch tree").id) {
+			if (waitTime == 0 || tile.id != Tiles.OAK_TREE.id || tile.id != Tiles.BIRCH_TREE.id) {
 				randomWalkTime = 20;
 				xa = (random.nextInt(3) - 1) * random.nextInt(2);
 				ya = (random.nextInt(3) - 1) * random.nextInt(2);
@@ -61,7 +61,7 @@ public class FlyMob extends MobAi {
 		}
 		
 		Tile tile = level.getTile(x >> 4, y >> 4);
-		return tile == Tiles.get("Oak tree") || tile == Tiles.get("Birch tree") || tile == Tiles.get("Rock") || tile == Tiles.get("Up Rock") || tile == Tiles.get("Lawn") || tile == Tiles.get("Grass");
+		return tile == Tiles.OAK_TREE || tile == Tiles.BIRCH_TREE || tile == Tiles.ROCK || tile == Tiles.UP_ROCK || tile == Tiles.LAWN || tile == Tiles.GRASS;
 		
 	}
 	
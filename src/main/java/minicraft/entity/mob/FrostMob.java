@@ -99,7 +99,7 @@ public class FrostMob extends MobAi {
         }
 
         Tile tile = level.getTile(x >> 4, y >> 4);
-        return tile == Tiles.get("Snow");
+        return tile == Tiles.SNOW;
 
     }
 
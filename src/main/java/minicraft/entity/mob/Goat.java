@@ -26,10 +26,10 @@ public class Goat extends FrostMob {
 		
 		if ((tickTime % (random.nextInt(100) + 120) == 0)) {
 	        Tile tile = level.getTile(x >> 4, y >> 4);
-	        if (tile == Tiles.get("Grass") || tile == Tiles.get("Sand") 
-	        	|| tile == Tiles.get("Lawn") || tile == Tiles.get("Rose") 
-	        	|| tile == Tiles.get("Daisy") || tile == Tiles.get("Dandelion") 
-	        	|| tile == Tiles.get("Poppy")) {
+	        if (tile == Tiles.GRASS || tile == Tiles.SAND 
+	        	|| tile == Tiles.LAWN || tile == Tiles.ROSE 
+	        	|| tile == Tiles.DAISY || tile == Tiles.DANDELION 
+	        	|| tile == Tiles.POPPY) {
 	            remove();
 	            level.add(new Sheep(), x, y);
 	        }
@@ -23,7 +23,7 @@ public class GuiMan extends FrostMob {
 	    followOnHold(Items.get("Raw Fish"), 2);
 	    
         Tile tile = level.getTile(x >> 4, y >> 4);
-        if (tile == Tiles.get("Grass") || tile == Tiles.get("Sand")) {
+        if (tile == Tiles.GRASS || tile == Tiles.SAND) {
             remove();
         }
     }
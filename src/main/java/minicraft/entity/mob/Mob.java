@@ -70,7 +70,7 @@ public abstract class Mob extends Entity {
         }
 
         if (level != null && level.getTile(x >> 4, y >> 4) instanceof LavaTile) { // If we are trying to swim in lava
-            hurt(Tiles.get("Lava"), x, y, 4); // Inflict 4 damage to ourselves, sourced from the lava Tile, with the direction as the opposite of ours.
+            hurt(Tiles.LAVA, x, y, 4); // Inflict 4 damage to ourselves, sourced from the lava Tile, with the direction as the opposite of ours.
         }
 
         if (health <= 0) {
@@ -174,7 +174,7 @@ public abstract class Mob extends Entity {
     public void hurt(Tile tile, int x, int y, int damage) { // Hurt the mob, when the source of damage is a tile
     	// Set attackDir to our own direction, inverted. XORing it with 1 flips the rightmost bit in the variable, this effectively adds one when even, and subtracts one when odd.
         Direction attackDir = Direction.getDirection(dir.getDir() ^ 1);
-        if (tile != Tiles.get("Lava")) {
+        if (tile != Tiles.LAVA) {
         	if (!(this instanceof Player && (((Player) this).potionEffects.containsKey(PotionType.Lava) || ((Player) this).potionEffects.containsKey(PotionType.xLava)))) {
 	        	// Call the method that actually performs damage, and set it to no particular direction
 	            doHurt(damage, tile.mayPass(level, x, y, this) ? Direction.NONE : attackDir);
@@ -0,0 +1,104 @@
+package minicraft.entity.mob;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * All the mobs that can be made without a player, by id, by name (the class name, like in the
+ * saves) and by class. Each one has a {@link Factory}, so the spawns and the loads make them
+ * with a plain constructor call instead of looking it up by reflection each time.
+ */
+public final class Mobs {
+	private Mobs() {}
+
+	/** Makes a new mob, the mobs that have no levels ignore the level. */
+	@FunctionalInterface
+	public interface Factory {
+		MobAi create(int lvl);
+	}
+
+	private static final Factory[] factories = new Factory[64]; // Indexed by id
+	private static final String[] names = new String[64];
+	private static final boolean[] enemies = new boolean[64]; // The ones that are an EnemyMob, saved with their level
+	private static final Map<String, Integer> ids = new HashMap<>();
+	private static final Map<Class<? extends MobAi>, Integer> classIds = new HashMap<>();
+
+	static {
+		// Passive mobs
+		add(0, Cow.class, lvl -> new Cow());
+		add(1, Pig.class, lvl -> new Pig());
+		add(2, Sheep.class, lvl -> new Sheep());
+		add(3, Chicken.class, lvl -> new Chicken());
+		add(4, Goat.class, lvl -> new Goat());
+		add(5, Cat.class, lvl -> new Cat());
+		add(6, GuiMan.class, lvl -> new GuiMan());
+		add(7, Phyg.class, lvl -> new Phyg());
+		add(8, Sheepuff.class, lvl -> new Sheepuff());
+		add(9, Firefly.class, lvl -> new Firefly());
+		add(10, Golem.class, lvl -> new Golem());
+		add(11, Cleric.class, lvl -> new Cleric());
+		add(12, Librarian.class, lvl -> new Librarian());
+
+		// Enemy mobs
+		add(32, Zombie.class, Zombie::new);
+		add(33, Skeleton.class, Skeleton::new);
+		add(34, Creeper.class, Creeper::new);
+		add(35, Slime.class, Slime::new);
+		add(36, Knight.class, Knight::new);
+		add(37, Snake.class, Snake::new);
+		add(38, OldGolem.class, OldGolem::new);
+		add(39, Giant.class, Giant::new);
+		add(40, SlimyWizard.class, SlimyWizard::new);
+
+		// Bosses
+		add(48, AirWizard.class, AirWizard::new);
+		add(49, EyeQueen.class, EyeQueen::new);
+		add(50, Keeper.class, Keeper::new);
+	}
+
+	private static void add(int id, Class<? extends MobAi> mobClass, Factory factory) {
+		factories[id] = factory;
+		names[id] = mobClass.getSimpleName();
+		enemies[id] = EnemyMob.class.isAssignableFrom(mobClass);
+		ids.put(names[id], id);
+		classIds.put(mobClass, id);
+	}
+
+	/** Gets the id of a mob by its name, or -1 if there's no mob with that name. */
+	public static int getId(String name) {
+		Integer id = ids.get(name);
+		return id == null ? -1 : id;
+	}
+
+	/** Gets the id of a kind of mob, or -1 if it can't be made here (like the player). */
+	public static int getId(Class<? extends MobAi> mobClass) {
+		Integer id = classIds.get(mobClass);
+		return id == null ? -1 : id;
+	}
+
+	public static String getName(int id) {
+		return names[id];
+	}
+
+	/** Whether the mob with that name is an {@link EnemyMob}, false if there's no mob with that name. */
+	public static boolean isEnemy(String name) {
+		int id = getId(name);
+		return id >= 0 && enemies[id];
+	}
+
+	/** Gets the factory of a mob by its id, or null if there's no mob with that id. */
+	public static Factory getFactory(int id) {
+		return id >= 0 && id < factories.length ? factories[id] : null;
+	}
+
+	/** Gets the factory of the same kind of mob as the given one, or null if it can't be made here. */
+	public static Factory getFactory(MobAi mob) {
+		return getFactory(getId(mob.getClass()));
+	}
+
+	/** Makes a mob by its name, or returns null if there's no mob with that name. */
+	public static MobAi get(String name, int lvl) {
+		Factory factory = getFactory(getId(name));
+		return factory == null ? null : factory.create(lvl);
+	}
+}
@@ -12,7 +12,6 @@ import minicraft.entity.furniture.DeathChest;
 import minicraft.entity.furniture.Furniture;
 import minicraft.entity.furniture.Tnt;
 import minicraft.entity.particle.FireParticle;
-import minicraft.entity.particle.Particle;
 import minicraft.entity.particle.SplashParticle;
 import minicraft.entity.particle.TextParticle;
 import minicraft.graphic.*;
@@ -312,7 +311,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 		// If player is walking ...
 		if (inMovement()) {
 			// If the player is steppeing Ferrosite, incsrease move speed to 2
-			if (onTile == Tiles.get("Ferrosite")) {
+			if (onTile == Tiles.FERROSITE) {
 				moveSpeed = 2.0D;
 			} else { // If stepping other tile...
 				// If have a speed potion effect, restore the move speed
@@ -346,9 +345,9 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 		}
 
 
-		if (onTile == Tiles.get("Stairs Down") || onTile == Tiles.get("Stairs Up")) {
+		if (onTile == Tiles.STAIRS_DOWN || onTile == Tiles.STAIRS_UP) {
 			if (onStairDelay <= 0) { // When the delay time has passed...
-				World.scheduleLevelChange((onTile == Tiles.get("Stairs Up")) ? 1 : -1); // Decide whether to go up or down.
+				World.scheduleLevelChange((onTile == Tiles.STAIRS_UP) ? 1 : -1); // Decide whether to go up or down.
 				onStairDelay = 10; // Resets delay, since the level has now been changed.
 
 				Sound.play("playerChangeLevel");
@@ -366,7 +365,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 			onStairDelay--;
 		}
 
-		if (onTile == Tiles.get("Infinite Fall") && !Game.isMode("Creative") && tickTime / 4 % 2 == 0) {
+		if (onTile == Tiles.INFINITE_FALL && !Game.isMode("Creative") && tickTime / 4 % 2 == 0) {
 			if (fallWarn) {
 				if (onFallDelay <= 0) {
 					World.scheduleLevelChange(-1);
@@ -681,8 +680,8 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
     	if (activeItem != null && !activeItem.interactsWithWorld()) {
     		attackDir = dir; // make the attack direction equal the current direction
     		attackItem = activeItem; // make attackItem equal activeItem
-    		activeItem.interactOn(Tiles.get("Rock"), level, 0, 0, this, attackDir);
-    		activeItem.interactOn(Tiles.get("Up rock"), level, 0, 0, this, attackDir);
+    		activeItem.interactOn(Tiles.ROCK, level, 0, 0, this, attackDir);
+    		activeItem.interactOn(Tiles.UP_ROCK, level, 0, 0, this, attackDir);
     		if (!Game.isMode("Creative") && activeItem.isDepleted()) {
     			activeItem = null;
     		}
@@ -729,7 +728,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
     		if (interactionTile.x >= 0 && interactionTile.y >= 0 && interactionTile.x < level.w && interactionTile.y < level.h) {
 
     			// Get any entities (except dropped items) on the tile.
-    			List<Entity> tileEntities = level.getEntitiesInTiles(interactionTile.x, interactionTile.y, interactionTile.x, interactionTile.y, false, ItemEntity.class, Particle.class);
+    			List<Entity> tileEntities = level.getEntitiesInTiles(interactionTile.x, interactionTile.y, interactionTile.x, interactionTile.y, false, ItemEntity.class);
 
     			// If there are no other entities than us on the tile.
     			if (tileEntities.isEmpty() || tileEntities.size() == 1 && tileEntities.get(0) == this) {
@@ -1125,7 +1124,9 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
 
     	// remove the picked-up item
     	itemEntity.remove();
-    	addScore(1);
+
+    	// A point for each item, the items on the ground can be stacks
+    	addScore(itemEntity.item instanceof StackableItem ? ((StackableItem) itemEntity.item).count : 1);
 
     	// We shall not bother the inventory on creative mode.
     	if (Game.isMode("Creative")) {
@@ -1173,7 +1174,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
     public void findStartPos(Level level, boolean setSpawn) {
         Point spawnPos;
 
-        List<Point> spawnTilePositions = level.getMatchingTiles(Tiles.get("Grass"), Tiles.get("Sand"), Tiles.get("Snow"));
+        List<Point> spawnTilePositions = level.getMatchingTiles(Tiles.GRASS, Tiles.SAND, Tiles.SNOW);
 
         if (spawnTilePositions.isEmpty()) {
             spawnTilePositions.addAll(level.getMatchingTiles((t, x, y) -> t.maySpawn()));
@@ -1186,7 +1187,7 @@ public class Player extends Mob implements ItemHolder, ClientTickable {
         // There are no tiles in the entire map which the player is allowed to stand on. not likely.
         if (spawnTilePositions.isEmpty()) {
             spawnPos = new Point(random.nextInt(level.w / 4) + level.w * 3 / 8, random.nextInt(level.h / 4) + level.h * 3 / 8);
-            level.setTile(spawnPos.x, spawnPos.y, Tiles.get("Grass"));
+            level.setTile(spawnPos.x, spawnPos.y, Tiles.GRASS);
         } else { // Gets random valid spawn tile position.
             spawnPos = spawnTilePositions.get(random.nextInt(spawnTilePositions.size()));
         }
@@ -52,7 +52,7 @@ public class Sheep extends PassiveMob {
 		if (random.nextInt(1000) == 0 && sheared) { // Grazing
 			// If tall grasses are present, these are consumed and then turn into grass tiles.
 			if (level.getTile(x >> 4, y >> 4) instanceof GrassTile) {
-				level.setTile(x >> 4, y >> 4, Tiles.get("dirt"));
+				level.setTile(x >> 4, y >> 4, Tiles.DIRT);
 				sheared = false;
 			}
 		}
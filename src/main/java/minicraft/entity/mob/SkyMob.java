@@ -91,7 +91,7 @@ public class SkyMob extends MobAi {
         }
 
         Tile tile = level.getTile(x >> 4, y >> 4);
-        return tile == Tiles.get("Sky grass") || tile == Tiles.get("Sky lawn");
+        return tile == Tiles.SKY_GRASS || tile == Tiles.SKY_LAWN;
 
     }
 
@@ -0,0 +1,67 @@
+package minicraft.entity.mob;
+
+import minicraft.level.Level;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * What mobs spawn in a place, each with a weight: a mob with a weight of 30 in a table that
+ * weighs 100 in all spawns 30% of the times. Part of the weight can be for nothing at all.
+ *
+ * The mobs are only made once one is picked, the pick itself makes nothing.
+ */
+public final class SpawnTable {
+
+	private int[] weights = new int[0]; // Added up, the last one is the total
+	private Mobs.Factory[][] mobs = new Mobs.Factory[0][]; // All the mobs of an entry spawn together, none for nothing
+
+	/** Adds mobs that spawn together, with the given weight. */
+	@SafeVarargs
+	public final SpawnTable add(int weight, Class<? extends MobAi>... mobClasses) {
+		Mobs.Factory[] factories = new Mobs.Factory[mobClasses.length];
+		for (int i = 0; i < mobClasses.length; i++) {
+			factories[i] = Mobs.getFactory(Mobs.getId(mobClasses[i]));
+			if (factories[i] == null) {
+				throw new IllegalArgumentException(mobClasses[i].getSimpleName() + " is not in Mobs");
+			}
+		}
+
+		int total = weights.length == 0 ? 0 : weights[weights.length - 1];
+		weights = Arrays.copyOf(weights, weights.length + 1);
+		weights[weights.length - 1] = total + weight;
+		mobs = Arrays.copyOf(mobs, mobs.length + 1);
+		mobs[mobs.length - 1] = factories;
+		return this;
+	}
+
+	/** Adds the weight of spawning nothing. */
+	public SpawnTable none(int weight) {
+		return add(weight);
+	}
+
+	/** Picks what to spawn, the mobs are not made, none means nothing. */
+	Mobs.Factory[] pick(Random random) {
+		int pick = random.nextInt(weights[weights.length - 1]);
+
+		int entry = 0;
+		while (pick >= weights[entry]) {
+			entry++;
+		}
+		return mobs[entry];
+	}
+
+	/**
+	 * Picks what to spawn, and adds it to the level at the given position, which should have been checked before.
+	 *
+	 * @param lvl The level of the enemy mobs.
+	 * @return If a mob was added.
+	 */
+	public boolean spawn(Level level, Random random, int x, int y, int lvl) {
+		Mobs.Factory[] picked = pick(random);
+		for (Mobs.Factory factory : picked) {
+			level.add(factory.create(lvl), x, y);
+		}
+		return picked.length > 0;
+	}
+}
@@ -72,7 +72,7 @@ public class VillagerMob extends MobAi {
 		}
 
 		Tile tile = level.getTile(x >> 4, y >> 4);
-		return tile == Tiles.get("Oak Planks") || tile == Tiles.get("path");
+		return tile == Tiles.OAK_PLANKS || tile == Tiles.PATH;
 	}
 
 	@Override
@@ -4,8 +4,7 @@ import minicraft.graphic.Sprite;
 
 public class BrightParticle extends Particle {
     /// This is used for the Lanterns.
-    private static Sprite sprite = new Sprite(0, 17, 3);
-    private static int spriteFrame = 0;
+    private static final Sprite[] sprites = { new Sprite(0, 16, 3), new Sprite(1, 16, 3), new Sprite(2, 16, 3), new Sprite(3, 16, 3) };
 
     /**
      * Creates a new particle at the specified position. The particle has a custom lifetime in ticks
@@ -16,7 +15,7 @@ public class BrightParticle extends Particle {
      * @param time Lifetime of the particle in ticks
      */
     public BrightParticle(int x, int y, int time) {
-        super(x, y, time, sprite);
+        super(x, y, time, sprites);
     }
     
     /**
@@ -29,13 +28,4 @@ public class BrightParticle extends Particle {
     public BrightParticle(int x, int y) {
         this(x, y, 16);
     }
-
-
-    @Override
-    public void tick() {
-        super.tick();
-        
-        spriteFrame = (spriteFrame + 1) % 4;
-        sprite = new Sprite(spriteFrame, 16, 3);
-    }
 }
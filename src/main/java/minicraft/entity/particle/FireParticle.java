@@ -4,8 +4,7 @@ import minicraft.graphic.Sprite;
 
 public class FireParticle extends Particle {
     /// This is used for Spawner, when they spawn an entity, and for the torches.
-    private static Sprite Sprites = new Sprite(0, 14, 3);
-    private int frame = 0;
+    private static final Sprite[] sprites = { new Sprite(0, 14, 3), new Sprite(1, 14, 3), new Sprite(2, 14, 3), new Sprite(3, 14, 3) };
 
     /**
      * Creates a new particle at the given position. It has a custom lifetime of ticks
@@ -15,7 +14,7 @@ public class FireParticle extends Particle {
      * @param y Y map position
      */
     public FireParticle(int x, int y, int time) {
-        super(x, y, time, Sprites);
+        super(x, y, time, sprites);
     }
     
     /**
@@ -28,15 +27,4 @@ public class FireParticle extends Particle {
     public FireParticle(int x, int y) {
         this(x, y, 40);
     }
-    
-
-
-    @Override
-    public void tick() {
-        super.tick();
-        
-        // Animation
-        frame = (frame + 1) % 4;
-        Sprites = new Sprite(frame, 14, 3);
-    }
 }
@@ -1,60 +1,44 @@
 package minicraft.entity.particle;
 
-import minicraft.entity.ClientTickable;
-import minicraft.entity.Entity;
-import minicraft.graphic.Screen;
 import minicraft.graphic.Sprite;
 
 import java.util.Random;
 
-public class Particle extends Entity implements ClientTickable {
-	private int time; // lifetime elapsed.
-	private int lifetime;
+/**
+ * A particle to add to a level with {@link minicraft.level.Level#add(Particle)}. Particles are not
+ * entities, the level copies this into its {@link ParticleSystem}, which ticks and renders them.
+ */
+public class Particle {
+	// How the particle moves, see ParticleSystem
+	public static final int STILL = 0;
+	public static final int SPLASH = 1; // Jumps and bounces on the ground
+	public static final int TEXT = 2; // Like SPLASH, but higher, and rendered as high as it is
 
-	protected Sprite sprite;
+	final int x, y;
+	final int lifetime;
+	final Sprite[] frames; // The animation, one frame each tick
+
+	int motion = STILL;
+	double xa, ya, za; // The x, y and z acceleration, if it moves
+
+	String text; // Rendered instead of the frames, if it's not null
+	int color;
 
 	/** Random values used for particles instances **/
 	protected static final Random random = new Random();
 
 	/**
-	 * Creates an particle entity at the given position. The particle has a x and y
-	 * radius = 1.
+	 * Creates a particle at the given position.
 	 *
 	 * @param x        X map coordinate
 	 * @param y        Y map coordinate
-	 * @param xr       x radius of the particle
 	 * @param lifetime How many game ticks the particle lives before its removed
-	 * @param sprite   The particle's sprite
+	 * @param frames   The particle's sprites, one after another each tick
 	 */
-	public Particle(int x, int y, int xr, int lifetime, Sprite sprite) {
-		// make a particle at the given coordinates
-		super(xr, 1);
+	public Particle(int x, int y, int lifetime, Sprite... frames) {
 		this.x = x;
 		this.y = y;
 		this.lifetime = lifetime;
-		this.sprite = sprite;
-		time = 0;
-	}
-
-	public Particle(int x, int y, int lifetime, Sprite sprite) {
-		this(x, y, 1, lifetime, sprite);
-	}
-
-	@Override
-	public void tick() {
-		time++;
-		if (time > lifetime) {
-			remove();
-		}
-	}
-
-	@Override
-	public void render(Screen screen) {
-		sprite.render(screen, x, y);
-	}
-
-	@Override
-	public boolean isSolid() {
-		return false;
+		this.frames = frames;
 	}
 }
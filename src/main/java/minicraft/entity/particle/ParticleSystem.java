@@ -0,0 +1,152 @@
+package minicraft.entity.particle;
+
+import minicraft.graphic.Color;
+import minicraft.graphic.FontStyle;
+import minicraft.graphic.Screen;
+import minicraft.graphic.Sprite;
+
+/**
+ * The particles of a level. They are not entities: each particle is a slot in the arrays below,
+ * so the entity queries and collisions never see them, and they are all ticked and rendered
+ * in one loop. A {@link Particle} is only copied in when it's added.
+ *
+ * There's space for {@link #CAPACITY} particles, the ones added when it's full are dropped.
+ * The particles in use are always the first ones, a particle that ends takes the slot of the last one.
+ */
+public final class ParticleSystem {
+
+	public static final int CAPACITY = 1024;
+
+	// How each motion of Particle falls and bounces, by Particle.STILL, SPLASH and TEXT
+	private static final float[] gravity = { 0, 0.12f, 0.15f };
+	private static final float[] bounce = { 0, 0.4f, 0.5f };
+	private static final float[] friction = { 0, 0.3f, 0.6f };
+
+	private final int[] x = new int[CAPACITY];
+	private final int[] y = new int[CAPACITY];
+	private final int[] age = new int[CAPACITY];
+	private final int[] lifetime = new int[CAPACITY];
+	private final byte[] motion = new byte[CAPACITY];
+	private final Sprite[][] frames = new Sprite[CAPACITY][];
+
+	// Only for the particles that move
+	private final float[] xx = new float[CAPACITY];
+	private final float[] yy = new float[CAPACITY];
+	private final float[] zz = new float[CAPACITY];
+	private final float[] xa = new float[CAPACITY];
+	private final float[] ya = new float[CAPACITY];
+	private final float[] za = new float[CAPACITY];
+
+	// Only for the text particles
+	private final String[] text = new String[CAPACITY];
+	private final int[] color = new int[CAPACITY];
+	private final FontStyle style = new FontStyle().setShadowType(Color.BLACK, false);
+
+	private int count;
+	private int dropped; // The particles that didn't fit
+
+	public synchronized void add(Particle particle) {
+		if (count == CAPACITY) {
+			dropped++;
+			return;
+		}
+
+		int i = count++;
+		x[i] = particle.x;
+		y[i] = particle.y;
+		age[i] = 0;
+		lifetime[i] = particle.lifetime;
+		motion[i] = (byte) particle.motion;
+		frames[i] = particle.frames;
+
+		xx[i] = particle.x;
+		yy[i] = particle.y;
+		zz[i] = 2;
+		xa[i] = (float) particle.xa;
+		ya[i] = (float) particle.ya;
+		za[i] = (float) particle.za;
+
+		text[i] = particle.text;
+		color[i] = particle.color;
+	}
+
+	public synchronized void tick() {
+		for (int i = 0; i < count;) {
+			if (++age[i] > lifetime[i]) {
+				remove(i);
+				continue; // The last particle is in this slot now
+			}
+
+			int m = motion[i];
+			if (m != Particle.STILL) {
+				xx[i] += xa[i];
+				yy[i] += ya[i];
+				zz[i] += za[i];
+				if (zz[i] < 0) { // It hits the ground
+					zz[i] = 0;
+					za[i] *= -bounce[m];
+					xa[i] *= friction[m];
+					ya[i] *= friction[m];
+				}
+				za[i] -= gravity[m];
+
+				x[i] = (int) xx[i];
+				y[i] = (int) yy[i];
+			}
+			i++;
+		}
+	}
+
+	/** Renders the particles inside the given area, in pixels of the level. */
+	public synchronized void render(Screen screen, int x0, int y0, int x1, int y1) {
+		for (int i = 0; i < count; i++) {
+			if (x[i] < x0 || y[i] < y0 || x[i] > x1 || y[i] > y1) continue;
+
+			if (text[i] != null) {
+				style.setColor(color[i]).setXPos(x[i] - text[i].length() * 4).setYPos(y[i] - (int) zz[i]).draw(text[i], screen);
+			} else {
+				frames[i][age[i] % frames[i].length].render(screen, x[i], y[i]);
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		for (int i = 0; i < count; i++) {
+			frames[i] = null;
+			text[i] = null;
+		}
+		count = 0;
+	}
+
+	/** How many particles there are now. */
+	public int getCount() {
+		return count;
+	}
+
+	/** How many particles have been dropped because there was no space. */
+	public int getDropped() {
+		return dropped;
+	}
+
+	/** Moves the last particle to the slot, so the ones in use stay together. */
+	private void remove(int i) {
+		int last = --count;
+		x[i] = x[last];
+		y[i] = y[last];
+		age[i] = age[last];
+		lifetime[i] = lifetime[last];
+		motion[i] = motion[last];
+		frames[i] = frames[last];
+		xx[i] = xx[last];
+		yy[i] = yy[last];
+		zz[i] = zz[last];
+		xa[i] = xa[last];
+		ya[i] = ya[last];
+		za[i] = za[last];
+		text[i] = text[last];
+		color[i] = color[last];
+
+		frames[last] = null;
+		text[last] = null;
+	}
+}
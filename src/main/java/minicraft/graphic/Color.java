@@ -199,13 +199,11 @@ public class Color {
 			return rgbInt; // this is "transparent".
 		}
 
-		int[] comps = decodeRGBColor(rgbInt);
+		int r = limit(((rgbInt & 0xFF0000) >> 16) + amount, 0, 255);
+		int g = limit(((rgbInt & 0x00FF00) >> 8) + amount, 0, 255);
+		int b = limit((rgbInt & 0x0000FF) + amount, 0, 255);
 
-		for (int i = 0; i < comps.length; i++) {
-			comps[i] = limit(comps[i] + amount, 0, 255);
-		}
-
-		return comps[0] << 16 | comps[1] << 8 | comps[2];
+		return r << 16 | g << 8 | b;
 	}
 
 	public static int[] decodeRGBColor(int rgbInt) {
@@ -42,6 +42,11 @@ public class ConnectorSprite {
 	}
 
 	public void render(Screen screen, Level level, int x, int y, int whiteTint) {
+		render(screen, level, x, y, full);
+	}
+
+	/** Renders with another full sprite, for the tiles that change it every frame, without changing the shared one. */
+	public void render(Screen screen, Level level, int x, int y, Sprite full) {
 		// System.out.println("rendering sprite for tile " + owner);
 
 		Tile upTile = level.getTile(x, y - 1);
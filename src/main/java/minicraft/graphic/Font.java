@@ -2,7 +2,10 @@ package minicraft.graphic;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public class Font {
 
@@ -29,6 +32,104 @@ public class Font {
 
 	private static final int[] charsAdvance = new int[Font.chars.length()];
 
+	// The index in the chars string of each character, or -1, so it doesn't have to be searched
+	private static final int[] glyphs;
+
+	static {
+		int max = 0;
+		for (int i = 0; i < chars.length(); i++) {
+			max = Math.max(max, chars.charAt(i));
+		}
+
+		glyphs = new int[max + 1];
+		Arrays.fill(glyphs, -1);
+		for (int i = chars.length() - 1; i >= 0; i--) { // Some are repeated, the first one is used
+			glyphs[chars.charAt(i)] = i;
+		}
+	}
+
+	// The texts measured recently, most of them are drawn again in the next frame
+	private static final int MAX_LAYOUTS = 256;
+	private static final Map<String, TextLayout> layouts = new LinkedHashMap<String, TextLayout>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, TextLayout> eldest) {
+			return size() > MAX_LAYOUTS;
+		}
+	};
+
+	// The paragraphs split recently, to not split them again each frame
+	private static final int MAX_PARAGRAPHS = 32;
+	private static final Map<ParagraphKey, String[]> paragraphs = new LinkedHashMap<ParagraphKey, String[]>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ParagraphKey, String[]> eldest) {
+			return size() > MAX_PARAGRAPHS;
+		}
+	};
+
+	/** Where each character of a text is drawn, and how wide the text is. */
+	private static final class TextLayout {
+		final int[] glyphs; // The index of each character in the chars string
+		final int[] positions; // The x of each character, from the start of the text
+		final int width; // Like textWidth, that skips the color codes
+
+		TextLayout(String text) {
+			int len = text.length();
+			glyphs = new int[len];
+			positions = new int[len];
+
+			int xx = 0;
+			for (int i = 0; i < len; i++) {
+				char chr = text.charAt(i);
+				glyphs[i] = glyphIndex(chr);
+				positions[i] = xx;
+				xx += chr == ' ' ? 8 : glyphs[i] >= 0 ? Font.charsAdvance[glyphs[i]] : 8;
+			}
+
+			width = measureWidth(text);
+		}
+	}
+
+	private static final class ParagraphKey {
+		final String para;
+		final int w, h, lineSpacing;
+		final boolean keepEmptyRemainder;
+
+		ParagraphKey(String para, int w, int h, int lineSpacing, boolean keepEmptyRemainder) {
+			this.para = para;
+			this.w = w;
+			this.h = h;
+			this.lineSpacing = lineSpacing;
+			this.keepEmptyRemainder = keepEmptyRemainder;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof ParagraphKey)) return false;
+			ParagraphKey key = (ParagraphKey) other;
+			return w == key.w && h == key.h && lineSpacing == key.lineSpacing && keepEmptyRemainder == key.keepEmptyRemainder && para.equals(key.para);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(para, w, h, lineSpacing, keepEmptyRemainder);
+		}
+	}
+
+	private static int glyphIndex(char chr) {
+		return chr < glyphs.length ? glyphs[chr] : -1;
+	}
+
+	private static TextLayout getLayout(String text) {
+		synchronized (layouts) {
+			TextLayout layout = layouts.get(text);
+			if (layout == null) {
+				layout = new TextLayout(text);
+				layouts.put(text, layout);
+			}
+			return layout;
+		}
+	}
+
 	public static void updateCharAdvances(SpriteSheet font) {
 		for (int i = 0; i < chars.length(); ++i) {
 			int c = i % 32;
@@ -48,6 +149,14 @@ public class Font {
 
 			Font.charsAdvance[i] = advance;
 		}
+
+		// What was measured used the old advances
+		synchronized (layouts) {
+			layouts.clear();
+		}
+		synchronized (paragraphs) {
+			paragraphs.clear();
+		}
 	}
 
     public static void draw(String msg, Screen screen, int x, int y) {
@@ -63,18 +172,15 @@ public class Font {
      * @param whiteTint The white tint applied to the message
      */
     public static void draw(String msg, Screen screen, int x, int y, int whiteTint) {
-        int len = msg.length(); // The length of the message
-
-        int xx = x;
+        TextLayout layout = getLayout(msg); // Where each character goes
 
         // Loops through all the characters in the message
-        for (int chr = 0; chr < len; chr++) {
-            int charIndex = chars.indexOf(msg.charAt(chr)); // The current character's index in the `chars` string
+        for (int chr = 0; chr < layout.glyphs.length; chr++) {
+            int charIndex = layout.glyphs[chr]; // The current character's index in the `chars` string
             if (charIndex >= 0) { // Renders the character if it's index is valid
                 // Renders the character on the screen
-                screen.render(xx, y, (charIndex % 32 + CHAR_SHEET_Y) + ((charIndex / 32 + CHAR_SHEET_Y) << 5), 0, 4, whiteTint);
+                screen.render(x + layout.positions[chr], y, (charIndex % 32 + CHAR_SHEET_Y) + ((charIndex / 32 + CHAR_SHEET_Y) << 5), 0, 4, whiteTint);
             }
-            xx += msg.charAt(chr) == ' ' ? 8 : charIndex >= 0 ? Font.charsAdvance[charIndex] : 8;
         }
     }
 
@@ -113,15 +219,11 @@ public class Font {
     }
 
     public static void drawBackground(String msg, Screen screen, int x, int y, int whiteTint) {
-    	int xx = x;
+    	TextLayout layout = getLayout(msg);
 
-    	int len = msg.length();
-
-        for (int i = 0; i < len; i++) {
+        for (int i = 0; i < layout.positions.length; i++) {
             // render the black background
-            screen.render(xx, y, 12 + (24 << 5), 0, 3);
-			int ix = chars.indexOf(msg.charAt(i));
-			xx += msg.charAt(i) == ' ' ? 8 : ix >= 0 ? Font.charsAdvance[ix] : 8;
+            screen.render(x + layout.positions[i], y, 12 + (24 << 5), 0, 3);
         }
         draw(msg, screen, x, y, whiteTint);
     }
@@ -129,6 +231,11 @@ public class Font {
     public static int textWidth(String text) {
 		if (text == null) return 0;
 
+		return getLayout(text).width;
+    }
+
+    /** Measures without keeping the layout, for the many pieces of text tried when splitting lines. */
+    private static int measureWidth(String text) {
 		int width = 0;
 		int len = text.length();
 
@@ -140,7 +247,7 @@ public class Font {
 				continue;
 			}
 
-			int idx = Font.chars.indexOf(chr);
+			int idx = glyphIndex(chr);
 			width += idx >= 0 ? Font.charsAdvance[idx] : 8;
 		}
 
@@ -196,6 +303,22 @@ public class Font {
     }
 
     public static String[] getLines(String para, int w, int h, int lineSpacing, boolean keepEmptyRemainder) {
+        ParagraphKey key = new ParagraphKey(para, w, h, lineSpacing, keepEmptyRemainder);
+        String[] lines;
+        synchronized (paragraphs) {
+            lines = paragraphs.get(key);
+        }
+
+        if (lines == null) {
+            lines = splitLines(para, w, h, lineSpacing, keepEmptyRemainder);
+            synchronized (paragraphs) {
+                paragraphs.put(key, lines);
+            }
+        }
+        return lines.clone(); // The callers may change it
+    }
+
+    private static String[] splitLines(String para, int w, int h, int lineSpacing, boolean keepEmptyRemainder) {
         ArrayList<String> lines = new ArrayList<>();
 
         // So, I have a paragraph. I give it to getLine, and it returns an index. Cut
@@ -249,13 +372,13 @@ public class Font {
 
         String[] words = text.split(" ", -1);
 
-        int curWidth = textWidth(words[0]);
+        int curWidth = measureWidth(words[0]);
 
         if (curWidth > maxWidth) {
             // we can't even fit the first word on to the line, even by itself. So we'll have to fit what we can.
             int i;
             for (i = 1; i < words[0].length(); i++) // find how many characters do fit
-                if (textWidth(words[0].substring(0, i + 1)) > maxWidth){
+                if (measureWidth(words[0].substring(0, i + 1)) > maxWidth){
                     break;
                 }
             return i; // stop here and return, because we know we can't fit more so we can ignore all that's below
@@ -265,7 +388,7 @@ public class Font {
         for (i = 1; i < words.length; i++) {
             if (words[i].equals("\n")) break;
 
-            curWidth += textWidth(" " + words[i]);
+            curWidth += measureWidth(" " + words[i]);
             if (curWidth > maxWidth) break;
         }
         // i now contains the number of words that fit on the line.
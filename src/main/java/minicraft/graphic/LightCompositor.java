@@ -0,0 +1,101 @@
+package minicraft.graphic;
+
+/**
+ * Puts the light screen over the screen, for {@link Screen#overlay} and {@link Screen#darkness}.
+ *
+ * Does the same as tinting every pixel with {@link Color#tintColor(int, int)}, but the tinted value
+ * of each color component is taken from a table made once for each tint amount, and the dither is
+ * turned into the light needed for each pixel of the row. So nothing is allocated in the frame.
+ */
+final class LightCompositor {
+
+	private static final int BRIGHTEN = 20; // Every pixel is made this much brighter at the end
+
+	// The light needed by each pixel of a 4x4 block to be lit, for the overlay and for the darkness
+	private final int[] overlayLight = new int[16];
+	private final int[] darknessLight = new int[16];
+
+	private final int[] tint = new int[256];
+	private final int[] tintBrighten = new int[256]; // Tinted and then made brighter
+	private final int[] brighten = new int[256];
+	private int tintAmount = Integer.MIN_VALUE;
+
+	LightCompositor(int[] dither) {
+		for (int i = 0; i < 16; i++) {
+			// light / 10 <= dither, without dividing every pixel
+			overlayLight[i] = dither[i] * 10 + 9;
+			darknessLight[i] = dither[i] * 256 + 255;
+		}
+
+		for (int i = 0; i < 256; i++) {
+			brighten[i] = Math.min(i + BRIGHTEN, 255);
+		}
+	}
+
+	private void setTint(int amount) {
+		if (amount == tintAmount) {
+			return;
+		}
+
+		for (int i = 0; i < 256; i++) {
+			tint[i] = Math.max(0, Math.min(i + amount, 255));
+			tintBrighten[i] = brighten[tint[i]];
+		}
+		tintAmount = amount;
+	}
+
+	/** Same as {@link Color#tintColor(int, int)}, with the table of the amount. */
+	private static int tint(int color, int[] table) {
+		if (color < 0) {
+			return color; // this is "transparent".
+		}
+
+		return table[(color >> 16) & 0xFF] << 16 | table[(color >> 8) & 0xFF] << 8 | table[color & 0xFF];
+	}
+
+	void overlay(int[] pixels, int[] light, int w, int h, boolean caves, int tintAmount, int xa, int ya) {
+		setTint(tintAmount);
+
+		int darkColor = tint(0, brighten); // In the caves, not being lit means being pitch black
+
+		for (int y = 0; y < h; y++) {
+			int ditherRow = ((y + ya) & 3) * 4;
+			int index = y * w;
+
+			for (int x = 0; x < w; x++, index++) {
+				int color = pixels[index];
+
+				if (light[index] <= overlayLight[((x + xa) & 3) + ditherRow]) {
+					pixels[index] = caves ? darkColor : tint(color, tintBrighten);
+				} else {
+					pixels[index] = tint(color, brighten);
+				}
+			}
+		}
+	}
+
+	void darkness(int[] pixels, int[] light, int w, int h, boolean tinted, int tintAmount, int xa, int ya) {
+		setTint(tintAmount);
+
+		for (int y = 0; y < h; y++) {
+			int ditherRow = ((y + ya) & 3) * 4;
+			int index = y * w;
+
+			for (int x = 0; x < w; x++, index++) {
+				int color = pixels[index];
+
+				if (light[index] <= darknessLight[((x + xa) & 3) + ditherRow]) {
+					if (tinted) {
+						color = tint(color, tint);
+					}
+
+					if (light[index] >= 512 && light[index] < 640) { // (128 + light) / 128 == 5
+						color = Color.getShadow(tint(color, tint), 1, 6, 1);
+					}
+				}
+
+				pixels[index] = tint(color, brighten);
+			}
+		}
+	}
+}
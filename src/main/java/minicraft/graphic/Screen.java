@@ -4,6 +4,7 @@ import minicraft.core.Renderer;
 import minicraft.core.Updater;
 
 import java.util.Arrays;
+import java.util.HashMap;
 
 public class Screen {
 
@@ -17,10 +18,6 @@ public class Screen {
 	private int xOffset;
 	private int yOffset;
 
-	// Used for mirroring an image:
-	private static final int BIT_MIRROR_X = 0x01; // Written in hexadecimal; binary: 01
-	private static final int BIT_MIRROR_Y = 0x02; // Binary: 10
-
 	public int[] pixels; // Pixels on the screen
 
 	// Since each sheet is 256x256 pixels, each one has 1024 8x8 "tiles"
@@ -28,6 +25,7 @@ public class Screen {
 	// And 3072 the start of the gui sheet
 
 	private final SpriteSheet[] sheets;
+	private int sheetVersion; // Changes with the sheets, so what was drawn with the old ones can be drawn again
 
 	public Screen(SpriteSheet itemSheet, SpriteSheet tileSheet, SpriteSheet entitySheet, SpriteSheet guiSheet, SpriteSheet fontSheet, SpriteSheet background) {
 
@@ -57,6 +55,11 @@ public class Screen {
 		sheets[3] = guiSheet != null ? guiSheet : sheets[3];
 		sheets[4] = fontSheet != null ? fontSheet : sheets[4];
 		sheets[5] = background != null ? background : sheets[5];
+		sheetVersion++;
+	}
+
+	public int getSheetVersion() {
+		return sheetVersion;
 	}
 
 	/** Clears all the colors on the screen */
@@ -186,77 +189,8 @@ public class Screen {
 	 */
 	private void render(int xp, int yp, int xTile, int yTile, int bits, int sheet, int whiteTint, boolean fullbright, int color) {
 		// Convert level coordinates (xp, yp) to screen coordinates by accounting for screen offset
-	    xp -= xOffset;
-	    yp -= yOffset;
-
-	    // Determines if the image should be mirrored ...
-	    boolean mirrorX = (bits & BIT_MIRROR_X) > 0; // horizontally.
-	    boolean mirrorY = (bits & BIT_MIRROR_Y) > 0; // vertically.
-
-	    SpriteSheet currentSheet = sheets[sheet];
-
-	    /* The '%' operator returns the remainder of a division operation.
-	     * This is used here to avoid out-of-bounds errors
-	     */
-	    xTile %= currentSheet.width;
-	    yTile %= currentSheet.height;
-
-	    // Calculate the offset of the sprite into the spritesheet pixel array
-	    // The '8's represent the size of the box (8 by 8 pixel sprite boxes)
-	    int toffs = (xTile << 3) + (yTile << 3) * currentSheet.width;
-
-	    // Precompute values outside of loop
-	    int yLimit = yp + 8;
-	    int xLimit = xp + 8;
-
-	    int[] pixels = this.pixels;
-	    int[] sheetPixels = currentSheet.pixels;
-
-	    for (int y = yp; y < yLimit; y++) {
-	        // If the pixel is out of bounds, then skip the rest of the loop.
-	        if (y < 0 || y >= h) continue;
-
-	        for (int x = xp; x < xLimit; x++) {
-	            // If the pixel is out of bounds, then skip the rest of the loop.
-	            if (x < 0 || x >= w) continue;
-
-	            int xs = x - xp;
-	            int ys = y - yp;
-
-	            // Reverses the pixel for a mirroring effect if necessary
-	            if (mirrorX) {
-	                xs = 7 - xs;
-	            }
-
-	            if (mirrorY) {
-	                ys = 7 - ys;
-	            }
-
-	            // Gets the color of the current pixel from the value stored in the sheet.
-	            int spriteColor = sheetPixels[toffs + xs + ys * currentSheet.width];
-
-	            // Check if the pixel is transparent
-	            if ((spriteColor >> 24) != 0) {
-	                int position = x + y * w;
-
-	                if (whiteTint != -1 && spriteColor == 0x1FFFFFF) {
-	                    // if this is white, write the whiteTint over it
-	                    pixels[position] = Color.upgrade(whiteTint);
-	                } else {
-	                    // Inserts the colors into the image
-	                    if (fullbright) {
-	                        pixels[position] = Color.WHITE; // mob color when hit
-	                    } else {
-	                        if (color != 0) { // full sprite color
-	                            pixels[position] = color;
-	                        } else {
-	                            pixels[position] = Color.upgrade(spriteColor);
-	                        }
-	                    }
-	                }
-	            }
-	        }
-	    }
+		// The sheet is already split in 8x8 boxes, see SpriteAtlas
+		sheets[sheet].getAtlas().draw(pixels, xp - xOffset, yp - yOffset, xTile, yTile, bits, whiteTint, fullbright, color);
 	}
 
 	/** Sets the offset of the screen */
@@ -306,6 +240,8 @@ public class Screen {
 
 	private static final int[] dither = new int[] { 0, 8, 2, 10, 12, 4, 14, 6, 3, 11, 1, 9, 15, 7, 13, 5 };
 
+	private final LightCompositor compositor = new LightCompositor(dither); // Applies the light screen without allocating
+
 	/** Overlays the screen with pixels */
 	public void overlay(Screen screen, int currentLevel, int xa, int ya) {
 		double tintFactor = 0;
@@ -330,20 +266,10 @@ public class Screen {
 			tintFactor = -MAXDARK;
 		}
 
-		int[] overlayPixels = screen.pixels; // The Integer array of pixels to overlay the screen with.
-		int currentPixel = 0; // current pixel index on the screen
-		for (int y = 0; y < h; y++) { // loop through height of screen
-			for (int x = 0; x < w; x++) { // loop through width of screen
-				// if light level stored in oPixels is less than minimum requirement stored in dither
-				if (overlayPixels[currentPixel] / 10 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
-					// if in caves not being lit means being pitch black, outside the caves, not being lit simply means being darker.
-					pixels[currentPixel] = (currentLevel < 3) ? 0 : Color.tintColor(pixels[currentPixel], (int) tintFactor);
-				}
-				// Increase the tinting of all colors by 20.
-				pixels[currentPixel] = Color.tintColor(pixels[currentPixel], 20);
-				currentPixel++; // move to the next pixel.
-			}
-		}
+		// if light level stored in the light screen is less than minimum requirement stored in dither,
+		// in caves not being lit means being pitch black, outside the caves, not being lit simply means being darker.
+		// Then increase the tinting of all colors by 20.
+		compositor.overlay(pixels, screen.pixels, w, h, currentLevel < 3, (int) tintFactor, xa, ya);
 	}
 
 	public void darkness(Screen screen, int currentLevel, int xa, int ya) {
@@ -366,29 +292,42 @@ public class Screen {
 	        tintFactor *= -1; // all previous operations were assuming this was a darkening factor.
 	    }
 
-	    int[] overlayPixels = screen.pixels;
-	    for (int y = 0; y < h; y++) {
-	        for (int x = 0; x < w; x++) {
-	            int currentPixel = y * w + x;
-	            if (overlayPixels[currentPixel] / 256 <= dither[((x + xa) & 3) + ((y + ya) & 3) * 4]) {
-	                int intense = (128 + overlayPixels[currentPixel]) / 128;
+	    compositor.darkness(pixels, screen.pixels, w, h, currentLevel > 3, (int) tintFactor, xa, ya);
+	}
 
-	                if (currentLevel > 3) {
-	                    pixels[currentPixel] = Color.tintColor(pixels[currentPixel], (int) tintFactor);
-	                }
 
-	                if (intense == 5) {
-	                    pixels[currentPixel] = Color.getShadow(Color.tintColor(pixels[currentPixel], (int) tintFactor), 1, 6, 1);
-	                }
-	            }
+	/** The brightness of the light around a light source, for each radius, so it doesn't need to be calculated every frame */
+	private static final HashMap<Integer, int[]> lightStamps = new HashMap<>();
 
-	            pixels[currentPixel] = Color.tintColor(pixels[currentPixel], 20);
-	        }
-	    }
-	}
+	private static int[] getLightStamp(int lightRadius) {
+		int[] stamp = lightStamps.get(lightRadius);
+		if (stamp != null) {
+			return stamp;
+		}
 
+		int size = lightRadius << 1;
+		stamp = new int[size * size];
+
+		for (int yd = -lightRadius; yd < lightRadius; yd++) {
+			for (int xd = -lightRadius; xd < lightRadius; xd++) {
+				int dist = xd * xd + yd * yd; // Calculate total distance between current position and center of the circle
+
+				// If the current position is within the circle of light, calculate the brightness of the light at the current position
+				if (dist <= lightRadius * lightRadius) {
+					stamp[(xd + lightRadius) + (yd + lightRadius) * size] = 255 - dist * 255 / (lightRadius * lightRadius);
+				}
+			}
+		}
+
+		lightStamps.put(lightRadius, stamp);
+		return stamp;
+	}
 
 	public void renderLight(int x, int y, int lightRadius) {
+		if (lightRadius <= 0) {
+			return;
+		}
+
 		// Apply the x and y offsets to the light's position (by screen scrolling)
 		x -= xOffset;
 		y -= yOffset;
@@ -399,27 +338,22 @@ public class Screen {
 		int x1 = Math.min(x + lightRadius, w); // end x
 		int y1 = Math.min(y + lightRadius, h); // end y
 
-		// Declare the distance from the center of the light circle along the y axis
-		int yd = 0;
+		int[] stamp = getLightStamp(lightRadius);
+		int size = lightRadius << 1;
 
 		// Loop through each y position
 		for (int yy = y0; yy < y1; yy++) {
-			// Calculate distance between current y position and previous y position
-			yd = yy - y;
-			yd *= yd;
+			int stampIndex = (x0 - x + lightRadius) + (yy - y + lightRadius) * size;
+			int index = x0 + yy * w;
+
 			// Loop through each x position
 			for (int xx = x0; xx < x1; xx++) {
-				int xd = xx - x; // Calculate distance between current x position and previous x position
-				int dist = xd * xd + yd; // Calculate total distance between current position and center of the circle
-
-				// If the current position is within the circle of light
-				if (dist <= lightRadius * lightRadius) {
-					// Calculate the brightness of the light at the current position
-					int br = 255 - dist * 255 / (lightRadius * lightRadius);
-					int index = xx + yy * w;
-					// Set the pixel value to the maximum between its current value and the calculated brightness
-					pixels[index] = Math.max(pixels[index], br);
+				// Set the pixel value to the maximum between its current value and the brightness, that is 0 outside of the circle
+				int br = stamp[stampIndex++];
+				if (br > pixels[index]) {
+					pixels[index] = br;
 				}
+				index++;
 			}
 		}
 	}
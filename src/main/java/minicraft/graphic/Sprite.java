@@ -42,6 +42,42 @@ public class Sprite {
 	    return ConnectorSprite.makeSprite(2, 2, random.nextInt(4), 1, false, values[0], values[1], values[2], values[3]);
 	}
 
+	/**
+	 * Every sprite that {@link #randomDots(long, int, int)} can give for this sheet position, there are
+	 * only 64 of them (one of two pixels for each corner, and the mirror). Use {@link #randomDotsFrame(long)}
+	 * to pick the one of a seed, so nothing has to be made while rendering.
+	 */
+	public static Sprite[] randomDotsFrames(int x, int y) {
+		Sprite[] frames = new Sprite[64];
+		for (int frame = 0; frame < frames.length; frame++) {
+			int[] values = new int[4];
+			for (int i = 0; i < 4; i++) {
+				values[i] = (x + ((frame >> i) & 1)) + (y << 5);
+			}
+			frames[frame] = ConnectorSprite.makeSprite(2, 2, frame >> 4, 1, false, values[0], values[1], values[2], values[3]);
+		}
+		return frames;
+	}
+
+	/**
+	 * The index in {@link #randomDotsFrames(int, int)} of the sprite that {@link #randomDots(long, int, int)}
+	 * gives for the seed. Does the same steps as {@link Random} with that seed, without using a shared one.
+	 */
+	public static int randomDotsFrame(long seed) {
+		final long multiplier = 0x5DEECE66DL;
+		final long mask = (1L << 48) - 1;
+
+		seed = (seed ^ multiplier) & mask;
+		int frame = 0;
+		for (int i = 0; i < 4; i++) {
+			seed = (seed * multiplier + 0xBL) & mask;
+			frame |= (int) (seed >>> 47) << i; // nextInt(2)
+			seed = (seed * multiplier + 0xBL) & mask; // nextInt(1), always 0
+		}
+		seed = (seed * multiplier + 0xBL) & mask;
+		return frame | (int) (seed >>> 46) << 4; // nextInt(4), the mirror
+	}
+
 	protected Pixel[][] spritePixels;
 	public int color = -1;
 	protected java.awt.Rectangle sheetLoc;
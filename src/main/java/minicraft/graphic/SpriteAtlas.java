@@ -0,0 +1,123 @@
+package minicraft.graphic;
+
+import java.util.Arrays;
+
+/**
+ * A {@link SpriteSheet} already split into its 8x8 boxes, with the colors ready to be written in the
+ * screen, and which columns of each row are not transparent. Each box is also kept mirrored
+ * horizontally, the vertical mirror only changes the order of the rows.
+ *
+ * The part of a box on the screen is found once, and the rows that are fully drawn are just copied,
+ * instead of checking every pixel.
+ */
+final class SpriteAtlas {
+
+	private static final int BIT_MIRROR_X = 0x01;
+	private static final int BIT_MIRROR_Y = 0x02;
+
+	private static final int WHITE = 0x1FFFFFF; // The color of the sheet that the white tint replaces
+
+	private final int boxesW, boxesH;
+
+	// For each box and mirror: the 64 colors, and a bit for each column of a row
+	private final int[] colors;
+	private final int[] opaque;
+	private final int[] white;
+
+	SpriteAtlas(SpriteSheet sheet) {
+		int size = SpriteSheet.boxWidth;
+		boxesW = Math.max(sheet.width / size, 1);
+		boxesH = Math.max((sheet.height + size - 1) / size, 1); // The boxes cut at the bottom are transparent there
+
+		colors = new int[(boxesW * boxesH) << 7];
+		opaque = new int[(boxesW * boxesH) << 4];
+		white = new int[opaque.length];
+
+		for (int by = 0; by < boxesH; by++) {
+			for (int bx = 0; bx < boxesW; bx++) {
+				int box = bx + by * boxesW;
+
+				for (int row = 0; row < size; row++) {
+					int y = by * size + row;
+					if (y >= sheet.height) {
+						break;
+					}
+
+					for (int column = 0; column < size; column++) {
+						int color = sheet.pixels[bx * size + column + y * sheet.width];
+						if ((color >> 24) == 0) {
+							continue;
+						}
+
+						for (int mirror = 0; mirror < 2; mirror++) {
+							int variant = (box << 1) | mirror;
+							int xs = mirror == 0 ? column : 7 - column;
+
+							colors[(variant << 6) + (row << 3) + xs] = Color.upgrade(color);
+							opaque[(variant << 3) + row] |= 1 << xs;
+							if (color == WHITE) {
+								white[(variant << 3) + row] |= 1 << xs;
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Draws a box in the pixels of the screen, the same as {@link Screen#render} did pixel by pixel.
+	 * xp and yp are screen coordinates, the offset is already taken out.
+	 */
+	void draw(int[] pixels, int xp, int yp, int xTile, int yTile, int bits, int whiteTint, boolean fullbright, int color) {
+		// The part of the box that is on the screen
+		int x0 = Math.max(-xp, 0);
+		int y0 = Math.max(-yp, 0);
+		int x1 = Math.min(Screen.w - xp, 8);
+		int y1 = Math.min(Screen.h - yp, 8);
+		if (x0 >= x1 || y0 >= y1) {
+			return;
+		}
+
+		int box = (xTile % boxesW) + (yTile % boxesH) * boxesW;
+		int variant = (box << 1) | (bits & BIT_MIRROR_X);
+		boolean mirrorY = (bits & BIT_MIRROR_Y) != 0;
+
+		int columns = ((1 << x1) - 1) & ~((1 << x0) - 1);
+		int solid = fullbright ? Color.WHITE : color; // Written instead of the colors of the box, if not 0
+
+		for (int ys = y0; ys < y1; ys++) {
+			int row = (variant << 3) + (mirrorY ? 7 - ys : ys);
+			int mask = opaque[row] & columns;
+			if (mask == 0) {
+				continue;
+			}
+
+			int whiteMask = whiteTint != -1 ? white[row] & mask : 0;
+			int from = (variant << 6) + ((row & 7) << 3);
+			int to = xp + (yp + ys) * Screen.w;
+
+			if (mask == columns && whiteMask == 0) {
+				if (solid == 0) {
+					System.arraycopy(colors, from + x0, pixels, to + x0, x1 - x0);
+				} else {
+					Arrays.fill(pixels, to + x0, to + x1, solid);
+				}
+				continue;
+			}
+
+			for (int xs = x0; xs < x1; xs++) {
+				int bit = 1 << xs;
+				if ((mask & bit) == 0) {
+					continue;
+				}
+
+				if ((whiteMask & bit) != 0) {
+					pixels[to + xs] = Color.upgrade(whiteTint);
+				} else {
+					pixels[to + xs] = solid != 0 ? solid : colors[from + xs];
+				}
+			}
+		}
+	}
+}
@@ -9,6 +9,8 @@ public class SpriteSheet {
     public int width, height; // width and height of the sprite sheet
     public int[] pixels; // integer array of the image's pixels
 
+    private SpriteAtlas atlas; // the boxes ready to draw, made the first time the sheet is drawn
+
     public SpriteSheet(BufferedImage image) {
         // sets width and height to that of the image
         width = image.getWidth();
@@ -23,4 +25,11 @@ public class SpriteSheet {
             pixels[i] = (transparent << 24) | (pixels[i] & 0xff0000) | (pixels[i] & 0xff00) | (pixels[i] & 0xff);
         }
     }
+
+    SpriteAtlas getAtlas() {
+        if (atlas == null) {
+            atlas = new SpriteAtlas(this);
+        }
+        return atlas;
+    }
 }
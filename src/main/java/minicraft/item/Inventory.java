@@ -5,7 +5,9 @@ import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 public class Inventory {
@@ -14,6 +16,7 @@ public class Inventory {
     private final Random random = new Random();
 
     private final List<Item> items = new ArrayList<>(); // The list of items that is in the inventory.
+    private final Map<String, List<Item>> itemsByName = new HashMap<>(); // The same items, by name, so they can be counted without looking at all.
 
     /**
      * Returns all the items which are in this inventory.
@@ -30,6 +33,7 @@ public class Inventory {
 
     public void clear() {
         items.clear();
+        itemsByName.clear();
     }
 
 
@@ -50,7 +54,24 @@ public class Inventory {
      * @return The removed item.
      */
     public Item remove(int index) {
-        return items.remove(index);
+        Item item = items.remove(index);
+
+        List<Item> named = itemsByName.get(item.getName());
+        for (int i = 0; i < named.size(); i++) {
+            if (named.get(i) == item) { // The same item, not just an equal one
+                named.remove(i);
+                break;
+            }
+        }
+        if (named.isEmpty()) {
+            itemsByName.remove(item.getName());
+        }
+
+        return item;
+    }
+
+    private void addToIndex(Item item) {
+        itemsByName.computeIfAbsent(item.getName(), name -> new ArrayList<>(1)).add(item);
     }
 
     public void addAll(Inventory other) {
@@ -108,9 +129,11 @@ public class Inventory {
 
             if (!added) {
                 items.add(slot, toTake);
+                addToIndex(toTake);
             }
         } else {
             items.add(slot, item); // add the item to the items list
+            addToIndex(item);
         }
     }
 
@@ -207,8 +230,14 @@ public class Inventory {
 
         int found = 0; // initialize counting var
 
+        // only the items with the same name can stack with it or be equal
+        List<Item> named = itemsByName.get(given.getName());
+        if (named == null) {
+            return 0;
+        }
+
         // assign current item
-        for (Item currentItem : items) { // loop though items in inventory
+        for (Item currentItem : named) { // loop though items in inventory
             // if the item can be a stack...
             if (currentItem instanceof StackableItem && ((StackableItem) currentItem).stacksWith(given)) {
                 found += ((StackableItem) currentItem).count; // add however many items are in the stack.
@@ -5,6 +5,9 @@ import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Items {
 
@@ -25,9 +28,48 @@ public class Items {
      * calling get("item name"); casing does not matter.
      */
     private static final ArrayList<Item> items = new ArrayList<>();
+    private static final HashMap<String, Item> itemsByName = new HashMap<>(); // The same items, by upper case name
+
+    // The names already given to get(), split in the name and the data, since the same ones are asked again and again
+    private static final int MAX_PARSED_NAMES = 4096;
+    private static final Map<String, ParsedName> parsedNames = new ConcurrentHashMap<>(); // Items are also got from the level ticker threads
+
+    private static final class ParsedName {
+        final String name;
+        final int data;
+        final boolean hadUnderscore;
+
+        ParsedName(String name) {
+            name = name.toUpperCase();
+            int data = 1;
+            boolean hadUnderscore = false;
+            if (name.contains("_")) {
+                hadUnderscore = true;
+                try {
+                    data = Integer.parseInt(name.substring(name.indexOf("_") + 1));
+                } catch (Exception exception) {
+                    exception.printStackTrace();
+                }
+                name = name.substring(0, name.indexOf("_"));
+            } else if (name.contains(";")) {
+                hadUnderscore = true;
+                try {
+                    data = Integer.parseInt(name.substring(name.indexOf(";") + 1));
+                } catch (Exception exception) {
+                    exception.printStackTrace();
+                }
+                name = name.substring(0, name.indexOf(";"));
+            }
+
+            this.name = name;
+            this.data = data;
+            this.hadUnderscore = hadUnderscore;
+        }
+    }
 
     private static void add(Item item) {
         items.add(item);
+        itemsByName.putIfAbsent(item.getName().toUpperCase(), item); // The first one with a name is the one found
     }
 
     private static void addAll(ArrayList<Item> items) {
@@ -65,29 +107,38 @@ public class Items {
         return item;
     }
 
+    /**
+     * Returns the item registered with that name itself, not a copy, to compare or count items
+     * without making one. It must NOT be changed or added anywhere, use get() for that.
+     */
+    @NotNull
+    public static Item getPrototype(String name) {
+        Item item = itemsByName.get(name.toUpperCase());
+        if (item == null) {
+            return get(name); // Logs the bad name, and gives an unknown item
+        }
+        return item;
+    }
+
+    private static ParsedName parse(String name) {
+        ParsedName parsed = parsedNames.get(name);
+        if (parsed == null) {
+            parsed = new ParsedName(name);
+            if (parsedNames.size() >= MAX_PARSED_NAMES) {
+                parsedNames.clear(); // Loading lots of different counts shouldn't keep them all
+            }
+            parsedNames.put(name, parsed);
+        }
+        return parsed;
+    }
+
     @Nullable
     public static Item get(String name, boolean allowNull) {
-        name = name.toUpperCase();
         // System.out.println("fetching name: \"" + name + "\"");
-        int data = 1;
-        boolean hadUnderscore = false;
-        if (name.contains("_")) {
-            hadUnderscore = true;
-            try {
-                data = Integer.parseInt(name.substring(name.indexOf("_") + 1));
-            } catch (Exception exception) {
-            	exception.printStackTrace();
-            }
-            name = name.substring(0, name.indexOf("_"));
-        } else if (name.contains(";")) {
-            hadUnderscore = true;
-            try {
-                data = Integer.parseInt(name.substring(name.indexOf(";") + 1));
-            } catch (Exception exception) {
-                exception.printStackTrace();
-            }
-            name = name.substring(0, name.indexOf(";"));
-        }
+        ParsedName parsed = parse(name);
+        name = parsed.name;
+        int data = parsed.data;
+        boolean hadUnderscore = parsed.hadUnderscore;
 
         if (name.equalsIgnoreCase("NULL")) {
             if (allowNull) {
@@ -101,13 +152,7 @@ public class Items {
         if (name.equals("UNKNOWN"))
             return new UnknownItem("BLANK");
 
-        Item item = null;
-        for (Item currentItem : items) {
-            if (currentItem.getName().equalsIgnoreCase(name)) {
-                item = currentItem;
-                break;
-            }
-        }
+        Item item = itemsByName.get(name);
 
         if (item != null) {
             item = item.clone();
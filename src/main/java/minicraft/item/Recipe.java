@@ -11,6 +11,11 @@ public class Recipe {
 	private int amount;
 	private boolean canCraft; // checks if the player can craft the recipe
 
+	// The costs with their items already found, made the first time they are needed
+	private String[] costNames;
+	private Item[] costItems;
+	private int[] costAmounts;
+
 	public Recipe(String createdItem, String... reqItems) {
 		canCraft = false;
 		String[] sep = createdItem.split("_");
@@ -35,6 +40,22 @@ public class Recipe {
 		}
 	}
 
+	/** Finds the items of the costs once, instead of searching and copying them in every check. */
+	private void resolveCosts() {
+		if (costItems != null) {
+			return;
+		}
+
+		costNames = costs.keySet().toArray(new String[0]);
+		costAmounts = new int[costNames.length];
+		Item[] items = new Item[costNames.length];
+		for (int i = 0; i < costNames.length; i++) {
+			items[i] = Items.getPrototype(costNames[i]);
+			costAmounts[i] = costs.get(costNames[i]);
+		}
+		costItems = items;
+	}
+
 	public boolean checkCanCraft(Player player) {
 		canCraft = getCanCraft(player);
 		return canCraft;
@@ -48,8 +69,9 @@ public class Recipe {
 
 		if (!Game.isMode("Creative")) {
 			// remove the cost items from the inventory.
-			for (String cost : costs.keySet().toArray(new String[0])) {
-				if (!cost.contains("GRIMOIRE")) player.getInventory().removeItems(Items.get(cost), costs.get(cost));
+			resolveCosts();
+			for (int i = 0; i < costItems.length; i++) {
+				if (!costNames[i].contains("GRIMOIRE")) player.getInventory().removeItems(costItems[i], costAmounts[i]);
 			}
 		}
 
@@ -75,10 +97,16 @@ public class Recipe {
 			return true;
 		}
 
-		for (String cost : costs.keySet().toArray(new String[0])) { // cycles through the costs list
+		return hasCosts(player.getInventory());
+	}
+
+	/** Checks if the inventory has all the costs of the recipe */
+	boolean hasCosts(Inventory inventory) {
+		resolveCosts();
+		for (int i = 0; i < costItems.length; i++) { // cycles through the costs list
 			/// this method ONLY WORKS if costs does not contain two elements such that
 			/// inventory.count will count an item it contains as matching more than once.
-			if (player.getInventory().count(Items.get(cost)) < costs.get(cost)) {
+			if (inventory.count(costItems[i]) < costAmounts[i]) {
 				return false;
 			}
 		}
@@ -0,0 +1,105 @@
+package minicraft.level;
+
+import minicraft.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of the entities in a level.
+ *
+ * The level is split in square cells of {@code CELL_TILES} tiles, each cell keeps the
+ * entities whose center was inside it the last time the entity was (re)indexed. Entity
+ * coordinates are public fields and are written from many places, so the level calls
+ * {@link #update(Entity)} after every entity tick and after every move; queries are
+ * widened by {@code MARGIN} pixels to cover hitboxes and positions that changed since.
+ */
+class EntityGrid {
+
+	private static final int CELL_SHIFT = 7; // 128 pixels, 8 tiles per cell side
+	private static final int MARGIN = 32; // bigger than any entity hitbox radius
+
+	private final int cols, rows;
+	private final List<List<Entity>> cells;
+	private final Map<Entity, Integer> cellOf = new IdentityHashMap<>();
+
+	EntityGrid(int w, int h) {
+		cols = Math.max(1, ((w << 4) >> CELL_SHIFT) + 1);
+		rows = Math.max(1, ((h << 4) >> CELL_SHIFT) + 1);
+
+		cells = new ArrayList<>(cols * rows);
+		for (int i = 0; i < cols * rows; i++) {
+			cells.add(new ArrayList<>(4));
+		}
+	}
+
+	// Entities outside of the map are kept in the border cells
+	private static int clamp(int cell, int count) {
+		return Math.min(Math.max(cell, 0), count - 1);
+	}
+
+	private int cellIndex(int x, int y) {
+		return clamp(x >> CELL_SHIFT, cols) + clamp(y >> CELL_SHIFT, rows) * cols;
+	}
+
+	void add(Entity entity) {
+		if (cellOf.containsKey(entity)) {
+			update(entity);
+			return;
+		}
+
+		int cell = cellIndex(entity.x, entity.y);
+		cells.get(cell).add(entity);
+		cellOf.put(entity, cell);
+	}
+
+	void remove(Entity entity) {
+		Integer cell = cellOf.remove(entity);
+		if (cell != null) {
+			cells.get(cell).remove(entity);
+		}
+	}
+
+	/** Moves the entity to the cell that matches its current position. */
+	void update(Entity entity) {
+		Integer cell = cellOf.get(entity);
+		if (cell == null) return;
+
+		int current = cellIndex(entity.x, entity.y);
+		if (current != cell) {
+			cells.get(cell).remove(entity);
+			cells.get(current).add(entity);
+			cellOf.put(entity, current);
+		}
+	}
+
+	void clear() {
+		for (List<Entity> cell : cells) {
+			cell.clear();
+		}
+		cellOf.clear();
+	}
+
+	int size() {
+		return cellOf.size();
+	}
+
+	/**
+	 * Adds to {@code result} every entity indexed in the cells that overlap the given
+	 * pixel area (bounds inclusive). The caller still has to test the exact positions.
+	 */
+	void collect(int x0, int y0, int x1, int y1, List<Entity> result) {
+		int cx0 = clamp((x0 - MARGIN) >> CELL_SHIFT, cols);
+		int cy0 = clamp((y0 - MARGIN) >> CELL_SHIFT, rows);
+		int cx1 = clamp((x1 + MARGIN) >> CELL_SHIFT, cols);
+		int cy1 = clamp((y1 + MARGIN) >> CELL_SHIFT, rows);
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				result.addAll(cells.get(cx + cy * cols));
+			}
+		}
+	}
+}
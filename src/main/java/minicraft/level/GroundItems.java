@@ -0,0 +1,102 @@
+package minicraft.level;
+
+import minicraft.entity.Entity;
+import minicraft.entity.ItemEntity;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Keeps the items on the ground of a level, from the oldest to the newest. Every so often the
+ * stacks of the same item that are near each other become one, and when there are more than
+ * {@link #MAX_ITEMS} the oldest ones are removed.
+ *
+ * The items are added and removed at the same time as the entities of the level.
+ */
+class GroundItems {
+
+	static final int MAX_ITEMS = 512;
+	private static final int MERGE_INTERVAL = 20; // In ticks
+	private static final int MERGE_DISTANCE = 8; // In pixels, on each axis
+
+	private final Level level;
+	private final LinkedHashSet<ItemEntity> items = new LinkedHashSet<>(); // In the order they were added
+
+	private int ticks;
+	private int merged; // How many items have been merged into another one
+	private int evicted; // How many items the cap has removed
+
+	GroundItems(Level level) {
+		this.level = level;
+	}
+
+	/** Called when an entity is added to the level, nothing happens if it's already there. */
+	void add(Entity entity) {
+		if (entity instanceof ItemEntity) {
+			items.add((ItemEntity) entity);
+		}
+	}
+
+	/** Called when an entity is removed from the level, nothing happens if it's not there. */
+	void remove(Entity entity) {
+		if (entity instanceof ItemEntity) {
+			items.remove(entity);
+		}
+	}
+
+	void clear() {
+		items.clear();
+	}
+
+	void tick() {
+		if (++ticks % MERGE_INTERVAL == 0) {
+			merge();
+		}
+		removeOverCap();
+	}
+
+	/** Each item takes the ones near it that stack with it, the oldest items are the ones that stay. */
+	private void merge() {
+		for (ItemEntity item : items.toArray(new ItemEntity[0])) {
+			if (item.isRemoved() || !item.isStackable()) continue;
+
+			int xt = item.x >> 4;
+			int yt = item.y >> 4;
+			List<Entity> near = level.getEntitiesInTiles(xt - 1, yt - 1, xt + 1, yt + 1, true, ItemEntity.class);
+			for (Entity entity : near) {
+				if (entity == item || Math.abs(entity.x - item.x) > MERGE_DISTANCE || Math.abs(entity.y - item.y) > MERGE_DISTANCE) continue;
+
+				if (item.absorb((ItemEntity) entity)) {
+					items.remove(entity);
+					merged++;
+				}
+			}
+		}
+	}
+
+	/** Removes the oldest items, until there are no more than the max. The items that never go away are kept. */
+	private void removeOverCap() {
+		Iterator<ItemEntity> it = items.iterator();
+		while (items.size() > MAX_ITEMS && it.hasNext()) {
+			ItemEntity item = it.next();
+			if (!item.isPermanent()) {
+				item.remove();
+				it.remove();
+				evicted++;
+			}
+		}
+	}
+
+	int getCount() {
+		return items.size();
+	}
+
+	int getMerged() {
+		return merged;
+	}
+
+	int getEvicted() {
+		return evicted;
+	}
+}
@@ -11,13 +11,17 @@ import minicraft.entity.ItemEntity;
 import minicraft.entity.Spark;
 import minicraft.entity.furniture.*;
 import minicraft.entity.mob.*;
+import minicraft.entity.particle.Particle;
+import minicraft.entity.particle.ParticleSystem;
 import minicraft.graphic.Point;
 import minicraft.graphic.Rectangle;
 import minicraft.graphic.Screen;
 import minicraft.item.Item;
+import minicraft.item.StackableItem;
 import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 import minicraft.level.tile.TorchTile;
+import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
 
 import java.util.*;
@@ -52,6 +56,17 @@ public class Level {
 	// the mob cap is reached. I hope that makes sense...
 	private static final int MOB_SPAWN_FACTOR = 100;
 
+	// What spawns in each place, see trySpawn(), the mobs are only made once the place is checked
+	private static final SpawnTable NIGHT_ENEMIES = new SpawnTable().add(25, Zombie.class).add(25, Skeleton.class).add(25, Creeper.class).none(25);
+	private static final SpawnTable DUNGEON_ENEMIES = new SpawnTable().add(50, Snake.class).add(50, Knight.class);
+	private static final SpawnTable CAVE_ENEMIES = new SpawnTable().add(20, Slime.class).add(20, Zombie.class).add(20, OldGolem.class).add(20, Skeleton.class).add(20, Creeper.class);
+	private static final SpawnTable NETHER_ENEMIES = new SpawnTable().add(41, Skeleton.class).none(59);
+	private static final SpawnTable PASSIVE_MOBS = new SpawnTable().add(36, Cow.class).add(8, Chicken.class).add(6, Pig.class).add(50, Sheep.class);
+	private static final SpawnTable FROST_MOBS = new SpawnTable().add(51, GuiMan.class).add(49, Goat.class);
+	private static final SpawnTable FIREFLIES = new SpawnTable().add(26, Firefly.class).none(74);
+	private static final SpawnTable SKY_PASSIVE_MOBS = new SpawnTable().add(1, Phyg.class, Sheepuff.class);
+	private static final SpawnTable SKY_ENEMIES = new SpawnTable().add(41, Slime.class).add(35, Zombie.class).add(6, Creeper.class).add(3, Skeleton.class).add(15, OldGolem.class);
+
 	public int w, h;
 	public int size;
 	private final long seed; // The used seed that was used to generate the world
@@ -86,12 +101,25 @@ public class Level {
 	 * I will be using this lock to avoid concurrency exceptions in entities and sparks set
 	 */
 	private final Object entityLock = new Object(); // I will be using this lock to avoid concurrency exceptions in entities and sparks set
+	private final Object entityQueueLock = new Object(); // For the entities to add and remove, the game thread can add to them while this level ticks in the background
 	private final Set<Entity> entities = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the entities in the world
 	private final Set<Spark> sparks = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the sparks in the world
 	private final Set<Fireball> fireballs = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the sparks in the world
 	private final Set<Player> players = java.util.Collections.synchronizedSet(new HashSet<>()); // A list of all the players in the world
 	private final List<Entity> entitiesToAdd = new ArrayList<>(); /// entities that will be added to the level on next tick are stored here. This is for the sake of multithreading optimization. (hopefully)
 	private final List<Entity> entitiesToRemove = new ArrayList<>(); /// entities that will be removed from the level on next tick are stored here. This is for the sake of multithreading optimization. (hopefully)
+	private final EntityGrid entityGrid; // Spatial index of the entities, sparks and fireballs above, used by the area queries
+	private final TileRenderCache renderCache; // The tiles already drawn, renderBackground() copies them
+	private final LightMap lightMap; // The tiles that give light, used by renderLight()
+	private final TickedTiles tickedTiles; // The tiles that do something when ticked, the only ones picked by tickTiles()
+	private final MobPopulation mobPopulation; // The mobs of the level by kind, used by the mob cap
+	private final GroundItems groundItems; // The items on the ground, merged and capped
+	private final TileChanges tileChanges; // The tiles that changed, only kept for the server
+	private final ParticleSystem particles = new ParticleSystem(); // Not in the entities, see add(Particle)
+
+	// Where some tiles are near, made the first time each one is asked for, see isTileNear() and isLight()
+	private final Map<Integer, ProximityField> proximityFields = new HashMap<>();
+	private final List<ProximityField> proximityFieldList = new ArrayList<>();
 
 	// Creates a sorter for all the entities to be rendered.
 	//private static Comparator<Entity> spriteSorter = Comparator.comparingInt(e -> e.y); // Broken
@@ -156,6 +184,19 @@ public class Level {
 
 	/** Level which the world is contained in */
 	public Level(int w, int h, long seed, int level, Level parentLevel, boolean makeWorld) {
+		this(w, h, seed, level, parentLevel, makeWorld ? LevelGen.createAndValidateMap(w, h, level, seed) : null, makeWorld);
+	}
+
+	/**
+	 * Level made from maps that were already generated with {@link LevelGen#createAndValidateMap(int, int, int, long)},
+	 * so the maps of all the levels can be generated at the same time. Only the stairs and
+	 * structures are done here, since they depend on the parent level.
+	 */
+	public Level(int w, int h, long seed, int level, Level parentLevel, short[][] maps) {
+		this(w, h, seed, level, parentLevel, maps, true);
+	}
+
+	private Level(int w, int h, long seed, int level, Level parentLevel, @Nullable short[][] maps, boolean makeWorld) {
 		depth = level; // assigns the depth variable
 		size = w * h;
 		this.w = w; // Assigns the width
@@ -163,8 +204,13 @@ public class Level {
 		this.seed = seed;
 
         random = new Random(seed);
-
-		short[][] maps; // Multidimensional array (an array within a array), used for the map
+        entityGrid = new EntityGrid(w, h);
+        renderCache = new TileRenderCache(this);
+        lightMap = new LightMap(this);
+        tickedTiles = new TickedTiles(this);
+        mobPopulation = new MobPopulation(this);
+        groundItems = new GroundItems(this);
+        tileChanges = new TileChanges(this);
 
 		if (level != -4 && level != 0) {
 			monsterDensity = 9;
@@ -180,7 +226,6 @@ public class Level {
 
 		if (Game.debug) Logger.debug("Generating level {} ...", level);
 
-		maps = LevelGen.createAndValidateMap(w, h, level, seed);
 		if (maps == null) {
 			Logger.error("Level generation: returned maps array is null");
 			return;
@@ -204,21 +249,21 @@ public class Level {
 		if (parentLevel != null) { // If the level above this one is not null (aka, if this isn't the sky level)
 			for (int y = 0; y < h; y++) { // Loop through height
 				for (int x = 0; x < w; x++) { // Loop through width
-					if (parentLevel.getTile(x, y) == Tiles.get("Stairs Down")) { // If the tile in the level above the current one is a stairs down then...
+					if (parentLevel.getTile(x, y) == Tiles.STAIRS_DOWN) { // If the tile in the level above the current one is a stairs down then...
 						if (level == -4) { /// Make the obsidian wall formation around the stair in the dungeon level
 							Structure.dungeonGate.draw(this, w / 2, h / 2);
 
 						} else if (level == 0) { // Surface
 							// Surround the sky stairs with hard rock
 							Logger.trace("Setting tiles around {}, {} to hard rock ...", x, y);
-							setAreaTiles(x, y, 1, Tiles.get("Hard Rock"), 0);
+							setAreaTiles(x, y, 1, Tiles.HARD_ROCK, 0);
 
 						} else {
 							// Any other level, the up-stairs should have dirt on all sides.
-							setAreaTiles(x, y, 1, Tiles.get("Dirt"), 0);
+							setAreaTiles(x, y, 1, Tiles.DIRT, 0);
 						}
 
-						setTile(x, y, Tiles.get("Stairs Up")); // Set a stairs up tile in the same position on the current level
+						setTile(x, y, Tiles.STAIRS_UP); // Set a stairs up tile in the same position on the current level
 					}
 				}
 			}
@@ -238,7 +283,7 @@ public class Level {
 		checkAirWizard();
 
 		if (Game.debug) {
-			printTileLocs(Tiles.get("Stairs Down"));
+			printTileLocs(Tiles.STAIRS_DOWN);
 		}
 
         // Initialize the explored array for all map pixels to false
@@ -321,41 +366,44 @@ public class Level {
 		}
 
 		/// Make DungeonChests!
+		int[] obsidian = null; // Where the chests can go, the chests don't change the tiles
 		for (int i = numChests; i < 10 * (w / 128); i++) {
+			if (obsidian == null) {
+				obsidian = findTiles(Tiles.OBSIDIAN);
+			}
+			if (obsidian.length == 0) {
+				Logger.warn("No obsidian in the dungeon to place {} more dungeon chests", 10 * (w / 128) - i);
+				break;
+			}
+
 			DungeonChest dungeonChest = new DungeonChest(true);
-			boolean addedchest = false;
-			while (!addedchest) { // Keep running until we successfully add a DungeonChest
-
-				// Pick a random tile:
-				int x2 = random.nextInt(16 * w) >> 4;
-				int y2 = random.nextInt(16 * h) >> 4;
-
-				if (getTile(x2, y2) == Tiles.get("Obsidian")) {
-					boolean xaxis = random.nextBoolean();
-					if (xaxis) {
-						for (int s = x2; s < w - s; s++) {
-							if (getTile(s, y2) == Tiles.get("Obsidian Wall")) {
-								dungeonChest.x = s * 16 - 24;
-								dungeonChest.y = y2 * 16 - 24;
-							}
-						}
-					} else { // y axis
-						for (int s = y2; s < y2 - s; s++) {
-							if (getTile(x2, s) == Tiles.get("Obsidian Wall")) {
-								dungeonChest.x = x2 * 16 - 24;
-								dungeonChest.y = s * 16 - 24;
-							}
-						}
+			// Pick a random obsidian tile:
+			int position = obsidian[random.nextInt(obsidian.length)];
+			int x2 = position % w;
+			int y2 = position / w;
+
+			boolean xaxis = random.nextBoolean();
+			if (xaxis) {
+				for (int s = x2; s < w - s; s++) {
+					if (getTile(s, y2) == Tiles.OBSIDIAN_WALL) {
+						dungeonChest.x = s * 16 - 24;
+						dungeonChest.y = y2 * 16 - 24;
 					}
-					if (dungeonChest.x == 0 && dungeonChest.y == 0) {
-						dungeonChest.x = x2 * 16 - 8;
-						dungeonChest.y = y2 * 16 - 8;
+				}
+			} else { // y axis
+				for (int s = y2; s < y2 - s; s++) {
+					if (getTile(x2, s) == Tiles.OBSIDIAN_WALL) {
+						dungeonChest.x = x2 * 16 - 24;
+						dungeonChest.y = s * 16 - 24;
 					}
-					add(dungeonChest);
-					chestCount++;
-					addedchest = true;
 				}
 			}
+			if (dungeonChest.x == 0 && dungeonChest.y == 0) {
+				dungeonChest.x = x2 * 16 - 8;
+				dungeonChest.y = y2 * 16 - 8;
+			}
+			add(dungeonChest);
+			chestCount++;
 		}
 	}
 
@@ -373,36 +421,20 @@ public class Level {
 
 		if (entity.isRemoved() || entity.getLevel() != this) {
 			remove(entity);
+		} else {
+			entityGrid.update(entity); // the entity could have been moved without move()
 		}
 	}
 
-	public void tick(boolean fullTick) {
-		int count = 0;
+	/** Updates the position of the entity in the spatial index, called when an entity moves */
+	public void entityMoved(Entity entity) {
+		entityGrid.update(entity);
+	}
 
+	public void tick(boolean fullTick) {
 		updateMobCap();
 
-		while (!entitiesToAdd.isEmpty()) {
-			Entity entity = entitiesToAdd.get(0);
-			boolean inLevel = entities.contains(entity);
-
-			if (!inLevel) {
-				if (Game.debug) printEntityStatus("Adding ", entity, "furniture.DungeonChest", "mob.AirWizard", "mob.Player");
-
-				synchronized (entityLock) {
-					if (entity instanceof Spark) {
-						sparks.add((Spark) entity);
-					} else if (entity instanceof Fireball) {
-						fireballs.add((Fireball) entity);
-					} else {
-						entities.add(entity);
-						if (entity instanceof Player) {
-							players.add((Player) entity);
-						}
-					}
-				}
-			}
-			entitiesToAdd.remove(entity);
-		}
+		addQueuedEntities();
 
 
 		// LEVEL AMBIENT LOOPS!
@@ -424,42 +456,146 @@ public class Level {
 
 		if (fullTick) {
 			// this prevents any entity (or tile) tick action from happening on a server level with no players.
+			tickTiles();
+			tickEntities();
+			particles.tick();
+			mobPopulation.removeOverCap(maxMobCount, random);
+			groundItems.tick();
+		}
 
-			for (int i = 0; i < size / 50; i++) {
-				int xt = random.nextInt(w);
-				int yt = random.nextInt(h);
-				getTile(xt, yt).tick(this, xt, yt);
-			}
+		removeQueuedEntities();
 
-			// entity loop
+		mobCount = mobPopulation.getCount();
 
-			for (Entity entity: entities) {
-				tickEntity(entity);
-				if (entity instanceof Mob) {
-					count++;
-				}
-			}
+		if (fullTick && mobCount < maxMobCount) {
+			trySpawn();
+		}
+	}
+
+	/**
+	 * Ticks this level while the player is in another one, called by the {@link minicraft.core.LevelTicker} thread that owns it.
+	 * Runs the given number of tile and entity ticks at once, without the sounds and music or the mob spawns of the current level.
+	 */
+	public void tickInBackground(int ticks) {
+		updateMobCap();
 
-			sparks.forEach(this::tickEntity);
-			fireballs.forEach(this::tickEntity);
+		addQueuedEntities();
+
+		for (int i = 0; i < ticks; i++) {
+			tickTiles();
+			tickEntities();
+			particles.tick();
 		}
 
-		while (count > maxMobCount) {
-			Entity removeThis = (Entity) entities.toArray()[(random.nextInt(entities.size()))];
-			if ((removeThis instanceof MobAi) && !(removeThis instanceof VillagerMob)) {
-				// make sure there aren't any close players
-				boolean playerClose = entityNearPlayer(removeThis);
+		mobPopulation.removeOverCap(maxMobCount, random);
+		groundItems.tick();
+
+		removeQueuedEntities();
+
+		mobCount = mobPopulation.getCount();
+	}
+
+	private void tickTiles() {
+		tickedTiles.tick(random);
+	}
+
+	/** How many tiles of the level do something when ticked. */
+	public int getTickedTileCount() {
+		return tickedTiles.getCount();
+	}
+
+	/** How long ticking the tiles of the level takes, smoothed, in nanoseconds. */
+	public double getTileTickTime() {
+		return tickedTiles.getTickTime();
+	}
+
+	/** How many enemy mobs are in the level. */
+	public int getEnemyMobCount() {
+		return mobPopulation.getCount(MobPopulation.Category.ENEMY);
+	}
+
+	/** How many passive mobs are in the level. */
+	public int getPassiveMobCount() {
+		return mobPopulation.getCount(MobPopulation.Category.PASSIVE);
+	}
+
+	/** How many villagers are in the level. */
+	public int getVillagerCount() {
+		return mobPopulation.getCount(MobPopulation.Category.VILLAGER);
+	}
+
+	/** How many mobs have been removed from the level because there were more than the max. */
+	public int getEvictedMobCount() {
+		return mobPopulation.getEvicted();
+	}
+
+	/** How many particles are in the level. */
+	public int getParticleCount() {
+		return particles.getCount();
+	}
+
+	/** How many particles were not added because the level had as many as it can. */
+	public int getDroppedParticleCount() {
+		return particles.getDropped();
+	}
+
+	/** How many items are on the ground in the level. */
+	public int getItemEntityCount() {
+		return groundItems.getCount();
+	}
+
+	/** How many items on the ground have been merged into a stack near them. */
+	public int getMergedItemCount() {
+		return groundItems.getMerged();
+	}
 
-				if (!playerClose) {
-					remove(removeThis);
-					count--;
+	/** How many items on the ground have been removed because there were more than the max. */
+	public int getEvictedItemCount() {
+		return groundItems.getEvicted();
+	}
+
+	private void tickEntities() {
+		// entity loop
+		for (Entity entity: entities) {
+			tickEntity(entity);
+		}
+
+		sparks.forEach(this::tickEntity);
+		fireballs.forEach(this::tickEntity);
+	}
+
+	private void addQueuedEntities() {
+		Entity entity;
+		while ((entity = nextQueued(entitiesToAdd)) != null) {
+			boolean inLevel = entities.contains(entity);
+
+			if (!inLevel) {
+				if (Game.debug) printEntityStatus("Adding ", entity, "furniture.DungeonChest", "mob.AirWizard", "mob.Player");
+
+				synchronized (entityLock) {
+					if (entity instanceof Spark) {
+						sparks.add((Spark) entity);
+					} else if (entity instanceof Fireball) {
+						fireballs.add((Fireball) entity);
+					} else {
+						entities.add(entity);
+						if (entity instanceof Player) {
+							players.add((Player) entity);
+						}
+					}
+					entityGrid.add(entity);
 				}
 			}
-		}
 
-		while (!entitiesToRemove.isEmpty()) {
-			Entity entity = entitiesToRemove.get(0);
+			// Also if the cap took it out, and it was added again before it was removed
+			mobPopulation.add(entity);
+			groundItems.add(entity);
+		}
+	}
 
+	private void removeQueuedEntities() {
+		Entity entity;
+		while ((entity = nextQueued(entitiesToRemove)) != null) {
 			if (Game.debug) printEntityStatus("Removing ", entity, "mob.Player");
 
 			entity.remove(this); // this will safely fail if the entity's level doesn't match this one.
@@ -470,18 +606,22 @@ public class Level {
 				fireballs.remove(entity);
 			} else {
 				entities.remove(entity);
+				mobPopulation.remove(entity);
+				groundItems.remove(entity);
 			}
+			entityGrid.remove(entity);
 
 			if (entity instanceof Player) {
 				players.remove(entity);
 			}
-			entitiesToRemove.remove(entity);
 		}
+	}
 
-		mobCount = count;
-
-		if (fullTick && count < maxMobCount) {
-			trySpawn();
+	/** Takes the next entity out of one of the queues, they can be added to from the game thread while this level ticks in the background. */
+	@Nullable
+	private Entity nextQueued(List<Entity> queue) {
+		synchronized (entityQueueLock) {
+			return queue.isEmpty() ? null : queue.remove(0);
 		}
 	}
 
@@ -521,8 +661,19 @@ public class Level {
 	}
 
 	public void dropItem(int x, int y, int count, Item...items) {
-		for (int i = 0; i < count; i++) {
-			dropItem(x, y, items);
+		for (Item item: items) {
+			if (item instanceof StackableItem) {
+				// One stack with all of them instead of an entity for each one
+				StackableItem stack = ((StackableItem) item).clone();
+				stack.count *= count;
+				if (stack.count > 0) {
+					dropItem(x, y, stack);
+				}
+			} else {
+				for (int i = 0; i < count; i++) {
+					dropItem(x, y, item);
+				}
+			}
 		}
 	}
 
@@ -547,20 +698,11 @@ public class Level {
 
 	/** This method renders all the tiles in the game */
 	public void renderBackground(Screen screen, int xScroll, int yScroll) {
-		int xo = xScroll >> 4; // The game's horizontal scroll offset
-		int yo = yScroll >> 4; // The game's vertical scroll offset
-
-		int w = (Screen.w) >> 4; // Width of the screen being rendered
-		int h = (Screen.h) >> 4; // Height of the screen being rendered
-
 		// Sets the scroll offsets
 		screen.setOffset(xScroll, yScroll);
 
-		for (int y = yo; y <= h + yo; y++) { // Loops through the vertical positions
-			for (int x = xo; x <= w + xo; x++) { // Loops through the horizontal positions
-				getTile(x, y).render(screen, this, x, y); // Renders the tile on the screen
-			}
-		}
+		// Copies the tiles that didn't change, and renders the rest on the screen
+		renderCache.render(screen, xScroll, yScroll);
 
 		// Resets the offset
 		screen.setOffset(0, 0);
@@ -579,6 +721,9 @@ public class Level {
 		// Sorts and renders the sprites on the screen
 		sortAndRender(screen, getEntitiesInTiles(xo - 1, yo - 1, (xo + w) + 1, (yo + h) + 1));
 
+		// The particles go over the entities
+		particles.render(screen, xScroll - 16, yScroll - 16, xScroll + Screen.w + 16, yScroll + Screen.h + 16);
+
 		// Resets the offset
 		screen.setOffset(0, 0);
 	}
@@ -609,20 +754,8 @@ public class Level {
 			}
 		}
 
-		for (int y = yo - radius; y <= yBound; y++) { // Loops through the vertical positions + rBound
-			for (int x = xo - radius; x <= xBound; x++) { // Loops through the horizontal positions + rBound
-				// If the x & y positions of the sprites are within the map's boundaries
-				if (x < 0 || y < 0 || x >= this.w || y >= this.h) continue;
-
-				// Gets the light radius from local tiles (like lava)
-				int lightRadius = getTile(x, y).getLightRadius(this, x, y);
-
-				// If the light radius is above 0, then render the light
-				if (lightRadius > 0) {
-					screen.renderLight((x << 4) + 8, (y << 4) + 8, lightRadius * brightness);
-				}
-			}
-		}
+		// Renders the light from local tiles (like lava), only the ones that give light are looked at
+		lightMap.renderLights(screen, xo - radius, yo - radius, xBound, yBound, brightness);
 
 		// Resets the offset
 		screen.setOffset(0, 0);
@@ -675,8 +808,91 @@ public class Level {
 		// If the tile request position is outside the world boundaries, then stop the method
 		if (x < 0 || y < 0 || x >= w || y >= h) return;
 
+		if (tiles[x + y * w] != tile.id || data[x + y * w] != (short) dataValue) {
+			renderCache.invalidate(x, y); // Redraws the tile, and the ones connected to it
+		}
+
+		Tile oldTile = tiles[x + y * w] != tile.id && !proximityFieldList.isEmpty() ? getTile(x, y) : null;
+
 		tiles[x + y * w] = tile.id; // Places the tile at the x & y location
 		data[x + y * w] = (short) dataValue; // Sets the data value of the tile
+
+		lightMap.update(x, y);
+		tickedTiles.update(x, y);
+		tileChanges.update(x, y);
+
+		if (oldTile != null) {
+			for (int i = 0; i < proximityFieldList.size(); i++) {
+				proximityFieldList.get(i).update(x, y, oldTile, tile);
+			}
+		}
+	}
+
+	/**
+	 * Sets a row of tiles at once, the same as calling setTile() for each one, used to draw the
+	 * structures. The ids and data are taken from the arrays, starting at the offset.
+	 */
+	void setTileRow(int x, int y, short[] ids, short[] data, int offset, int length) {
+		// Only the part of the row inside the world
+		if (y < 0 || y >= h) return;
+		if (x < 0) {
+			offset -= x;
+			length += x;
+			x = 0;
+		}
+		length = Math.min(length, w - x);
+
+		for (int i = 0; i < length; i++) {
+			int position = x + i + y * w;
+			short id = ids[offset + i];
+			short value = data[offset + i];
+			if (tiles[position] == id && this.data[position] == value) {
+				continue; // Nothing changes
+			}
+
+			renderCache.invalidate(x + i, y);
+
+			Tile oldTile = tiles[position] != id && !proximityFieldList.isEmpty() ? getTile(x + i, y) : null;
+
+			tiles[position] = id;
+			this.data[position] = value;
+
+			lightMap.update(x + i, y);
+			tickedTiles.update(x + i, y);
+			tileChanges.update(x + i, y);
+
+			if (oldTile != null) {
+				Tile newTile = getTile(x + i, y);
+				for (int j = 0; j < proximityFieldList.size(); j++) {
+					proximityFieldList.get(j).update(x + i, y, oldTile, newTile);
+				}
+			}
+		}
+	}
+
+	/** Starts keeping which tiles change, see takeTileChanges(). */
+	public void trackTileChanges() {
+		tileChanges.start();
+	}
+
+	/** The positions (x + y * w) of the tiles that changed since the last call, once each. */
+	public int[] takeTileChanges() {
+		return tileChanges.take();
+	}
+
+	/** Finds where all the tiles of a kind are, as positions (x + y * w), in order. */
+	private int[] findTiles(Tile tile) {
+		int count = 0;
+		for (int i = 0; i < tiles.length; i++) {
+			if (tiles[i] == tile.id) count++;
+		}
+
+		int[] positions = new int[count];
+		count = 0;
+		for (int i = 0; i < tiles.length; i++) {
+			if (tiles[i] == tile.id) positions[count++] = i;
+		}
+		return positions;
 	}
 
 	/** Gets the data from the x & y position */
@@ -693,8 +909,21 @@ public class Level {
 		// If the data request position is outside the world boundaries, then stop the method
 		if (x < 0 || y < 0 || x >= w || y >= h) return;
 
+		if (data[x + y * w] != (short) value) {
+			renderCache.invalidate(x, y);
+		}
+
 		// sets the data as a short (16-bits) for the data
 		data[x + y * w] = (short) value;
+
+		lightMap.update(x, y); // the light of a torch depends on the data
+		tickedTiles.update(x, y); // and some tiles are only ticked while damaged
+		tileChanges.update(x, y);
+	}
+
+	/** Frees the tiles kept by renderBackground(), called when the player leaves this level */
+	public void clearRenderCache() {
+		renderCache.clear();
 	}
 
 	/** Adds a entity to the level */
@@ -721,17 +950,26 @@ public class Level {
 
 		entity.setLevel(this, x, y);
 
-		entitiesToRemove.remove(entity); // to make sure the most recent request is satisfied
-		if (!entitiesToAdd.contains(entity)) {
-			entitiesToAdd.add(entity);
+		synchronized (entityQueueLock) {
+			entitiesToRemove.remove(entity); // to make sure the most recent request is satisfied
+			if (!entitiesToAdd.contains(entity)) {
+				entitiesToAdd.add(entity);
+			}
 		}
 	}
 
+	/** Adds a particle, it lives in the particles of the level instead of the entities */
+	public void add(Particle particle) {
+		particles.add(particle);
+	}
+
 	/** Removes a entity */
 	public void remove(Entity entity) {
-		entitiesToAdd.remove(entity);
-		if (!entitiesToRemove.contains(entity)) {
-			entitiesToRemove.add(entity);
+		synchronized (entityQueueLock) {
+			entitiesToAdd.remove(entity);
+			if (!entitiesToRemove.contains(entity)) {
+				entitiesToRemove.add(entity);
+			}
 		}
 	}
 
@@ -756,71 +994,39 @@ public class Level {
 			if (!peaceful) {
 				lvl = random.nextInt(maxLevel - minLevel + 1) + minLevel;
 			}
-			int spawnChance = random.nextInt(100);
 			int nx = (random.nextInt(w) << 4) + 8;
 			int ny = (random.nextInt(h) << 4) + 8;
 
-			// System.out.println("trySpawn on level " + depth + " of lvl " + lvl + " mob w/rand " + random + " at tile " + nx + "," + ny);
-
 			// spawns the enemy mobs; first part prevents enemy mob spawn on surface and the sky on first day, more or less.
 			if (!peaceful) {
 			    if ((depth != 1 && depth != 2) && EnemyMob.checkStartPos(this, nx, ny)) {
 			        if (depth == 0 && Updater.getTime() == Updater.Time.Night && !Game.player.isNiceNight) {
-			            EnemyMob[] mobs = {new Zombie(lvl), new Skeleton(lvl), new Creeper(lvl)};
-			            int mobIndex = spawnChance / 25;
-			            if (mobIndex >= 0 && mobIndex < mobs.length) {
-			                add(mobs[mobIndex], nx, ny);
-			            }
+			            NIGHT_ENEMIES.spawn(this, random, nx, ny, lvl);
 			        } else if (depth == -4) {
-			            EnemyMob[] mobs = {new Snake(lvl), new Knight(lvl)};
-			            int mobIndex = spawnChance / 50;
-			            if (mobIndex >= 0 && mobIndex < mobs.length) {
-			                add(mobs[mobIndex], nx, ny);
-			            }
-			        } else if (depth == -3 || depth != 0) {
-			            EnemyMob[] mobs = { new Slime(lvl), new Zombie(lvl), new OldGolem(lvl), new Skeleton(lvl), new Creeper(lvl) };
-			            int mobIndex = spawnChance / 20;
-			            if (mobIndex >= 0 && mobIndex < mobs.length) {
-			                add(mobs[mobIndex], nx, ny);
-			            }
+			            DUNGEON_ENEMIES.spawn(this, random, nx, ny, lvl);
+			        } else if (depth != 0) {
+			            CAVE_ENEMIES.spawn(this, random, nx, ny, lvl);
 			        }
 			        spawned = true;
 			    }
 			}
 
-
 			if (depth == 2 && EnemyMob.checkStartPos(this, nx, ny)) { // if nether
-				if (spawnChance <= 40) add((new Skeleton(1)), nx, ny);
+				NETHER_ENEMIES.spawn(this, random, nx, ny, 1);
 				spawned = true;
 			}
 
 			// Spawn mobs on day light
 			if ((depth == 0) && (Updater.getTime() != Updater.Time.Night) && (Updater.getTime() != Updater.Time.Evening)) {
-				//int spawnChance = random.nextInt(100); // This is global only for peaceful mobs
-
 				// Spawns passive mobs
 				if (PassiveMob.checkStartPos(this, nx, ny)) {
-					PassiveMob[] mobs = { new Cow(), new Chicken(), new Pig(), new Sheep() }; // Store all the passive mobs
-					if (spawnChance >= 64) {
-						add(mobs[0], nx, ny);
-					} else if (spawnChance >= 56) {
-						add(mobs[1], nx, ny);
-					} else if (spawnChance >= 50) {
-						add(mobs[2], nx, ny);
-					} else {
-						add(mobs[3], nx, ny);
-					}
+					PASSIVE_MOBS.spawn(this, random, nx, ny, 1);
 					spawned = true;
 				}
 
 				// Spawn frost mobs
 				if (FrostMob.checkStartPos(this, nx, ny)) {
-					FrostMob[] mobs = { new GuiMan(), new Goat() };
-					if (spawnChance <= 50) {
-						add(mobs[0], nx, ny);
-					} else {
-						add(mobs[1], nx, ny);
-					}
+					FROST_MOBS.spawn(this, random, nx, ny, 1);
 					spawned = true;
 				}
 
@@ -828,9 +1034,7 @@ public class Level {
 			} else if (depth == 0 && Updater.getTime() == Updater.Time.Night) {
 				// Spawns a firefly
 				if (Game.player.isNiceNight && FlyMob.checkStartPos(this, nx, ny)) {
-					if (spawnChance >= 50 && spawnChance <= 75) {
-						add(new Firefly(), nx, ny);
-					}
+					FIREFLIES.spawn(this, random, nx, ny, 1);
 					spawned = true;
 				}
 			}
@@ -839,23 +1043,10 @@ public class Level {
 			// they will spawn hostile mobs, if instead, it is defeated they will
 			// spawn peaceful mobs
 			if (depth == 1 && SkyMob.checkStartPos(this, nx, ny)) {
-				if (spawnChance <= (Updater.getTime() == Updater.Time.Night ? 22 : 33) && AirWizard.beaten) { // Spawns passive sky mobs.
-					add((new Phyg()), nx, ny);
-					add((new Sheepuff()), nx, ny);
-				} else { // Spawns hostile sky mobs.
-					if (!peaceful) {
-						if (spawnChance <= 40) {
-							add((new Slime(lvl)), nx, ny);
-						} else if (spawnChance <= 75) {
-							add((new Zombie(lvl)), nx, ny);
-						} else if (spawnChance >= 85) {
-							add((new OldGolem(lvl)), nx, ny);
-						} else if (spawnChance >= 82) {
-							add((new Skeleton(lvl)), nx, ny);
-						} else {
-							add((new Creeper(lvl)), nx, ny);
-						}
-					}
+				if (AirWizard.beaten && random.nextInt(100) <= (Updater.getTime() == Updater.Time.Night ? 22 : 33)) { // Spawns passive sky mobs.
+					SKY_PASSIVE_MOBS.spawn(this, random, nx, ny, 1);
+				} else if (!peaceful) { // Spawns hostile sky mobs.
+					SKY_ENEMIES.spawn(this, random, nx, ny, lvl);
 				}
 				spawned = true;
 			}
@@ -875,7 +1066,15 @@ public class Level {
 	}
 
 	public void clearEntities() {
-		entities.clear();
+		synchronized (entities) {
+			for (Entity entity: entities) {
+				entityGrid.remove(entity);
+			}
+			entities.clear();
+			mobPopulation.clear();
+			groundItems.clear();
+		}
+		particles.clear();
 	}
 
 	public Entity[] getEntityArray() {
@@ -924,8 +1123,8 @@ public class Level {
 	public final List<Entity> getEntitiesInTiles(int xt0, int yt0, int xt1, int yt1, boolean includeGiven, Class<? extends Entity>... entityClasses) {
 	    List<Entity> contained = new ArrayList<>();
 
-	    // Iterate through all entities in the game world
-	    for (Entity entity : getEntityArray()) {
+	    // Iterate through the entities of the grid cells that cover the area
+	    for (Entity entity : getEntitiesNear(xt0 << 4, yt0 << 4, (xt1 << 4) + 15, (yt1 << 4) + 15)) {
 	        // Calculate the tile coordinates of the current entity
 	        int xt = entity.x >> 4;
 	        int yt = entity.y >> 4;
@@ -959,20 +1158,27 @@ public class Level {
 	 * @return True if there is an entity on the tile.
 	 */
 	public final boolean isEntityOnTile(int x, int y) {
-	    boolean found = false;
-	    HashMap<String, Entity> entitiesMap = new HashMap<String, Entity>();
-	    for (Entity entity: getEntityArray()) {
-	        entitiesMap.put((entity.x >> 4) + "," + (entity.y >> 4), entity);
-	    }
-	    if (entitiesMap.containsKey(x + "," + y)){
-	        found = true;
+	    for (Entity entity: getEntitiesNear(x << 4, y << 4, (x << 4) + 15, (y << 4) + 15)) {
+	        if ((entity.x >> 4) == x && (entity.y >> 4) == y) {
+	            return true;
+	        }
 	    }
-	    return found;
+	    return false;
+	}
+
+	/**
+	 * Gets the entities indexed near the given pixel area, these still need to be
+	 * checked against their real position.
+	 */
+	private List<Entity> getEntitiesNear(int x0, int y0, int x1, int y1) {
+		List<Entity> candidates = new ArrayList<>();
+		entityGrid.collect(x0, y0, x1, y1, candidates);
+		return candidates;
 	}
 
 	public List<Entity> getEntitiesInRect(Rectangle area) {
 		List<Entity> result = new ArrayList<>();
-		for (Entity entity: getEntityArray()) {
+		for (Entity entity: getEntitiesNear(area.getLeft(), area.getTop(), area.getRight(), area.getBottom())) {
 			if (entity.isTouching(area)) {
 				result.add(entity);
 			}
@@ -981,8 +1187,11 @@ public class Level {
 	}
 
 	public List<Entity> getEntitiesInRect(Predicate <Entity> filter, Rectangle area) {
-		List<Entity> result = new LinkedList<>();
-		for (Entity entity: entities) {
+		List<Entity> result = new ArrayList<>();
+		for (Entity entity: getEntitiesNear(area.getLeft(), area.getTop(), area.getRight(), area.getBottom())) {
+			if (entity instanceof Spark || entity instanceof Fireball) {
+				continue; // only the main entity set is filtered
+			}
 			if (filter.test(entity) && entity.isTouching(area)) {
 				result.add(entity);
 			}
@@ -993,9 +1202,13 @@ public class Level {
 	/// finds all entities that are an instance of the given entity.
 	public Entity[] getEntitiesOfClass(Class <? extends Entity> targetClass) {
 		ArrayList <Entity> matches = new ArrayList<>();
-		for (Entity entity: getEntityArray()) {
-			if (targetClass.isAssignableFrom(entity.getClass())) {
-				matches.add(entity);
+		for (Set<? extends Entity> set : Arrays.asList(entities, sparks, fireballs)) {
+			synchronized (set) {
+				for (Entity entity: set) {
+					if (targetClass.isAssignableFrom(entity.getClass())) {
+						matches.add(entity);
+					}
+				}
 			}
 		}
 
@@ -1043,17 +1256,14 @@ public class Level {
 	public Point[] getAreaTilePositions(int x, int y, int rx, int ry) {
 	    Point[] positions = new Point[(rx * 2 + 1) * (ry * 2 + 1)];
 	    int index = 0;
-	    Point point = new Point(0,0);
 	    for (int yp = y - ry; yp <= y + ry; yp++) {
 	        for (int xp = x - rx; xp <= x + rx; xp++) {
 	            if (xp >= 0 && xp < w && yp >= 0 && yp < h) {
-	                point.x = xp;
-	                point.y = yp;
-	                positions[index++] = point;
+	                positions[index++] = new Point(xp, yp); // Each one its own, not a single point changed for all
 	            }
 	        }
 	    }
-	    return positions;
+	    return index < positions.length ? Arrays.copyOf(positions, index) : positions; // Without the ones outside of the level
 	}
 
 	public Tile[] getAreaTiles(int x, int y, int r) {
@@ -1127,14 +1337,28 @@ public class Level {
 		return matches;
 	}
 
+	private ProximityField getProximityField(int key, Predicate<Tile> matches, int radius) {
+		ProximityField field = proximityFields.get(key);
+		if (field == null) {
+			field = new ProximityField(this, matches, radius);
+			proximityFields.put(key, field);
+			proximityFieldList.add(field);
+		}
+		return field;
+	}
+
+	/** Checks if the tile is in the square of the radius (up to 5) around the given tile, without looking at every tile there. */
+	public boolean isTileNear(int x, int y, int radius, Tile tile) {
+		return getProximityField((tile.id << 3) | radius, current -> current == tile, radius).isNear(x, y);
+	}
+
 	public boolean isLight(int x, int y) {
-		for (Tile tile: getAreaTiles(x, y, 3)) {
-			if (tile instanceof TorchTile) {
-				return true;
-			}
+		if (getProximityField(-1, tile -> tile instanceof TorchTile, 3).isNear(x, y)) {
+			return true;
 		}
 
-		for (Entity entity : getEntitiesInRect(entity -> entity instanceof Lantern, new Rectangle(x, y, 8, 8, Rectangle.CENTER_DIMS))) {
+		// The lanterns can be moved, so they are found with the entities, as far as the light of the gold lantern goes (15 tiles)
+		for (Entity entity : getEntitiesInTiles(x, y, 15, true, Lantern.class)) {
 			int xx = (entity.x >> 4) - x;
 			int yy = (entity.y >> 4) - y;
 			int rr = entity.getLightRadius() - 1;
@@ -1148,7 +1372,7 @@ public class Level {
 
 	@SuppressWarnings("unused")
 	private boolean noStairs(int x, int y) {
-		return getTile(x, y) != Tiles.get("Stairs Down");
+		return getTile(x, y) != Tiles.STAIRS_DOWN;
 	}
 
 	private void generateSummonStructures() {
@@ -1157,19 +1381,19 @@ public class Level {
 		Statue statue = new Statue();
 		int x3 = random.nextInt(16 * w) >> 4;
 		int y3 = random.nextInt(16 * h) >> 4;
-		if (getTile(x3, y3) == Tiles.get("Dirt")) {
+		if (getTile(x3, y3) == Tiles.DIRT) {
 			boolean xaxis2 = random.nextBoolean();
 
 			if (xaxis2) {
 				for (int s2 = x3; s2 < w - s2; s2++) {
-					if (getTile(s2, y3) == Tiles.get("Rock")) {
+					if (getTile(s2, y3) == Tiles.ROCK) {
 						statue.x = (s2 << 4) - 24;
 						statue.y = (y3 << 4) - 24;
 					}
 				}
 			} else {
 				for (int s2 = y3; s2 < y3 - s2; s2++) {
-					if (getTile(x3, s2) == Tiles.get("Rock")) {
+					if (getTile(x3, s2) == Tiles.ROCK) {
 						statue.x = (x3 << 4) - 24;
 						statue.y = (s2 << 4) - 24;
 					}
@@ -1181,8 +1405,8 @@ public class Level {
 				statue.y = (y3 << 4) - 8;
 			}
 
-			if (getTile(statue.x >> 4, statue.y >> 4) == Tiles.get("Rock")) {
-				setTile(statue.x >> 4, statue.y >> 4, Tiles.get("Dirt"));
+			if (getTile(statue.x >> 4, statue.y >> 4) == Tiles.ROCK) {
+				setTile(statue.x >> 4, statue.y >> 4, Tiles.DIRT);
 			}
 
 			Structure.summonAltar.draw(this, statue.x >> 4, statue.y >> 4);
@@ -1210,19 +1434,19 @@ public class Level {
 			Spawner spawner = new Spawner(mob);
 			int x3 = random.nextInt(16 * w) >> 4;
 			int y3 = random.nextInt(16 * h) >> 4;
-			if (getTile(x3, y3) == Tiles.get("Dirt")) {
+			if (getTile(x3, y3) == Tiles.DIRT) {
 				boolean xaxis2 = random.nextBoolean();
 
 				if (xaxis2) {
 					for (int s2 = x3; s2 < w - s2; s2++) {
-						if (getTile(s2, y3) == Tiles.get("Rock")) {
+						if (getTile(s2, y3) == Tiles.ROCK) {
 							spawner.x = (s2 << 4) - 24;
 							spawner.y = (y3 << 4) - 24;
 						}
 					}
 				} else {
 					for (int s2 = y3; s2 < y3 - s2; s2++) {
-						if (getTile(x3, s2) == Tiles.get("Rock")) {
+						if (getTile(x3, s2) == Tiles.ROCK) {
 							spawner.x = (x3 << 4) - 24;
 							spawner.y = (s2 << 4) - 24;
 						}
@@ -1234,22 +1458,22 @@ public class Level {
 					spawner.y = (y3 << 4) - 8;
 				}
 
-				if (getTile(spawner.x >> 4, spawner.y >> 4) == Tiles.get("Rock")) {
-					setTile(spawner.x >> 4, spawner.y >> 4, Tiles.get("Dirt"));
+				if (getTile(spawner.x >> 4, spawner.y >> 4) == Tiles.ROCK) {
+					setTile(spawner.x >> 4, spawner.y >> 4, Tiles.DIRT);
 				}
 
 				Structure.mobDungeonCenter.draw(this, spawner.x >> 4, spawner.y >> 4);
 
-				if (getTile(spawner.x >> 4, (spawner.y >> 4) - 4) == Tiles.get("Dirt")) {
+				if (getTile(spawner.x >> 4, (spawner.y >> 4) - 4) == Tiles.DIRT) {
 					Structure.mobDungeonNorth.draw(this, spawner.x >> 4, (spawner.y >> 4) - 5);
 				}
-				if (getTile(spawner.x >> 4, (spawner.y >> 4) + 4) == Tiles.get("Dirt")) {
+				if (getTile(spawner.x >> 4, (spawner.y >> 4) + 4) == Tiles.DIRT) {
 					Structure.mobDungeonSouth.draw(this, spawner.x >> 4, (spawner.y >> 4) + 5);
 				}
-				if (getTile((spawner.x >> 4) + 4, spawner.y >> 4) == Tiles.get("Dirt")) {
+				if (getTile((spawner.x >> 4) + 4, spawner.y >> 4) == Tiles.DIRT) {
 					Structure.mobDungeonEast.draw(this, (spawner.x >> 4) + 5, spawner.y >> 4);
 				}
-				if (getTile((spawner.x >> 4) - 4, spawner.y >> 4) == Tiles.get("Dirt")) {
+				if (getTile((spawner.x >> 4) - 4, spawner.y >> 4) == Tiles.DIRT) {
 					Structure.mobDungeonWest.draw(this, (spawner.x >> 4) - 5, spawner.y >> 4);
 				}
 
@@ -1303,12 +1527,28 @@ public class Level {
 	    // makes 2-3 villages based on world size
 	    int numberOfVillages = 2 + random.nextInt(2);
 
+	    // The villages are placed on one of the grass tiles, that isn't too close to the last village
+	    int[] grass = findTiles(Tiles.GRASS);
+	    int[] candidates = new int[grass.length];
+
 	    for (int i = 0; i < numberOfVillages; i++) {
-	        int x, y;
-	        do {
-	            x = random.nextInt(w);
-	            y = random.nextInt(h);
-	        } while (getTile(x, y) != Tiles.get("Grass") || (Math.abs(x - lastVillageX) <= 48 && Math.abs(y - lastVillageY) <= 48));
+	        int count = 0;
+	        for (int position : grass) {
+	            int xx = position % w;
+	            int yy = position / w;
+	            if (tiles[position] == Tiles.GRASS.id && (Math.abs(xx - lastVillageX) > 48 || Math.abs(yy - lastVillageY) > 48)) {
+	                candidates[count++] = position;
+	            }
+	        }
+
+	        if (count == 0) {
+	            Logger.warn("No grass left to place {} more villages", numberOfVillages - i);
+	            break;
+	        }
+
+	        int position = candidates[random.nextInt(count)];
+	        int x = position % w;
+	        int y = position / w;
 
 	        lastVillageX = x;
 	        lastVillageY = y;
@@ -1319,7 +1559,7 @@ public class Level {
 	        int xo = random.nextInt(8) - 8;
 	        int yo = random.nextInt(8) - 8;
 
-	        if (getTile(x, y) != Tiles.get("Rock") || getTile(x, y) != Tiles.get("Up Rock")) {
+	        if (getTile(x, y) != Tiles.ROCK || getTile(x, y) != Tiles.UP_ROCK) {
 		        if (hasCrops) {
 		            Structure.villageCrops.draw(this, x + xo, y + yo);
 		            add(new Cleric(), (x + xo) << 4, (y + yo) << 4);
@@ -15,154 +15,29 @@ import java.util.Random;
 
 public class LevelGen {
 
-    private static long worldSeed = 0;
-
-    private static final Random random = new Random(worldSeed); // Initializes the random class
     private static final int stairsRadius = 15;
 
-    private double[] values; // An array of doubles, used to help making noise for the map
-
-    private final int w, h;
-
-    /**
-     * This creates noise to create random values for level generation
-     */
-    private LevelGen(int w, int h, int featureSize) {
-        this.w = w;
-        this.h = h;
-
-        values = new double[w * h]; // Creates the size of the value array (width * height)
-
-        /// to be 16 or 32, in the code below.
-        for (int y = 0; y < w; y += featureSize) {
-            for (int x = 0; x < w; x += featureSize) {
-
-                // This method sets the random value from -1 to 1 at the given coordinate.
-                setSample(x, y, random.nextFloat() * 2 - 1);
-            }
-        }
-
-        int stepSize = featureSize;
-        double scale = (1.3 / ((double) w));
-        double scaleMod = 1.0;
-
-        do {
-            int halfStep = stepSize / 2;
-            for (int y = 0; y < h; y += stepSize) {
-                for (int x = 0; x < w; x += stepSize) { // this loops through the values again, by a given increment...
-
-                    double a = sample(x, y); // fetches the value at the coordinate set previously (it fetches the exact same ones that were just set above)
-                    double b = sample(x + stepSize, y); // fetches the value at the next coordinate over. This could possibly loop over at the end, and fetch the first value in the row instead.
-                    double c = sample(x, y + stepSize); // fetches the next value down, possibly looping back to the top of the column.
-                    double d = sample(x + stepSize, y + stepSize); // fetches the value one down, one right.
-
-                    /*
-                     * This could probably use some explaining... Note: the number values are
-                     * probably only good the first time around...
-                     *
-                     * This starts with taking the average of the four numbers from before (they
-                     * form a little square in adjacent tiles), each of which holds a value from -1
-                     * to 1. Then, it basically adds a 5th number, generated the same way as before.
-                     * However, this 5th number is multiplied by a few things first... ...by
-                     * stepSize, aka featureSize, and scale, which is 2/size the first time.
-                     * featureSize is 16 or 32, which is a multiple of the common level size, 128.
-                     * Precisely, it is 128 / 8, or 128 / 4, respectively with 16 and 32. So, the
-                     * equation becomes size / const * 2 / size, or, simplified, 2 / const. For a
-                     * feature size of 32, stepSize * scale = 2 / 4 = 1/2. featureSize of 16, it's 2
-                     * / 8 = 1/4. Later on, this gets closer to 4 / 4 = 1, so... the 5th value may
-                     * not change much at all in later iterations for a feature size of 32, which
-                     * means it has an effect of 1, which is actually quite significant to the value
-                     * that is set. So, it tends to decrease the 5th -1 or 1 number, sometimes
-                     * making it of equal value to the other 4 numbers, sort of. It will usually
-                     * change the end result by 0.5 to 0.25, perhaps; at max.
-                     */
-                    double e = (a + b + c + d) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale;
-
-                    /*
-                     * This sets the value that is right in the middle of the other 4 to an average
-                     * of the four, plus a 5th number, which makes it slightly off, differing by
-                     * about 0.25 or so on average, the first time around.
-                     */
-                    setSample(x + halfStep, y + halfStep, e);
-                }
-            }
-
-            // This loop does the same as before, but it takes into account some of the half Steps we set in the last loop.
-            for (int y = 0; y < h; y += stepSize) {
-                for (int x = 0; x < w; x += stepSize) {
-
-                    double a = sample(x, y); // middle (current) tile
-                    double b = sample(x + stepSize, y); // right tile
-                    double c = sample(x, y + stepSize); // bottom tile
-                    double d = sample(x + halfStep, y + halfStep); // mid-right, mid-bottom tile
-                    double e = sample(x + halfStep, y - halfStep); // mid-right, mid-top tile
-                    double f = sample(x - halfStep, y + halfStep); // mid-left, mid-bottom tile
-
-                    // The 0.5 at the end is because we are going by half-steps..?
-                    // The H is for the right and surrounding mids, and g is the bottom and
-                    // surrounding mids.
-                    double H = (a + b + d + e) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale * 0.5; // adds middle, right, mr-mb, mr-mt, and random.
-                    double g = (a + c + d + f) / 4.0 + (random.nextFloat() * 2 - 1) * stepSize * scale * 0.5; // adds middle, bottom, mr-mb, ml-mb, and random.
-
-                    setSample(x + halfStep, y, H); // Sets the H to the mid-right
-                    setSample(x, y + halfStep, g); // Sets the g to the mid-bottom
-                }
-            }
-
-			/*
-             THEN... this stuff is set to repeat the system all over again! The featureSize is halved, allowing access to further unset
-			 mids, and the scale changes... The scale increases the first time, x1.8, but the second time it's x1.1, and after that
-			 probably a little less than 1. So, it generally increases a bit, maybe to 4 / w at tops. This results in the 5th random value
-			 being more significant than the first 4 ones in later iterations.
-			*/
-            stepSize /= 2;
-            scale *= (scaleMod + 0.7);
-            scaleMod *= 0.3;
-
-        } while (stepSize > 1); // This stops when the stepsize is < 1, aka 0 b/c it's an int. At this point there are no more mid values.
-    }
-
-    // This merely returns the value, like Level.getTile(x, y).
-    private double sample(int x, int y) {
-        return values[(x & (w - 1)) + (y & (h - 1)) * w];
-    }
-
-    private void setSample(int x, int y, double value) {
-		/*
-		  This method is short, but difficult to understand. This is what I think it does: The values array is like a 2D array, but
-		  formatted into a 1D array; so the basic "x + y * w" is used to access a given value. The value parameter is a random number,
-		  above set to be a random decimal from -1 to 1. From above, we can see that the x and y values passed in range from 0 to the
-		  width/height, and increment by a certain constant known as the "featureSize". This implies that the locations chosen from this
-		  array, to put the random value in, somehow determine the size of biomes, perhaps. The x/y value is taken and AND'ed with the
-		  size-1, which could be 127. This just caps the value at 127; however, it shouldn't be higher in the first place, so it is merely
-		  a safety measure.
-
-		  In other words, this is just "values[x + y * w] = value;"
-		 */
-        values[(x & (w - 1)) + (y & (h - 1)) * w] = value;
-    }
-
     @Nullable
-    static short[][] createAndValidateMap(int w, int h, int level, long seed) {
-        worldSeed = seed;
+    public static short[][] createAndValidateMap(int w, int h, int level, long seed) {
+        // Every level has its own random, so the levels can be generated at the same time
+        Random random = new Random(seed);
 
-        if (level == 1) return createAndValidateSkyMap(w, h);
-        if (level == 0) return createAndValidateTopMap(w, h);
-        if (level == -4) return createAndValidateDungeon(w, h);
-        if ((level > -4) && (level < 0)) return createAndValidateUndergroundMap(w, h, -level);
-        if (level == 2) return createAndValidateVoidMap(w, h);  // World.java is 2 as here
+        if (level == 1) return createAndValidateSkyMap(w, h, random);
+        if (level == 0) return createAndValidateTopMap(w, h, random);
+        if (level == -4) return createAndValidateDungeon(w, h, random);
+        if ((level > -4) && (level < 0)) return createAndValidateUndergroundMap(w, h, -level, random);
+        if (level == 2) return createAndValidateVoidMap(w, h, random);  // World.java is 2 as here
 
         Logger.error("Could not generate level {}, index is not valid.", level);
         return null;
     }
 
-    private static short[][] createAndValidateTopMap(int w, int h) {
-        random.setSeed(worldSeed);
+    private static short[][] createAndValidateTopMap(int w, int h, Random random) {
 
         LoadingDisplay.setMessage("Generating surface!");
 
         do {
-            short[][] result = createTopMap(w, h);
+            short[][] result = createTopMap(w, h, random);
 
             int[] count = new int[256];
 
@@ -170,22 +45,21 @@ public class LevelGen {
                 count[result[0][i] & 0xffff]++;
             }
 
-            if (count[Tiles.get("Rock").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Grass").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Oak Tree").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Stairs Down").id & 0xffff] == 0) continue;
+            if (count[Tiles.ROCK.id & 0xffff] < 100) continue;
+            if (count[Tiles.GRASS.id & 0xffff] < 100) continue;
+            if (count[Tiles.OAK_TREE.id & 0xffff] < 100) continue;
+            if (count[Tiles.STAIRS_DOWN.id & 0xffff] == 0) continue;
 
             return result;
         } while (true);
     }
 
-    private static short[][] createAndValidateUndergroundMap(int w, int h, int depth) {
-        random.setSeed(worldSeed);
+    private static short[][] createAndValidateUndergroundMap(int w, int h, int depth, Random random) {
 
         LoadingDisplay.setMessage("Generating caves!");
 
         do {
-            short[][] result = createUndergroundMap(w, h, depth);
+            short[][] result = createUndergroundMap(w, h, depth, random);
 
             int[] count = new int[256];
 
@@ -193,22 +67,21 @@ public class LevelGen {
                 count[result[0][i] & 0xffff]++;
             }
 
-            if (count[Tiles.get("Rock").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Dirt").id & 0xffff] < 100) continue;
+            if (count[Tiles.ROCK.id & 0xffff] < 100) continue;
+            if (count[Tiles.DIRT.id & 0xffff] < 100) continue;
             if (count[(Tiles.get("Iron Ore").id & 0xffff) + depth - 1] < 20) continue;
-            if ((depth < 3) && (count[Tiles.get("Stairs Down").id & 0xffff] < (w / 32))) continue;
+            if ((depth < 3) && (count[Tiles.STAIRS_DOWN.id & 0xffff] < (w / 32))) continue;
             return result;
 
         } while (true);
     }
 
-    private static short[][] createAndValidateDungeon(int w, int h) {
-        random.setSeed(worldSeed);
+    private static short[][] createAndValidateDungeon(int w, int h, Random random) {
 
         LoadingDisplay.setMessage("Generating the dungeon!");
 
         do {
-            short[][] result = createDungeon(w, h);
+            short[][] result = createDungeon(w, h, random);
 
             int[] count = new int[256];
 
@@ -216,9 +89,9 @@ public class LevelGen {
                 count[result[0][i] & 0xffff]++;
             }
 
-            if (count[Tiles.get("Obsidian").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Obsidian Wall").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Raw Obsidian").id & 0xffff] < 100) continue;
+            if (count[Tiles.OBSIDIAN.id & 0xffff] < 100) continue;
+            if (count[Tiles.OBSIDIAN_WALL.id & 0xffff] < 100) continue;
+            if (count[Tiles.RAW_OBSIDIAN.id & 0xffff] < 100) continue;
 
             return result;
 
@@ -226,13 +99,12 @@ public class LevelGen {
     }
 
     @Nullable
-    private static short[][] createAndValidateSkyMap(int w, int h) {
-        random.setSeed(worldSeed);
+    private static short[][] createAndValidateSkyMap(int w, int h, Random random) {
 
         LoadingDisplay.setMessage("Generating the heaven!");
 
         do {
-            short[][] result = createSkyMap(w, h);
+            short[][] result = createSkyMap(w, h, random);
 
             int[] count = new int[256];
 
@@ -240,8 +112,8 @@ public class LevelGen {
                 count[result[0][i] & 0xffff]++;
             }
 
-            if (count[Tiles.get("Cloud").id & 0xffff] < 2000) continue;
-            if (count[Tiles.get("Stairs Down").id & 0xffff] < w / 64) continue;
+            if (count[Tiles.CLOUD.id & 0xffff] < 2000) continue;
+            if (count[Tiles.STAIRS_DOWN.id & 0xffff] < w / 64) continue;
 
             return result;
 
@@ -249,11 +121,10 @@ public class LevelGen {
     }
 
     @Nullable
-    public static short[][] createAndValidateVoidMap(int w, int h) {
-        random.setSeed(worldSeed);
+    public static short[][] createAndValidateVoidMap(int w, int h, Random random) {
 
         do {
-            short[][] result = createVoidMap(w, h);
+            short[][] result = createVoidMap(w, h, random);
 
             int[] count = new int[256];
 
@@ -261,9 +132,9 @@ public class LevelGen {
                 count[result[0][i] & 0xffff]++;
             }
 
-            if (count[Tiles.get("Rock").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Grass").id & 0xffff] < 100) continue;
-            if (count[Tiles.get("Oak Tree").id & 0xffff] < 100) continue;
+            if (count[Tiles.ROCK.id & 0xffff] < 100) continue;
+            if (count[Tiles.GRASS.id & 0xffff] < 100) continue;
+            if (count[Tiles.OAK_TREE.id & 0xffff] < 100) continue;
 
             return result;
 
@@ -271,20 +142,20 @@ public class LevelGen {
     }
 
     // Surface generation code
-    private static short[][] createTopMap(int w, int h) { // create surface map
+    private static short[][] createTopMap(int w, int h, Random random) { // create surface map
 
         // creates a bunch of value maps, some with small size...
-        LevelGen mnoise1 = new LevelGen(w, h, 16);
-        LevelGen mnoise2 = new LevelGen(w, h, 16);
-        LevelGen mnoise3 = new LevelGen(w, h, 16);
+        Noise mnoise1 = new Noise(w, h, 16, random);
+        Noise mnoise2 = new Noise(w, h, 16, random);
+        Noise mnoise3 = new Noise(w, h, 16, random);
 
         // ...and some with larger size..
-        LevelGen noise1 = new LevelGen(w, h, 32);
-        LevelGen noise2 = new LevelGen(w, h, 32);
+        Noise noise1 = new Noise(w, h, 32, random);
+        Noise noise2 = new Noise(w, h, 32, random);
 
         // humidity noise
-        LevelGen hnoise1 = new LevelGen(w, h, 64);
-        LevelGen hnoise2 = new LevelGen(w, h, 64);
+        Noise hnoise1 = new Noise(w, h, 64, random);
+        Noise hnoise2 = new Noise(w, h, 64, random);
 
         int fullSize = w * h;
 
@@ -300,31 +171,31 @@ public class LevelGen {
 
         // Tiles that the mountains generation can overwrite
         int[] rockableTiles = {
-            Tiles.get("Grass").id, Tiles.get("Snow").id, Tiles.get("Sand").id,
-            Tiles.get("Fir Tree").id, Tiles.get("Oak Tree").id, Tiles.get("Birch Tree").id,
-            Tiles.get("Pine Tree").id, Tiles.get("Ice Spike").id, Tiles.get("Rose").id,
-            Tiles.get("Lawn").id, Tiles.get("Dandelion").id, Tiles.get("Poppy").id,
-            Tiles.get("Daisy").id
+            Tiles.GRASS.id, Tiles.SNOW.id, Tiles.SAND.id,
+            Tiles.get("Fir Tree").id, Tiles.OAK_TREE.id, Tiles.BIRCH_TREE.id,
+            Tiles.get("Pine Tree").id, Tiles.get("Ice Spike").id, Tiles.ROSE.id,
+            Tiles.LAWN.id, Tiles.DANDELION.id, Tiles.POPPY.id,
+            Tiles.DAISY.id
         };
 
         // Tiles that the beachs generation can overwrite
         int[] beachableTiles = {
-            Tiles.get("Grass").id, Tiles.get("Oak Tree").id, Tiles.get("Daisy").id,
-            Tiles.get("Poppy").id, Tiles.get("Rose").id, Tiles.get("Birch Tree").id,
-            Tiles.get("Lawn").id, Tiles.get("Dandelion").id
+            Tiles.GRASS.id, Tiles.OAK_TREE.id, Tiles.DAISY.id,
+            Tiles.POPPY.id, Tiles.ROSE.id, Tiles.BIRCH_TREE.id,
+            Tiles.LAWN.id, Tiles.DANDELION.id
         };
 
         for (int y = 0; y < h; y++) {
             for (int x = 0; x < w; x++) {
                 int i = x + y * w;
 
-                double val = Math.abs(noise1.values[i] - noise2.values[i]) * 3 - 2;
-                double mval = Math.abs(mnoise1.values[i] - mnoise2.values[i]);
-                mval = Math.abs(mval - mnoise3.values[i]) * 3 - 2;
+                double val = Math.abs(noise1.get(x, y) - noise2.get(x, y)) * 3 - 2;
+                double mval = Math.abs(mnoise1.get(x, y) - mnoise2.get(x, y));
+                mval = Math.abs(mval - mnoise3.get(x, y)) * 3 - 2;
 
                 // temperature and humidity noise values
-                double tval = Math.abs(noise2.values[i] - noise1.values[i]) * 3 - 2;
-                double hval = Math.abs(hnoise1.values[i] - hnoise2.values[i]) * 3 - 2;
+                double tval = Math.abs(noise2.get(x, y) - noise1.get(x, y)) * 3 - 2;
+                double hval = Math.abs(hnoise1.get(x, y) - hnoise2.get(x, y)) * 3 - 2;
 
                 // this calculates a sort of distance based on the current coordinate.
                 double xd = x / (w - 1.0) * 2 - 1;
@@ -352,14 +223,14 @@ public class LevelGen {
                     // Oceans generation
                     if (val < -0.8) {
                         if (Objects.equals(terrainTheme, "Hell")) {
-                            map[i] = Tiles.get("Lava").id;
+                            map[i] = Tiles.LAVA.id;
                         } else {
                             if (tval > -0.20 && hval > 0.60) {
                                 // Glaciers
                                 map[i] = Tiles.get("Ice").id;
                             } else {
                                 // Warm Ocean
-                                map[i] = Tiles.get("Water").id;
+                                map[i] = Tiles.WATER.id;
                             }
                         }
 
@@ -370,23 +241,23 @@ public class LevelGen {
                             if (tval > 0.30 && hval < 0.16) {
                                 //map[i] = Tiles.get("Sand Rock").id;
                                 // Desert mountains
-                                map[i] = Tiles.get("Up Rock").id;
+                                map[i] = Tiles.UP_ROCK.id;
                             } else {
                                 // Normal mountains
-                                map[i] = Tiles.get("Up Rock").id;
+                                map[i] = Tiles.UP_ROCK.id;
                             }
                         } else if (Objects.equals(terrainTheme, "Tundra")) {
-                            map[i] = Tiles.get("Up Rock").id;
+                            map[i] = Tiles.UP_ROCK.id;
                         }
 
                         // Normal generation
                         else if (tval > 0.30 && hval < 0.16) {
                             //map[i] = Tiles.get("Sand Rock").id;
                             // Desert mountains
-                            map[i] = Tiles.get("Up Rock").id;
+                            map[i] = Tiles.UP_ROCK.id;
                         } else {
                             // Normal mountains
-                            map[i] = Tiles.get("Up Rock").id;
+                            map[i] = Tiles.UP_ROCK.id;
                         }
 
                     // Terrain generation
@@ -394,26 +265,26 @@ public class LevelGen {
                         // Terrain themes
                         if (Objects.equals(terrainTheme, "Desert")) {
                             if (tval > -0.45 && hval > -0.95 && val > -0.16) {
-                                map[i] = Tiles.get("Sand").id;
+                                map[i] = Tiles.SAND.id;
                             } else {
-                                map[i] = Tiles.get("Grass").id;
+                                map[i] = Tiles.GRASS.id;
                             }
                         } else if (Objects.equals(terrainTheme, "Tundra")) {
                             if (tval > -0.45 && hval > -0.95) {
-                                map[i] = Tiles.get("Snow").id;
+                                map[i] = Tiles.SNOW.id;
                             } else {
-                                map[i] = Tiles.get("Grass").id;
+                                map[i] = Tiles.GRASS.id;
                             }
                         }
 
                         // Normal generation
                         else if (tval > 0.30 && hval < 0.16 && val > 0.41) {
-                            map[i] = Tiles.get("Sand").id;
+                            map[i] = Tiles.SAND.id;
                         } else {
                             if (tval > -0.20 && hval > 0.60) {
-                                map[i] = Tiles.get("Snow").id;
+                                map[i] = Tiles.SNOW.id;
                             } else {
-                                map[i] = Tiles.get("Grass").id;
+                                map[i] = Tiles.GRASS.id;
                             }
                         }
                     }
@@ -422,48 +293,48 @@ public class LevelGen {
                 if (Objects.equals(terrainType, "Box")) {
                     if (val < -1.5) {
                         if (Objects.equals(terrainTheme, "Hell")) {
-                            map[i] = Tiles.get("Lava").id;
+                            map[i] = Tiles.LAVA.id;
                         } else {
-                            map[i] = Tiles.get("Water").id;
+                            map[i] = Tiles.WATER.id;
                         }
 
                     } else if (val > 0.5 && mval < -1.5) {
-                        map[i] = Tiles.get("Up Rock").id;
+                        map[i] = Tiles.UP_ROCK.id;
 
                     } else {
-                        map[i] = Tiles.get("Grass").id;
+                        map[i] = Tiles.GRASS.id;
                     }
                 }
 
                 if (Objects.equals(terrainType, "Mountain")) {
                     if (val < -0.4) {
-                        map[i] = Tiles.get("Grass").id;
+                        map[i] = Tiles.GRASS.id;
                     } else if (val > 0.5 && mval < -1.5) {
                         if (Objects.equals(terrainTheme, "Hell")) {
-                            map[i] = Tiles.get("Lava").id;
+                            map[i] = Tiles.LAVA.id;
                         } else {
-                            map[i] = Tiles.get("Water").id;
+                            map[i] = Tiles.WATER.id;
                         }
                     } else {
-                        map[i] = Tiles.get("Up rock").id;
+                        map[i] = Tiles.UP_ROCK.id;
                     }
                 }
 
                 if (Objects.equals(terrainType, "Irregular")) {
                     if (val < -0.5 && mval < -0.5) {
                         if (Objects.equals(terrainTheme, "Hell")) {
-                            map[i] = Tiles.get("Lava").id;
+                            map[i] = Tiles.LAVA.id;
                         } else {
-                            map[i] = Tiles.get("Water").id;
+                            map[i] = Tiles.WATER.id;
                         }
 
                     } else if (val > 0.5 && mval < -1.5) {
-                        map[i] = Tiles.get("Rock").id;
+                        map[i] = Tiles.ROCK.id;
                     } else if (val < -0.5 && mval > -1.5) {
                         // Irregular beaches beaches
-                        map[i] = Tiles.get("sand").id;
+                        map[i] = Tiles.SAND.id;
                     } else {
-                        map[i] = Tiles.get("Grass").id;
+                        map[i] = Tiles.GRASS.id;
                     }
                 }
 
@@ -484,18 +355,18 @@ public class LevelGen {
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
                     int index = xx + yy * w;
 
-                    if (map[index] == Tiles.get("Snow").id) {
+                    if (map[index] == Tiles.SNOW.id) {
                         if (j % 2 == 0) {
                             map[index] = Tiles.get("Fir Tree").id;
                         } else {
                             map[index] = Tiles.get("Pine Tree").id;
                         }
 
-                    } else if (map[index] == Tiles.get("Grass").id) {
+                    } else if (map[index] == Tiles.GRASS.id) {
                         if (j % 2 == 0) {
-                            map[index] = Tiles.get("Oak Tree").id;
+                            map[index] = Tiles.OAK_TREE.id;
                         } else {
-                            map[index] = Tiles.get("Birch Tree").id;
+                            map[index] = Tiles.BIRCH_TREE.id;
                         }
                     }
                 }
@@ -529,17 +400,17 @@ public class LevelGen {
 
                     noise = (noise + (1 - distanceFromCenter)) * 0.5f;
 
-                    if (map[index] == Tiles.get("Snow").id) {
+                    if (map[index] == Tiles.SNOW.id) {
                         if (noise < 0.5f) {
                             map[index] = Tiles.get("Fir Tree").id;
                         } else {
                             map[index] = Tiles.get("Pine Tree").id;
                         }
-                    } else if (map[index] == Tiles.get("Grass").id) {
+                    } else if (map[index] == Tiles.GRASS.id) {
                         if (noise < 0.5f) {
-                            map[index] = Tiles.get("Oak Tree").id;
+                            map[index] = Tiles.OAK_TREE.id;
                         } else {
-                            map[index] = Tiles.get("Birch Tree").id;
+                            map[index] = Tiles.BIRCH_TREE.id;
                         }
                     }
                 }
@@ -560,18 +431,18 @@ public class LevelGen {
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
                     int index = xx + yy * w;
 
-                    if (map[index] == Tiles.get("Grass").id) {
+                    if (map[index] == Tiles.GRASS.id) {
                         if (random.nextBoolean()) {
                             if (random.nextBoolean()) {
-                                map[index] = Tiles.get("Rose").id;
+                                map[index] = Tiles.ROSE.id;
                             } else {
-                                map[index] = Tiles.get("Poppy").id;
+                                map[index] = Tiles.POPPY.id;
                             }
                         } else {
                             if (random.nextBoolean()) {
-                                map[index] = Tiles.get("Dandelion").id;
+                                map[index] = Tiles.DANDELION.id;
                             } else {
-                                map[index] = Tiles.get("Daisy").id;
+                                map[index] = Tiles.DAISY.id;
                             }
                         }
 
@@ -593,8 +464,8 @@ public class LevelGen {
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
                     int index = xx + yy * w;
 
-                    if (map[index] == Tiles.get("Grass").id) {
-                        map[index] = Tiles.get("Lawn").id;
+                    if (map[index] == Tiles.GRASS.id) {
+                        map[index] = Tiles.LAWN.id;
                         data[index] = (short) (pos + random.nextInt(4) * 16);
                     }
                 }
@@ -611,7 +482,7 @@ public class LevelGen {
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
                     int index = xx + yy * w;
-                    if (map[index] == Tiles.get("Sand").id && random.nextInt(6) == 3) {
+                    if (map[index] == Tiles.SAND.id && random.nextInt(6) == 3) {
                         map[index] = Tiles.get("Cactus").id;
                     }
                 }
@@ -626,7 +497,7 @@ public class LevelGen {
 
             if ((xx >= 0 && yy >= 0) && (xx < w && yy < h)) {
                 int index = xx + yy * w;
-                if (map[index] == Tiles.get("Snow").id) {
+                if (map[index] == Tiles.SNOW.id) {
                     map[index] = Tiles.get("Ice Spike").id;
                 }
             }
@@ -643,7 +514,7 @@ public class LevelGen {
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
                     int index = xx + yy * w;
-                    if (map[index] == Tiles.get("Snow").id) {
+                    if (map[index] == Tiles.SNOW.id) {
                         map[index] = Tiles.get("Ice Spike").id;
                     }
                 }
@@ -660,7 +531,7 @@ public class LevelGen {
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
                     int index = xx + yy * w;
-                    if (map[index] == Tiles.get("Snow").id) {
+                    if (map[index] == Tiles.SNOW.id) {
                         map[index] = Tiles.get("Ice").id;
                     }
                 }
@@ -700,8 +571,8 @@ public class LevelGen {
                             if (tx == x && ty == j) continue;
 
                             int nearbyTile = map[tx + tyOffset];
-                            if (nearbyTile == Tiles.get("Water").id || nearbyTile == Tiles.get("Lava").id) {
-                                map[currentTile] = Tiles.get("Sand").id;
+                            if (nearbyTile == Tiles.WATER.id || nearbyTile == Tiles.LAVA.id) {
+                                map[currentTile] = Tiles.SAND.id;
                                 break checkSurroundings;
                             }
                         }
@@ -714,7 +585,7 @@ public class LevelGen {
 			for (int j = 0; j < h; j++) {
 				for (int x = 0; x < w; x++) {
 					int index = x + j * w;
-					if (map[index] != Tiles.get("Up Rock").id && (
+					if (map[index] != Tiles.UP_ROCK.id && (
 							map[index] == Tiles.get("Sand Rock").id)) {
 						boolean replace = false;
 
@@ -722,7 +593,7 @@ public class LevelGen {
 						for (int tx = x - (2 + random.nextInt(1)); tx <= x + (2 + random.nextInt(1)); tx++) {
 							for (int ty = j - (2 + random.nextInt(1)); ty <= j + (2 + random.nextInt(1)); ty++) {
 								if ((tx >= 0 && ty >= 0 && tx < w && ty < h) && (tx != x || ty != j)) {
-									if (map[tx + ty * w] == Tiles.get("Up Rock").id) {
+									if (map[tx + ty * w] == Tiles.UP_ROCK.id) {
 										replace = true;
 										break;
 									}
@@ -731,7 +602,7 @@ public class LevelGen {
 						}
 
 						if (replace) {
-							map[index] = Tiles.get("Sand").id;
+							map[index] = Tiles.SAND.id;
 						}
 					}
 				}
@@ -745,7 +616,7 @@ public class LevelGen {
             for (int x = 0; x < w; x++) { // Iterate on the world width (x axis)
                 int currentTile = x + offset; // We save the current tile position
 
-                if (map[currentTile] != Tiles.get("Up Rock").id) continue;
+                if (map[currentTile] != Tiles.UP_ROCK.id) continue;
 
                 int minTx = Math.max(0, x - 1);
                 int maxTx = Math.min(w - 1, x + 1);
@@ -761,7 +632,7 @@ public class LevelGen {
                             int tileToCheck = map[tx + tyOffset];
                             for (int replaceableTile : rockableTiles) {
                                 if (tileToCheck == replaceableTile) {
-                                    map[currentTile] = Tiles.get("Rock").id;
+                                    map[currentTile] = Tiles.ROCK.id;
                                     break checkSurroundings;
                                 }
                             }
@@ -773,16 +644,16 @@ public class LevelGen {
 
         for (int j = 0; j < h; j++) {
             for (int x = 0; x < w; x++) { // if there are Grass tiles or Trees in front of the Sand tiles, if so, replace them with Grass
-                if (map[x + j * w] != Tiles.get("Sand").id && map[x + j * w] == Tiles.get("Grass").id ||
-                        map[x + j * w] != Tiles.get("Sand").id && map[x + j * w] == Tiles.get("Birch Tree").id ||
-                        map[x + j * w] != Tiles.get("Sand").id && map[x + j * w] == Tiles.get("Oak Tree").id) {
+                if (map[x + j * w] != Tiles.SAND.id && map[x + j * w] == Tiles.GRASS.id ||
+                        map[x + j * w] != Tiles.SAND.id && map[x + j * w] == Tiles.BIRCH_TREE.id ||
+                        map[x + j * w] != Tiles.SAND.id && map[x + j * w] == Tiles.OAK_TREE.id) {
                     boolean replace = false;
 
                     check_ocean:
                     for (int tx = x - 1; tx <= x + 1; tx++) {
                         for (int ty = j - 1; ty <= j + 1; ty++) {
                             if (tx >= 0 && ty >= 0 && tx <= w && ty <= h && (tx != x || ty != j)) {
-                                if (map[tx + ty * w] == Tiles.get("Sand").id) {
+                                if (map[tx + ty * w] == Tiles.SAND.id) {
                                     replace = true;
                                     break check_ocean;
                                 }
@@ -791,7 +662,7 @@ public class LevelGen {
                     }
 
                     if (replace) {
-                        map[x + j * w] = Tiles.get("Grass").id;
+                        map[x + j * w] = Tiles.GRASS.id;
                     }
                 }
             }
@@ -799,7 +670,7 @@ public class LevelGen {
 
         for (int j = 0; j < h; j++) {
             for (int x = 0; x < w; x++) { //  if there are Snow tiles or Trees in front of the Ice tiles, if so, replace them with snow
-                if (map[x + j * w] != Tiles.get("Ice").id && map[x + j * w] == Tiles.get("Snow").id ||
+                if (map[x + j * w] != Tiles.get("Ice").id && map[x + j * w] == Tiles.SNOW.id ||
                         map[x + j * w] != Tiles.get("Ice").id && map[x + j * w] == Tiles.get("Fir Tree").id ||
                         map[x + j * w] != Tiles.get("Ice").id && map[x + j * w] == Tiles.get("Pine Tree").id) {
                     boolean replace = false;
@@ -817,7 +688,7 @@ public class LevelGen {
                     }
 
                     if (replace) {
-                        map[x + j * w] = Tiles.get("Snow").id;
+                        map[x + j * w] = Tiles.SNOW.id;
                     }
                 }
             }
@@ -825,15 +696,15 @@ public class LevelGen {
 
         for (int j = 0; j < h; j++) {
             for (int x = 0; x < w; x++) { // if there are Snow tiles or Trees in front of the Grass tiles, if so, replace them with Snow
-                if (map[x + j * w] != Tiles.get("Grass").id && map[x + j * w] == Tiles.get("Snow").id ||
-                        map[x + j * w] != Tiles.get("Grass").id && map[x + j * w] == Tiles.get("Fir Tree").id ||
-                        map[x + j * w] != Tiles.get("Grass").id && map[x + j * w] == Tiles.get("Pine Tree").id) {
+                if (map[x + j * w] != Tiles.GRASS.id && map[x + j * w] == Tiles.SNOW.id ||
+                        map[x + j * w] != Tiles.GRASS.id && map[x + j * w] == Tiles.get("Fir Tree").id ||
+                        map[x + j * w] != Tiles.GRASS.id && map[x + j * w] == Tiles.get("Pine Tree").id) {
                     boolean replace = false;
 
                     check_ocean:
                     for (int tx = x - 1 - random.nextInt(2); tx <= x + 1 + random.nextInt(2); tx++) {
                         for (int ty = j - 1 - random.nextInt(2); ty <= j + 1 + random.nextInt(2); ty++) {
-                            if (tx >= 0 && ty >= 0 && tx <= w && ty <= h && (tx != x || ty != j) && map[tx + ty * w] == Tiles.get("Grass").id) {
+                            if (tx >= 0 && ty >= 0 && tx <= w && ty <= h && (tx != x || ty != j) && map[tx + ty * w] == Tiles.GRASS.id) {
                                 replace = true;
                                 break check_ocean;
                             }
@@ -841,7 +712,7 @@ public class LevelGen {
                     }
 
                     if (replace) {
-                        map[x + j * w] = Tiles.get("Snow").id;
+                        map[x + j * w] = Tiles.SNOW.id;
                     }
                 }
             }
@@ -860,7 +731,7 @@ public class LevelGen {
             // The first loop, which checks to make sure that a new stairs tile will be completely surrounded by rock.
             for (int yy = y - 1; yy <= y + 1; yy++) {
                 for (int xx = x - 1; xx <= x + 1; xx++) {
-                    if (map[xx + yy * w] != Tiles.get("Up Rock").id) {
+                    if (map[xx + yy * w] != Tiles.UP_ROCK.id) {
                         continue stairsLoop;
                     }
                 }
@@ -869,13 +740,13 @@ public class LevelGen {
             // This should prevent any stairsDown tile from being within 30 tiles of any other stairsDown tile.
             for (int yy = Math.max(0, y - stairsRadius); yy <= Math.min(h - 1, y + stairsRadius); yy++) {
                 for (int xx = Math.max(0, x - stairsRadius); xx <= Math.min(w - 1, x + stairsRadius); xx++) {
-                    if (map[xx + yy * w] == Tiles.get("Stairs Down").id) {
+                    if (map[xx + yy * w] == Tiles.STAIRS_DOWN.id) {
                         continue stairsLoop;
                     }
                 }
             }
 
-            map[x + y * w] = Tiles.get("Stairs Down").id;
+            map[x + y * w] = Tiles.STAIRS_DOWN.id;
 
             stairsCount++;
             if (stairsCount >= w / 21) {
@@ -887,10 +758,10 @@ public class LevelGen {
     }
 
     // Dungeons generation code
-    private static short[][] createDungeon(int w, int h) {
+    private static short[][] createDungeon(int w, int h, Random random) {
 
-        LevelGen noise1 = new LevelGen(w, h, 8);
-        LevelGen noise2 = new LevelGen(w, h, 8);
+        Noise noise1 = new Noise(w, h, 8, random);
+        Noise noise2 = new Noise(w, h, 8, random);
 
         int size = w * h;
 
@@ -901,7 +772,7 @@ public class LevelGen {
             for (int x = 0; x < w; x++) {
                 int i = x + y * w;
 
-                double val = Math.abs(noise1.values[i] - noise2.values[i]) * 3 - 2;
+                double val = Math.abs(noise1.get(x, y) - noise2.get(x, y)) * 3 - 2;
 
                 double xd = x / (w - 1.1) * 2 - 1;
                 double yd = y / (h - 1.1) * 2 - 1;
@@ -917,11 +788,11 @@ public class LevelGen {
                 val += 1 - dist * 2;
 
                 if (val < -0.05) {
-                    map[i] = Tiles.get("Obsidian Wall").id;
+                    map[i] = Tiles.OBSIDIAN_WALL.id;
                 } else if (val>=-0.05 && val<-0.03) {
-                    map[i] = Tiles.get("Lava").id;
+                    map[i] = Tiles.LAVA.id;
                 } else {
-                    map[i] = Tiles.get("Obsidian").id;
+                    map[i] = Tiles.OBSIDIAN.id;
                 }
             }
         }
@@ -933,7 +804,7 @@ public class LevelGen {
 
             for (int yy = y - 1; yy <= y + 1; yy++) {
                 for (int xx = x - 1; xx <= x + 1; xx++) {
-                    if (map[xx + yy * w] != Tiles.get("Obsidian Wall").id) {
+                    if (map[xx + yy * w] != Tiles.OBSIDIAN_WALL.id) {
                         continue lavaLoop;
                     }
                 }
@@ -950,8 +821,8 @@ public class LevelGen {
                 int xx = x + random.nextInt(3) - random.nextInt(3);
                 int yy = y + random.nextInt(3) - random.nextInt(3);
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                    if (map[xx + yy * w] == Tiles.get("Obsidian").id) {
-                        map[xx + yy * w] = Tiles.get("Raw Obsidian").id;
+                    if (map[xx + yy * w] == Tiles.OBSIDIAN.id) {
+                        map[xx + yy * w] = Tiles.RAW_OBSIDIAN.id;
                     }
 
                 }
@@ -961,25 +832,25 @@ public class LevelGen {
     }
 
     // Generate cave system
-    private static short[][] createUndergroundMap(int w, int h, int depth) {
+    private static short[][] createUndergroundMap(int w, int h, int depth, Random random) {
 
-        LevelGen mnoise1 = new LevelGen(w, h, 16);
-        LevelGen mnoise2 = new LevelGen(w, h, 16);
-        LevelGen mnoise3 = new LevelGen(w, h, 16);
+        Noise mnoise1 = new Noise(w, h, 16, random);
+        Noise mnoise2 = new Noise(w, h, 16, random);
+        Noise mnoise3 = new Noise(w, h, 16, random);
 
-        LevelGen nnoise1 = new LevelGen(w, h, 16);
-        LevelGen nnoise2 = new LevelGen(w, h, 16);
-        LevelGen nnoise3 = new LevelGen(w, h, 16);
+        Noise nnoise1 = new Noise(w, h, 16, random);
+        Noise nnoise2 = new Noise(w, h, 16, random);
+        Noise nnoise3 = new Noise(w, h, 16, random);
 
-        LevelGen wnoise1 = new LevelGen(w, h, 16);
-        LevelGen wnoise2 = new LevelGen(w, h, 16);
-        LevelGen wnoise3 = new LevelGen(w, h, 16);
+        Noise wnoise1 = new Noise(w, h, 16, random);
+        Noise wnoise2 = new Noise(w, h, 16, random);
+        Noise wnoise3 = new Noise(w, h, 16, random);
 
-        LevelGen noise1 = new LevelGen(w, h, 32);
-        LevelGen noise2 = new LevelGen(w, h, 32);
+        Noise noise1 = new Noise(w, h, 32, random);
+        Noise noise2 = new Noise(w, h, 32, random);
 
-        LevelGen hnoise1 = new LevelGen(w, h, 64);
-        LevelGen hnoise2 = new LevelGen(w, h, 64);
+        Noise hnoise1 = new Noise(w, h, 64, random);
+        Noise hnoise2 = new Noise(w, h, 64, random);
 
         /*
          * This generates the 3 levels of cave, iron, gold and gem
@@ -996,23 +867,23 @@ public class LevelGen {
             for (int x = 0; x < w; x++) {
                 int i = x + y * w;
 
-                /// for the x=0 or y=0 i's, values[i] is always between -1 and 1.
+                /// the noise values are between -1 and 1, about.
                 /// so, val is between -2 and 4.
                 /// the rest are between -2 and 7.
-                double val = Math.abs(noise1.values[i] - noise2.values[i]) * 3 - 2;
+                double val = Math.abs(noise1.get(x, y) - noise2.get(x, y)) * 3 - 2;
 
-                double mval = Math.abs(mnoise1.values[i] - mnoise2.values[i]);
-                mval = Math.abs(mval - mnoise3.values[i]) * 3 - 2;
+                double mval = Math.abs(mnoise1.get(x, y) - mnoise2.get(x, y));
+                mval = Math.abs(mval - mnoise3.get(x, y)) * 3 - 2;
 
-                double nval = Math.abs(nnoise1.values[i] - nnoise2.values[i]);
-                nval = Math.abs(nval - nnoise3.values[i]) * 3 - 2;
+                double nval = Math.abs(nnoise1.get(x, y) - nnoise2.get(x, y));
+                nval = Math.abs(nval - nnoise3.get(x, y)) * 3 - 2;
 
-                double wval = Math.abs(wnoise1.values[i] - wnoise2.values[i]);
-                wval = Math.abs(wval - wnoise3.values[i]) * 3 - 2;
+                double wval = Math.abs(wnoise1.get(x, y) - wnoise2.get(x, y));
+                wval = Math.abs(wval - wnoise3.get(x, y)) * 3 - 2;
 
                 // Temperature and humidity noise values
-                double tval = Math.abs(noise2.values[i] - noise1.values[i]) * 3 - 2;
-                double hval = Math.abs(hnoise1.values[i] - hnoise2.values[i]) * 3 - 2;
+                double tval = Math.abs(noise2.get(x, y) - noise1.get(x, y)) * 3 - 2;
+                double hval = Math.abs(hnoise1.get(x, y) - hnoise2.get(x, y)) * 3 - 2;
 
                 double xd = x / (w - 1.0) * 2 - 1;
                 double yd = y / (h - 1.0) * 2 - 1;
@@ -1028,7 +899,7 @@ public class LevelGen {
                 hval += 1 - dist * 16;
 
                 if (val > -1 && wval < -1.4 + (depth) / 2 * 3 && depth == 1) {
-                    map[i] = Tiles.get("Dirt").id;
+                    map[i] = Tiles.DIRT.id;
 
                     // Make level 2 and 3 caves
                 } else if (val > -0.7 && wval < -4 + (depth) / 2.0 * 3 && depth != 1) {
@@ -1037,19 +908,19 @@ public class LevelGen {
                         if (tval < -0.10 && hval < 0.60) {
                             map[i] = Tiles.get("Magma").id;
                         } else {
-                            map[i] = Tiles.get("Lava").id;
+                            map[i] = Tiles.LAVA.id;
                         }
                     } else {
-                        map[i] = Tiles.get("Water").id;
+                        map[i] = Tiles.WATER.id;
                     }
                 } else if (val > -1.5 && (mval < -1.7 || nval < -1.4)) {
                     if (tval < -0.10 && hval > 0.6 && depth == 1) {
-                        map[i] = Tiles.get("Mycelium").id;
+                        map[i] = Tiles.MYCELIUM.id;
                     } else {
-                        map[i] = Tiles.get("Dirt").id;
+                        map[i] = Tiles.DIRT.id;
                     }
                 } else {
-                    map[i] = Tiles.get("Rock").id;
+                    map[i] = Tiles.ROCK.id;
                 }
             }
         }
@@ -1066,7 +937,7 @@ public class LevelGen {
                     int yy = y + random.nextInt(4) - random.nextInt(4);
 
                     if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                        if (map[xx + yy * w] == Tiles.get("Mycelium").id) {
+                        if (map[xx + yy * w] == Tiles.MYCELIUM.id) {
 
                             if (random.nextBoolean()) {
                                 map[xx + yy * w] = Tiles.get("Red Mushroom").id;
@@ -1092,7 +963,7 @@ public class LevelGen {
                 int xx = x + random.nextInt(5) - random.nextInt(3);
                 int yy = y + random.nextInt(5) - random.nextInt(3);
                 if (xx >= oresThreshold && yy >= oresThreshold && xx < w - oresThreshold && yy < h - oresThreshold) {
-                    if (map[xx + yy * w] == Tiles.get("Rock").id) {
+                    if (map[xx + yy * w] == Tiles.ROCK.id) {
                         map[xx + yy * w] = (short) ((Tiles.get("Iron Ore").id & 0xffff) + depth - 1);
                     }
                 }
@@ -1104,7 +975,7 @@ public class LevelGen {
                 int xx = x + random.nextInt(3) - random.nextInt(2);
                 int yy = y + random.nextInt(3) - random.nextInt(2);
                 if (xx >= oresThreshold && yy >= oresThreshold && xx < w - oresThreshold && yy < h - oresThreshold) {
-                    if (map[xx + yy * w] == Tiles.get("Rock").id) {
+                    if (map[xx + yy * w] == Tiles.ROCK.id) {
                         map[xx + yy * w] = (short) (Tiles.get("Lapis").id & 0xffff);
                     }
                 }
@@ -1125,7 +996,7 @@ public class LevelGen {
                         // The "& 0xffff" is a common way to convert a short to an unsigned int,
                         // which basically prevents negative values... except... this doesn't do
                         // anything if you flip it back to a short again...
-                        map[xx + yy * w] = (short) (Tiles.get("Stairs Down").id & 0xffff);
+                        map[xx + yy * w] = (short) (Tiles.STAIRS_DOWN.id & 0xffff);
                     }
                 }
             }
@@ -1142,7 +1013,7 @@ public class LevelGen {
 
                 for (int yy = y - 1; yy <= y + 1; yy++) {
                     for (int xx = x - 1; xx <= x + 1; xx++) {
-                        if (map[xx + yy * w] != Tiles.get("Rock").id) {
+                        if (map[xx + yy * w] != Tiles.ROCK.id) {
                             continue stairsLoop;
                         }
                     }
@@ -1151,13 +1022,13 @@ public class LevelGen {
                 // This should prevent any stairsDown tile from being within 30 tiles of any other stairsDown tile.
                 for (int yy = Math.max(0, y - stairsRadius); yy <= Math.min(h - 1, y + stairsRadius); yy++) {
                     for (int xx = Math.max(0, x - stairsRadius); xx <= Math.min(w - 1, x + stairsRadius); xx++) {
-                        if (map[xx + yy * w] == Tiles.get("Stairs Down").id) {
+                        if (map[xx + yy * w] == Tiles.STAIRS_DOWN.id) {
                             continue stairsLoop;
                         }
                     }
                 }
 
-                map[x + y * w] = Tiles.get("Stairs Down").id;
+                map[x + y * w] = Tiles.STAIRS_DOWN.id;
 
                 stairsCount++;
                 if (stairsCount >= w / 32) {
@@ -1170,9 +1041,9 @@ public class LevelGen {
     }
 
     // Sky dimension generation
-    private static short[][] createSkyMap(int w, int h) {
-        LevelGen noise1 = new LevelGen(w, h, 8);
-        LevelGen noise2 = new LevelGen(w, h, 8);
+    private static short[][] createSkyMap(int w, int h, Random random) {
+        Noise noise1 = new Noise(w, h, 8, random);
+        Noise noise2 = new Noise(w, h, 8, random);
 
         int fullsize = w * h;
         int halfWidth = w / 2;
@@ -1188,7 +1059,7 @@ public class LevelGen {
             for (int x = 0; x < w; x++) {
                 int i = x + y * w;
 
-                double val = Math.abs(noise1.values[i] - noise2.values[i]) * 3 - 2;
+                double val = Math.abs(noise1.get(x, y) - noise2.get(x, y)) * 3 - 2;
                 double xd = x / (w - 1.0) * 2 - 1;
                 double yd = y / (h - 1.0) * 2 - 1;
 
@@ -1203,9 +1074,9 @@ public class LevelGen {
                 val += 1 - dist * 20;
 
                 if (val < -0.27) {
-                    map[i] = Tiles.get("Infinite Fall").id;
+                    map[i] = Tiles.INFINITE_FALL.id;
                 } else {
-                    map[i] = Tiles.get("Cloud").id;
+                    map[i] = Tiles.CLOUD.id;
                 }
                 
                 data[i] = (short) (0);
@@ -1229,8 +1100,8 @@ public class LevelGen {
                     for (int yy = yo - 1; yy <= yo + 1; yy++) {
                         for (int xx = xo - 1; xx <= xo + 1; xx++) {
                             if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                                if (map[xx + yy * w] == Tiles.get("Cloud").id) {
-                                    map[xx + yy * w] = Tiles.get("Sky Grass").id;
+                                if (map[xx + yy * w] == Tiles.CLOUD.id) {
+                                    map[xx + yy * w] = Tiles.SKY_GRASS.id;
                                 }
                             }
                         }
@@ -1256,7 +1127,7 @@ public class LevelGen {
                     for (int yy = yo - 1; yy <= yo + 1; yy++) {
                         for (int xx = xo - 1; xx <= xo + 1; xx++) {
                             if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                                if (map[xx + yy * w] == Tiles.get("Infinite Fall").id) {
+                                if (map[xx + yy * w] == Tiles.INFINITE_FALL.id) {
                                     map[xx + yy * w] = Tiles.get("Holy Rock").id;
                                 }
                             }
@@ -1281,8 +1152,8 @@ public class LevelGen {
                     for (int yy = yo - 1; yy <= yo + 1; yy++) {
                         for (int xx = xo - 1; xx <= xo + 1; xx++) {
                             if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                                if (map[xx + yy * w] == Tiles.get("Cloud").id) {
-                                    map[xx + yy * w] = Tiles.get("Ferrosite").id;
+                                if (map[xx + yy * w] == Tiles.CLOUD.id) {
+                                    map[xx + yy * w] = Tiles.FERROSITE.id;
                                 }
                             }
                         }
@@ -1301,8 +1172,8 @@ public class LevelGen {
                 int yy = y + random.nextInt(6) - random.nextInt(6);
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                    if (map[xx + yy * w] == Tiles.get("Sky grass").id) {
-                        map[xx + yy * w] = Tiles.get("Sky lawn").id;
+                    if (map[xx + yy * w] == Tiles.SKY_GRASS.id) {
+                        map[xx + yy * w] = Tiles.SKY_LAWN.id;
                         data[xx + yy * w] = (short) (pos + random.nextInt(4) * 16);
                     }
                 }
@@ -1318,7 +1189,7 @@ public class LevelGen {
                 int yy = y + random.nextInt(14) - random.nextInt(12) + random.nextInt(4);
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                    if (map[xx + yy * w] == Tiles.get("Sky grass").id) {
+                    if (map[xx + yy * w] == Tiles.SKY_GRASS.id) {
                         map[xx + yy * w] = Tiles.get("Skyroot tree").id;
                     }
                 }
@@ -1334,7 +1205,7 @@ public class LevelGen {
                 int yy = y + random.nextInt(14) - random.nextInt(12) + random.nextInt(4);
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                    if (map[xx + yy * w] == Tiles.get("Sky grass").id) {
+                    if (map[xx + yy * w] == Tiles.SKY_GRASS.id) {
                         map[xx + yy * w] = Tiles.get("Bluroot tree").id;
                     }
                 }
@@ -1347,8 +1218,8 @@ public class LevelGen {
             int yy = random.nextInt(h);
 
             if ((xx >= 0 && yy >= 0) && (xx < w && yy < h)) {
-                if (map[xx + yy * w] == Tiles.get("Ferrosite").id) {
-                    map[xx + yy * w] = Tiles.get("Cloud cactus").id;
+                if (map[xx + yy * w] == Tiles.FERROSITE.id) {
+                    map[xx + yy * w] = Tiles.CLOUD_CACTUS.id;
                 }
             }
         }
@@ -1362,8 +1233,8 @@ public class LevelGen {
                 int yy = y + random.nextInt(14) - random.nextInt(12) + random.nextInt(4);
 
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                    if (map[xx + yy * w] == Tiles.get("Ferrosite").id) {
-                        map[xx + yy * w] = Tiles.get("Goldroot tree").id;
+                    if (map[xx + yy * w] == Tiles.FERROSITE.id) {
+                        map[xx + yy * w] = Tiles.GOLDROOT_TREE.id;
                     }
                 }
             }
@@ -1373,14 +1244,14 @@ public class LevelGen {
         for (int j = 0; j < h; j++) {
             for (int x = 0; x < w; x++) {
                 // Check if the current tile is a "sky" tile
-                if (map[x + j * w] != Tiles.get("Infinite fall").id && (map[x + j * w] == Tiles.get("Holy Rock").id || map[x + j * w] == Tiles.get("Sky fern").id)) {
+                if (map[x + j * w] != Tiles.INFINITE_FALL.id && (map[x + j * w] == Tiles.get("Holy Rock").id || map[x + j * w] == Tiles.get("Sky fern").id)) {
 
                     // Check the surrounding tiles within the specified thickness to see if any of them are "Infinite fall" tiles
                     boolean replace = false;
 
                     for (int tx = x - edgesThickness; tx <= x + edgesThickness && !replace; tx++) {
                         for (int ty = j - edgesThickness; ty <= j + edgesThickness && !replace; ty++) {
-                            if (tx >= 0 && ty >= 0 && tx < w && ty < h && (tx != x || ty != j) && map[tx + ty * w] == Tiles.get("Infinite fall").id) {
+                            if (tx >= 0 && ty >= 0 && tx < w && ty < h && (tx != x || ty != j) && map[tx + ty * w] == Tiles.INFINITE_FALL.id) {
                             	replace = true;
                             }
                         }
@@ -1388,7 +1259,7 @@ public class LevelGen {
 
                     // If any surrounding tiles are "Infinite fall" tiles, replace the current tile with a "Sky grass" tile
                     if (replace) {
-                        map[x + j * w] = Tiles.get("Sky grass").id;
+                        map[x + j * w] = Tiles.SKY_GRASS.id;
                     }
                 }
             }
@@ -1404,7 +1275,7 @@ public class LevelGen {
 
             for (int yy = y - 1; yy <= y + 1; yy++) {
                 for (int xx = x - 1; xx <= x + 1; xx++) {
-                    if (map[xx + yy * w] != Tiles.get("Cloud").id) {
+                    if (map[xx + yy * w] != Tiles.CLOUD.id) {
                         continue stairsLoop;
                     }
                 }
@@ -1413,13 +1284,13 @@ public class LevelGen {
             // This should prevent any stairsDown tile from being within 30 tiles of any other stairsDown tile.
             for (int yy = Math.max(0, y - stairsRadius); yy <= Math.min(h - 1, y + stairsRadius); yy++) {
                 for (int xx = Math.max(0, x - stairsRadius); xx <= Math.min(w - 1, x + stairsRadius); xx++) {
-                    if (map[xx + yy * w] == Tiles.get("Stairs Down").id) {
+                    if (map[xx + yy * w] == Tiles.STAIRS_DOWN.id) {
                         continue stairsLoop;
                     }
                 }
             }
 
-            map[x + y * w] = Tiles.get("Stairs Down").id;
+            map[x + y * w] = Tiles.STAIRS_DOWN.id;
 
             stairsCount++;
             if (stairsCount >= w / 64) {
@@ -1431,20 +1302,20 @@ public class LevelGen {
     }
 
 
-    public static short[][] createVoidMap(int w, int h) {
+    public static short[][] createVoidMap(int w, int h, Random random) {
 
         // creates a bunch of value maps, some with small size...
-        LevelGen mnoise1 = new LevelGen(w, h, 16);
-        LevelGen mnoise2 = new LevelGen(w, h, 16);
-        LevelGen mnoise3 = new LevelGen(w, h, 16);
+        Noise mnoise1 = new Noise(w, h, 16, random);
+        Noise mnoise2 = new Noise(w, h, 16, random);
+        Noise mnoise3 = new Noise(w, h, 16, random);
 
         // ...and some with larger size..
-        LevelGen noise1 = new LevelGen(w, h, 32);
-        LevelGen noise2 = new LevelGen(w, h, 32);
+        Noise noise1 = new Noise(w, h, 32, random);
+        Noise noise2 = new Noise(w, h, 32, random);
 
-        //LevelGen jnoise1 = new LevelGen(w, h, 8);
-        //LevelGen jnoise2 = new LevelGen(w, h, 4);
-        //LevelGen jnoise3 = new LevelGen(w, h, 8);
+        //Noise jnoise1 = new Noise(w, h, 8, random);
+        //Noise jnoise2 = new Noise(w, h, 4, random);
+        //Noise jnoise3 = new Noise(w, h, 8, random);
 
         short[] map = new short[w * h];
         short[] data = new short[w * h];
@@ -1453,9 +1324,9 @@ public class LevelGen {
             for (int x = 0; x < w; x++) {
                 int i = x + y * w;
 
-                double val = Math.abs(noise1.values[i] - noise2.values[i]) * 3 - 2;
-                double mval = Math.abs(mnoise1.values[i] - mnoise2.values[i]);
-                mval = Math.abs(mval - mnoise3.values[i]) * 3 - 2;
+                double val = Math.abs(noise1.get(x, y) - noise2.get(x, y)) * 3 - 2;
+                double mval = Math.abs(mnoise1.get(x, y) - mnoise2.get(x, y));
+                mval = Math.abs(mval - mnoise3.get(x, y)) * 3 - 2;
 
                 // this calculates a sort of distance based on the current coordinate.
                 double xd = x / (w - 1.0) * 2 - 1;
@@ -1470,11 +1341,11 @@ public class LevelGen {
                 val += 1 - dist * 20;
 
                 if (val < -0.5) {
-                    map[i] = Tiles.get("Infinite Fall").id;
+                    map[i] = Tiles.INFINITE_FALL.id;
                 } else if (val > 0.5 && mval < -1.0) {
-                    map[i] = Tiles.get("Rock").id;
+                    map[i] = Tiles.ROCK.id;
                 } else {
-                    map[i] = Tiles.get("Grass").id;
+                    map[i] = Tiles.GRASS.id;
                 }
             }
         }
@@ -1486,8 +1357,8 @@ public class LevelGen {
                 int xx = x + random.nextInt(15) - random.nextInt(14);
                 int yy = y + random.nextInt(15) - random.nextInt(14);
                 if (xx >= 0 && yy >= 0 && xx < w && yy < h) {
-                    if (map[xx + yy * w] == Tiles.get("Grass").id) {
-                        map[xx + yy * w] = Tiles.get("Oak Tree").id;
+                    if (map[xx + yy * w] == Tiles.GRASS.id) {
+                        map[xx + yy * w] = Tiles.OAK_TREE.id;
                     }
                 }
             }
@@ -1504,7 +1375,8 @@ public class LevelGen {
          * the world generated
          */
 
-        LevelGen.worldSeed = 0x100; // 256L
+        long worldSeed = 0x100; // 256L
+        Random random = new Random(worldSeed);
 
         // Fixes to get this method to work
         // AirWizard needs this in constructor
@@ -1577,36 +1449,36 @@ public class LevelGen {
 					*/
 
                     // Surface tiles
-                    if (map[i] == Tiles.get("Grass").id) pixels[i] = 0x54a854;
-                    else if (map[i] == Tiles.get("Lawn").id) pixels[i] = 0x60a560;
-                    else if (map[i] == Tiles.get("Dirt").id) pixels[i] = 0x836c6c;
-                    else if (map[i] == Tiles.get("Rose").id) pixels[i] = 0x60A560;
-                    else if (map[i] == Tiles.get("Dandelion").id) pixels[i] = 0x60a560;
-                    else if (map[i] == Tiles.get("Poppy").id) pixels[i] = 0x60a560;
-                    else if (map[i] == Tiles.get("Daisy").id) pixels[i] = 0x60a560;
-                    else if (map[i] == Tiles.get("Water").id) pixels[i] = 0x1A2C89;
-                    else if (map[i] == Tiles.get("Lava").id) pixels[i] = 0xC82020;
+                    if (map[i] == Tiles.GRASS.id) pixels[i] = 0x54a854;
+                    else if (map[i] == Tiles.LAWN.id) pixels[i] = 0x60a560;
+                    else if (map[i] == Tiles.DIRT.id) pixels[i] = 0x836c6c;
+                    else if (map[i] == Tiles.ROSE.id) pixels[i] = 0x60A560;
+                    else if (map[i] == Tiles.DANDELION.id) pixels[i] = 0x60a560;
+                    else if (map[i] == Tiles.POPPY.id) pixels[i] = 0x60a560;
+                    else if (map[i] == Tiles.DAISY.id) pixels[i] = 0x60a560;
+                    else if (map[i] == Tiles.WATER.id) pixels[i] = 0x1A2C89;
+                    else if (map[i] == Tiles.LAVA.id) pixels[i] = 0xC82020;
                     else if (map[i] == Tiles.get("Magma").id) pixels[i] = 0xC83C20;
-                    else if (map[i] == Tiles.get("Rock").id) pixels[i] = 0x7a7a7a;
-                    else if (map[i] == Tiles.get("Up Rock").id) pixels[i] = 0x939393;
+                    else if (map[i] == Tiles.ROCK.id) pixels[i] = 0x7a7a7a;
+                    else if (map[i] == Tiles.UP_ROCK.id) pixels[i] = 0x939393;
                     else if (map[i] == Tiles.get("Sand Rock").id) pixels[i] = 0x7a7a7a;
 
                     else if (map[i] == Tiles.get("Iron Ore").id) pixels[i] = 0x452728;
                     else if (map[i] == Tiles.get("Gold Ore").id) pixels[i] = 0x948028;
                     else if (map[i] == Tiles.get("Gem Ore").id) pixels[i] = 0x821DB6;
 
-                    else if (map[i] == Tiles.get("Sand").id) pixels[i] = 0xe2e26f;
+                    else if (map[i] == Tiles.SAND.id) pixels[i] = 0xe2e26f;
                     else if (map[i] == Tiles.get("Cactus").id) pixels[i] = 0xC82020;
-                    else if (map[i] == Tiles.get("Snow").id) pixels[i] = 0xf0f0f0;
+                    else if (map[i] == Tiles.SNOW.id) pixels[i] = 0xf0f0f0;
                     else if (map[i] == Tiles.get("Ice Spike").id) pixels[i] = 0xe6e6e6;
                     else if (map[i] == Tiles.get("Stone Bricks").id) pixels[i] = 0xa0a040;
-                    else if (map[i] == Tiles.get("Oak tree").id) pixels[i] = 0x255325;
-                    else if (map[i] == Tiles.get("Birch tree").id) pixels[i] = 0x0c750c;
+                    else if (map[i] == Tiles.OAK_TREE.id) pixels[i] = 0x255325;
+                    else if (map[i] == Tiles.BIRCH_TREE.id) pixels[i] = 0x0c750c;
                     else if (map[i] == Tiles.get("Fir tree").id) pixels[i] = 0x138b62;
                     else if (map[i] == Tiles.get("Pine tree").id) pixels[i] = 0x117f59;
 
                         // Village
-                    else if (map[i] == Tiles.get("Oak Planks").id) pixels[i] = 0x914f0e;
+                    else if (map[i] == Tiles.OAK_PLANKS.id) pixels[i] = 0x914f0e;
                     else if (map[i] == Tiles.get("Oak Wall").id) pixels[i] = 0x7a430c;
                     else if (map[i] == Tiles.get("Oak Door").id) pixels[i] = 0x7a4817;
 
@@ -1617,29 +1489,29 @@ public class LevelGen {
                     else if (map[i] == Tiles.get("Gem Ore").id) pixels[i] = 0xD25BD2;
 
                         // Dungeon tiles
-                    else if (map[i] == Tiles.get("Obsidian Wall").id) pixels[i] = 0x480887;
-                    else if (map[i] == Tiles.get("Raw Obsidian").id) pixels[i] = 0x5f0aa0;
-                    else if (map[i] == Tiles.get("Obsidian").id) pixels[i] = 0x660aa0;
+                    else if (map[i] == Tiles.OBSIDIAN_WALL.id) pixels[i] = 0x480887;
+                    else if (map[i] == Tiles.RAW_OBSIDIAN.id) pixels[i] = 0x5f0aa0;
+                    else if (map[i] == Tiles.OBSIDIAN.id) pixels[i] = 0x660aa0;
 
                         // Stairs
-                    else if (map[i] == Tiles.get("Stairs Down").id) pixels[i] = 0xffffffff;
-                    else if (map[i] == Tiles.get("Stairs Up").id) pixels[i] = 0xffffffff;
+                    else if (map[i] == Tiles.STAIRS_DOWN.id) pixels[i] = 0xffffffff;
+                    else if (map[i] == Tiles.STAIRS_UP.id) pixels[i] = 0xffffffff;
 
                         // Sky tiles
-                    else if (map[i] == Tiles.get("Infinite Fall").id) pixels[i] = 0x255325;
-                    else if (map[i] == Tiles.get("Cloud").id) pixels[i] = 0xf7f7f7;
-                    else if (map[i] == Tiles.get("Cloud Cactus").id) pixels[i] = 0xfafafa;
+                    else if (map[i] == Tiles.INFINITE_FALL.id) pixels[i] = 0x255325;
+                    else if (map[i] == Tiles.CLOUD.id) pixels[i] = 0xf7f7f7;
+                    else if (map[i] == Tiles.CLOUD_CACTUS.id) pixels[i] = 0xfafafa;
                     else if (map[i] == Tiles.get("Skyroot tree").id) pixels[i] = 0x477044;
-                    else if (map[i] == Tiles.get("Goldroot tree").id) pixels[i] = 0xBBA14F;
+                    else if (map[i] == Tiles.GOLDROOT_TREE.id) pixels[i] = 0xBBA14F;
                     else if (map[i] == Tiles.get("Bluroot tree").id) pixels[i] = 0x00769E;
-                    else if (map[i] == Tiles.get("Ferrosite").id) pixels[i] = 0xcbc579;
-                    else if (map[i] == Tiles.get("Sky grass").id) pixels[i] = 0x5aab8a;
+                    else if (map[i] == Tiles.FERROSITE.id) pixels[i] = 0xcbc579;
+                    else if (map[i] == Tiles.SKY_GRASS.id) pixels[i] = 0x5aab8a;
                     else if (map[i] == Tiles.get("Sky fern").id) pixels[i] = 0x5aab8a;
-                    else if (map[i] == Tiles.get("Sky lawn").id) pixels[i] = 0x9EC7C6;
+                    else if (map[i] == Tiles.SKY_LAWN.id) pixels[i] = 0x9EC7C6;
                     else if (map[i] == Tiles.get("Holy rock").id) pixels[i] = 0xB9B9CD;
                     else if (map[i] == Tiles.get("Ice").id) pixels[i] = 0x686EEC;
 
-                    else if (map[i] == Tiles.get("Mycelium").id) pixels[i] = 0x665666;
+                    else if (map[i] == Tiles.MYCELIUM.id) pixels[i] = 0x665666;
                     else if (map[i] == Tiles.get("Red Mushroom").id) pixels[i] = 0x685868;
                     else if (map[i] == Tiles.get("Brown Mushroom").id) pixels[i] = 0x645464;
                     else pixels[i] = 0x000000;
@@ -1666,10 +1538,10 @@ public class LevelGen {
                     options, null
             );
 
-            if (LevelGen.worldSeed == 0x100) { // 256L
-                LevelGen.worldSeed = 0xAAFF20; // 11206432L
+            if (worldSeed == 0x100) { // 256L
+                worldSeed = 0xAAFF20; // 11206432L
             } else {
-                LevelGen.worldSeed = 0x100; // 256L
+                worldSeed = 0x100; // 256L
             }
 
 			/* Now you noticed that we made the dialog an integer. This is because when you click a button it will return a number.
@@ -0,0 +1,120 @@
+package minicraft.level;
+
+import minicraft.graphic.Screen;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps where the tiles that give light are, in square regions, so the light of a frame only
+ * needs to look at those instead of every tile around the screen.
+ *
+ * The level is scanned the first time the lights are needed, since the loaded tiles are set
+ * directly, and after that {@link #update(int, int)} is called every time a tile changes.
+ */
+class LightMap {
+
+	private static final int REGION_SHIFT = 4;
+	private static final int REGION_SIZE = 1 << REGION_SHIFT; // In tiles
+
+	private final Level level;
+	private final int regionsW, regionsH;
+
+	private BitSet lit; // The tiles that give light, null until the level is scanned
+	private int[][] regions; // The positions of the tiles that give light in each region
+	private int[] regionSizes;
+
+	LightMap(Level level) {
+		this.level = level;
+		regionsW = (level.w + REGION_SIZE - 1) >> REGION_SHIFT;
+		regionsH = (level.h + REGION_SIZE - 1) >> REGION_SHIFT;
+	}
+
+	private void scan() {
+		lit = new BitSet(level.w * level.h);
+		regions = new int[regionsW * regionsH][];
+		regionSizes = new int[regions.length];
+
+		for (int y = 0; y < level.h; y++) {
+			for (int x = 0; x < level.w; x++) {
+				if (level.getTile(x, y).getLightRadius(level, x, y) > 0) {
+					add(x, y);
+				}
+			}
+		}
+	}
+
+	/** Checks again if the tile gives light, called after the tile or its data changes. */
+	void update(int x, int y) {
+		if (lit == null) {
+			return; // Not scanned yet
+		}
+
+		boolean giveLight = level.getTile(x, y).getLightRadius(level, x, y) > 0;
+		if (giveLight != lit.get(x + y * level.w)) {
+			if (giveLight) {
+				add(x, y);
+			} else {
+				remove(x, y);
+			}
+		}
+	}
+
+	private void add(int x, int y) {
+		int position = x + y * level.w;
+		lit.set(position);
+
+		int region = (x >> REGION_SHIFT) + (y >> REGION_SHIFT) * regionsW;
+		int[] positions = regions[region];
+		if (positions == null) {
+			positions = regions[region] = new int[4];
+		} else if (regionSizes[region] == positions.length) {
+			positions = regions[region] = Arrays.copyOf(positions, positions.length * 2);
+		}
+		positions[regionSizes[region]++] = position;
+	}
+
+	private void remove(int x, int y) {
+		int position = x + y * level.w;
+		lit.clear(position);
+
+		int region = (x >> REGION_SHIFT) + (y >> REGION_SHIFT) * regionsW;
+		int[] positions = regions[region];
+		for (int i = 0; i < regionSizes[region]; i++) {
+			if (positions[i] == position) {
+				positions[i] = positions[--regionSizes[region]];
+				break;
+			}
+		}
+	}
+
+	/** Renders the light of the tiles that give light in the given area, in tiles. */
+	void renderLights(Screen screen, int x0, int y0, int x1, int y1, int brightness) {
+		if (lit == null) {
+			scan();
+		}
+
+		int rx0 = Math.max(x0, 0) >> REGION_SHIFT;
+		int ry0 = Math.max(y0, 0) >> REGION_SHIFT;
+		int rx1 = Math.min(x1, level.w - 1) >> REGION_SHIFT;
+		int ry1 = Math.min(y1, level.h - 1) >> REGION_SHIFT;
+
+		for (int ry = ry0; ry <= ry1; ry++) {
+			for (int rx = rx0; rx <= rx1; rx++) {
+				int region = rx + ry * regionsW;
+				int[] positions = regions[region];
+
+				for (int i = 0; i < regionSizes[region]; i++) {
+					int x = positions[i] % level.w;
+					int y = positions[i] / level.w;
+					if (x < x0 || y < y0 || x > x1 || y > y1) {
+						continue;
+					}
+
+					int lightRadius = level.getTile(x, y).getLightRadius(level, x, y);
+					screen.renderLight((x << 4) + 8, (y << 4) + 8, lightRadius * brightness);
+				}
+			}
+		}
+	}
+}
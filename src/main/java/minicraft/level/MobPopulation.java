@@ -0,0 +1,152 @@
+package minicraft.level;
+
+import minicraft.entity.Entity;
+import minicraft.entity.mob.EnemyMob;
+import minicraft.entity.mob.Mob;
+import minicraft.entity.mob.MobAi;
+import minicraft.entity.mob.PassiveMob;
+import minicraft.entity.mob.VillagerMob;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Keeps the mobs of a level, split by what kind of mob they are, so the level knows how many
+ * there are without counting them, and can pick random ones to remove when there are too many.
+ *
+ * The mobs are added and removed at the same time as the entities of the level. The players
+ * and the other mobs that are not a {@link MobAi} are counted, but never removed by the cap.
+ */
+class MobPopulation {
+
+	enum Category {
+		ENEMY, PASSIVE, VILLAGER, OTHER // OTHER is the rest of the mobs with AI, like the sky and frost mobs
+	}
+
+	private final Level level;
+
+	private final EnumMap<Category, List<MobAi>> mobs = new EnumMap<>(Category.class);
+	private final HashMap<Entity, Integer> indices = new HashMap<>(); // Where each mob is in the list of its category
+	private int count; // All the mobs, with the players
+
+	private int evicted; // How many mobs the cap has removed
+
+	MobPopulation(Level level) {
+		this.level = level;
+		for (Category category : Category.values()) {
+			mobs.put(category, new ArrayList<>());
+		}
+	}
+
+	private static Category categoryOf(MobAi mob) {
+		if (mob instanceof VillagerMob) return Category.VILLAGER;
+		if (mob instanceof EnemyMob) return Category.ENEMY;
+		if (mob instanceof PassiveMob) return Category.PASSIVE;
+		return Category.OTHER;
+	}
+
+	/** Called when an entity is added to the level, nothing happens if it's already there. */
+	void add(Entity entity) {
+		if (!(entity instanceof Mob) || indices.containsKey(entity)) {
+			return;
+		}
+
+		count++;
+		if (entity instanceof MobAi) {
+			List<MobAi> list = mobs.get(categoryOf((MobAi) entity));
+			indices.put(entity, list.size());
+			list.add((MobAi) entity);
+		} else {
+			indices.put(entity, -1); // Only counted
+		}
+	}
+
+	/** Called when an entity is removed from the level, nothing happens if it's not there. */
+	void remove(Entity entity) {
+		Integer index = indices.remove(entity);
+		if (index == null) {
+			return;
+		}
+
+		count--;
+		if (index >= 0) {
+			// The last one of the list takes its place
+			List<MobAi> list = mobs.get(categoryOf((MobAi) entity));
+			MobAi last = list.remove(list.size() - 1);
+			if (last != entity) {
+				list.set(index, last);
+				indices.put(last, index);
+			}
+		}
+	}
+
+	void clear() {
+		for (List<MobAi> list : mobs.values()) {
+			list.clear();
+		}
+		indices.clear();
+		count = 0;
+	}
+
+	/**
+	 * Removes random mobs that are not near a player, until there are no more than the max.
+	 * The villagers are never removed. Each mob is looked at once at most, so if most of them
+	 * are near the players this stops, and tries again the next tick.
+	 */
+	void removeOverCap(int max, Random random) {
+		if (count <= max) {
+			return;
+		}
+
+		Category[] evictable = { Category.ENEMY, Category.PASSIVE, Category.OTHER };
+
+		// The ones not looked at yet are at the start of each list
+		int[] remaining = new int[evictable.length];
+		int candidates = 0;
+		for (int i = 0; i < evictable.length; i++) {
+			remaining[i] = mobs.get(evictable[i]).size();
+			candidates += remaining[i];
+		}
+
+		while (count > max && candidates > 0) {
+			int pick = random.nextInt(candidates);
+			int category = 0;
+			while (pick >= remaining[category]) {
+				pick -= remaining[category++];
+			}
+
+			// Move it after the ones not looked at yet
+			List<MobAi> list = mobs.get(evictable[category]);
+			int last = --remaining[category];
+			MobAi mob = list.get(pick);
+			MobAi other = list.get(last);
+			list.set(pick, other);
+			list.set(last, mob);
+			indices.put(other, pick);
+			indices.put(mob, last);
+
+			if (!level.entityNearPlayer(mob)) {
+				level.remove(mob);
+				remove(mob); // The level only removes it at the end of the tick, so it can't be picked again
+				evicted++;
+			}
+			candidates--;
+		}
+	}
+
+	/** All the mobs of the level, with the players. */
+	int getCount() {
+		return count;
+	}
+
+	int getCount(Category category) {
+		return mobs.get(category).size();
+	}
+
+	int getEvicted() {
+		return evicted;
+	}
+}
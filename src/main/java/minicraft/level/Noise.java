@@ -0,0 +1,173 @@
+package minicraft.level;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Value noise used by the level generation.
+ *
+ * Every value only depends on the seed and the coordinates: random values are hashed from
+ * the corners of a grid of {@code featureSize} tiles and blended, then smaller and weaker
+ * grids are added on top, like the old diamond-square maps. So any part of the map can be
+ * sampled on its own with {@link #sample(int, int, int, int, float[])}, and the noise wraps
+ * around the edges of the map like the old one did.
+ *
+ * The generation reads the noise row by row, so {@link #get(int, int)} samples a strip of
+ * {@code BLOCK_SIZE} rows at a time and only keeps that one, instead of the whole map.
+ */
+final class Noise {
+
+	private static final int BLOCK_SHIFT = 4;
+	private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT; // In rows
+
+	private final long seed;
+	private final int w, h;
+
+	// The grids, from the biggest to the smallest, the sizes are powers of two
+	private final int[] shifts;
+	private final float[] amplitudes;
+	private final float[][] fades; // How much of the next corner goes in each tile of a cell
+
+	private final float[] block;
+	private int blockRow = -1;
+
+	// The corners above and below the row being sampled, and both blended for that row
+	private float[] top, bottom;
+	private final float[] blended;
+
+	/** The seed is taken from the random, so every noise made from the same random is different. */
+	Noise(int w, int h, int featureSize, Random random) {
+		this.seed = random.nextLong();
+		this.w = w;
+		this.h = h;
+
+		int count = Integer.numberOfTrailingZeros(featureSize) + 1; // Down to single tiles
+		shifts = new int[count];
+		amplitudes = new float[count];
+		fades = new float[count][];
+
+		// Same weights that the diamond-square steps used to add to the averages
+		double scale = 1.3 / w;
+		double scaleMod = 1.0;
+		for (int i = 0; i < count; i++) {
+			int stepSize = featureSize >> i;
+			shifts[i] = Integer.numberOfTrailingZeros(stepSize);
+			amplitudes[i] = i == 0 ? 1f : (float) (stepSize * 2 * scale);
+
+			fades[i] = new float[stepSize];
+			for (int j = 0; j < stepSize; j++) {
+				float t = j / (float) stepSize;
+				fades[i][j] = t * t * (3 - 2 * t);
+			}
+
+			if (i > 0) {
+				scale *= (scaleMod + 0.7);
+				scaleMod *= 0.3;
+			}
+		}
+
+		block = new float[w * BLOCK_SIZE];
+		top = new float[w + 1];
+		bottom = new float[w + 1];
+		blended = new float[w + 1];
+	}
+
+	/** @return The value at the given tile, between -1 and 1 most of the time. */
+	float get(int x, int y) {
+		x &= w - 1;
+		y &= h - 1;
+
+		int row = y >> BLOCK_SHIFT;
+		if (row != blockRow) {
+			fillBlock(row);
+		}
+
+		return block[x + (y & (BLOCK_SIZE - 1)) * w];
+	}
+
+	private void fillBlock(int row) {
+		int y0 = row << BLOCK_SHIFT;
+		sample(0, y0, w, Math.min(BLOCK_SIZE, h - y0), block);
+		blockRow = row;
+	}
+
+	/**
+	 * Samples a region of the map into the values, row by row, the same values that {@link #get(int, int)} gives.
+	 * Only the grid corners the region needs are computed, and the region wraps around the edges of the map.
+	 */
+	void sample(int x0, int y0, int width, int height, float[] values) {
+		Arrays.fill(values, 0, width * height, 0);
+
+		x0 &= w - 1;
+		boolean wraps = x0 + width > w;
+
+		for (int i = 0; i < shifts.length; i++) {
+			int shift = shifts[i];
+			int mask = (1 << shift) - 1;
+			int columns = Math.max(w >> shift, 1);
+			float[] fade = fades[i];
+			float amplitude = amplitudes[i];
+
+			// The columns of corners under the region, all of them if it wraps around
+			int cx0 = wraps ? 0 : x0 >> shift;
+			int cx1 = wraps ? columns : ((x0 + width - 1) >> shift) + 1;
+
+			int cornerRow = -2;
+			for (int row = 0; row < height; row++) {
+				int y = (y0 + row) & (h - 1);
+				int cy = y >> shift;
+				if (cy != cornerRow) {
+					if (cy == cornerRow + 1) {
+						float[] swap = top;
+						top = bottom;
+						bottom = swap;
+					} else {
+						cornerRow(i, cy, cx0, cx1, top);
+					}
+					cornerRow(i, cy + 1, cx0, cx1, bottom);
+					cornerRow = cy;
+				}
+
+				float fy = fade[y & mask];
+				for (int cx = cx0; cx <= cx1; cx++) {
+					blended[cx] = lerp(top[cx], bottom[cx], fy);
+				}
+
+				int offset = row * width;
+				for (int j = 0; j < width; j++) {
+					int x = (x0 + j) & (w - 1);
+					values[offset + j] += lerp(blended[x >> shift], blended[(x >> shift) + 1], fade[x & mask]) * amplitude;
+				}
+			}
+		}
+	}
+
+	/** The corners past the last column are the ones at the start, see {@link #corner(int, int, int)}. */
+	private void cornerRow(int grid, int cy, int cx0, int cx1, float[] corners) {
+		for (int cx = cx0; cx <= cx1; cx++) {
+			corners[cx] = corner(grid, cx, cy);
+		}
+	}
+
+	/** @return The random value of a grid corner, between -1 and 1. */
+	private float corner(int grid, int cx, int cy) {
+		// Wraps around, so the corners past the edge are the ones at the start
+		cx &= Math.max(w >> shifts[grid], 1) - 1;
+		cy &= Math.max(h >> shifts[grid], 1) - 1;
+
+		long hash = seed + grid * 0x9E3779B97F4A7C15L;
+		hash ^= cx * 0xC2B2AE3D27D4EB4FL;
+		hash ^= cy * 0x165667B19E3779F9L;
+
+		// SplitMix64 finalizer
+		hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+		hash ^= hash >>> 31;
+
+		return (hash >>> 40) / (float) (1 << 23) - 1;
+	}
+
+	private static float lerp(float a, float b, float t) {
+		return a + (b - a) * t;
+	}
+}
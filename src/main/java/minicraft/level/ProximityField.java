@@ -0,0 +1,99 @@
+package minicraft.level;
+
+import minicraft.level.tile.Tile;
+
+import java.util.function.Predicate;
+
+/**
+ * Keeps, for every tile of a level, how many tiles of a kind are in the square of the given
+ * radius around it, so checking if one is near (like water for the crops) is a single lookup.
+ *
+ * Like the {@link LightMap}, the level is counted the first time it's needed, and again if the
+ * loaders replace the tiles array. After that {@link #update} is called every time a tile changes.
+ */
+class ProximityField {
+
+	private static final int MAX_RADIUS = 5; // So the counts fit in a byte
+
+	private final Level level;
+	private final Predicate<Tile> matches;
+	private final int radius;
+
+	private short[] countedTiles; // The tiles array that was counted
+	private byte[] counts;
+
+	ProximityField(Level level, Predicate<Tile> matches, int radius) {
+		if (radius < 0 || radius > MAX_RADIUS) {
+			throw new IllegalArgumentException("Radius must be between 0 and " + MAX_RADIUS + ", was " + radius);
+		}
+
+		this.level = level;
+		this.matches = matches;
+		this.radius = radius;
+	}
+
+	/** Counts the whole level, along the rows first and then along the columns. */
+	private void count() {
+		int w = level.w;
+		int h = level.h;
+
+		int[] rows = new int[w * h];
+		for (int y = 0; y < h; y++) {
+			int sum = 0;
+			for (int x = -radius; x < w; x++) {
+				if (x + radius < w && matches.test(level.getTile(x + radius, y))) sum++;
+				if (x - radius - 1 >= 0 && matches.test(level.getTile(x - radius - 1, y))) sum--;
+				if (x >= 0) rows[x + y * w] = sum;
+			}
+		}
+
+		counts = new byte[w * h];
+		for (int x = 0; x < w; x++) {
+			int sum = 0;
+			for (int y = -radius; y < h; y++) {
+				if (y + radius < h) sum += rows[x + (y + radius) * w];
+				if (y - radius - 1 >= 0) sum -= rows[x + (y - radius - 1) * w];
+				if (y >= 0) counts[x + y * w] = (byte) sum;
+			}
+		}
+
+		countedTiles = level.tiles;
+	}
+
+	/** Checks if there's a matching tile in the square of the radius around the tile. */
+	boolean isNear(int x, int y) {
+		if (x < 0 || y < 0 || x >= level.w || y >= level.h) {
+			// Not counted, look at the part of the square inside the level
+			for (int yy = Math.max(y - radius, 0); yy <= Math.min(y + radius, level.h - 1); yy++) {
+				for (int xx = Math.max(x - radius, 0); xx <= Math.min(x + radius, level.w - 1); xx++) {
+					if (matches.test(level.getTile(xx, yy))) return true;
+				}
+			}
+			return false;
+		}
+
+		if (countedTiles != level.tiles) {
+			count();
+		}
+		return counts[x + y * level.w] > 0;
+	}
+
+	/** Called after a tile changes from the old tile to the new one. */
+	void update(int x, int y, Tile oldTile, Tile newTile) {
+		if (countedTiles != level.tiles) {
+			return; // Not counted yet, or it will be counted again
+		}
+
+		boolean matched = matches.test(oldTile);
+		if (matched == matches.test(newTile)) {
+			return;
+		}
+
+		int change = matched ? -1 : 1;
+		for (int yy = Math.max(y - radius, 0); yy <= Math.min(y + radius, level.h - 1); yy++) {
+			for (int xx = Math.max(x - radius, 0); xx <= Math.min(x + radius, level.w - 1); xx++) {
+				counts[xx + yy * level.w] += change;
+			}
+		}
+	}
+}
@@ -7,6 +7,7 @@ import minicraft.graphic.Point;
 import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 
@@ -16,6 +17,8 @@ public class Structure {
     private HashSet<TilePoint> tiles;
     private HashMap<Point, Furniture> furniture;
 
+    private Stamp stamp; // The tiles compiled for drawing, made the first time it's drawn
+
     public Structure() {
         tiles = new HashSet<>();
         furniture = new HashMap<>();
@@ -28,6 +31,7 @@ public class Structure {
 
     public void setTile(int x, int y, Tile tile) {
         tiles.add(new TilePoint(x, y, tile));
+        stamp = null;
     }
 
     public void addFurniture(int x, int y, Furniture furniture) {
@@ -35,8 +39,9 @@ public class Structure {
     }
 
     public void draw(Level level, int xt, int yt) {
-        for (TilePoint point : tiles) {
-            level.setTile(xt + point.x, yt + point.y, point.t);
+        Stamp stamp = getStamp();
+        for (int i = 0; i < stamp.runs.length; i += 4) {
+            level.setTileRow(xt + stamp.runs[i], yt + stamp.runs[i + 1], stamp.ids, stamp.data, stamp.runs[i + 2], stamp.runs[i + 3]);
         }
 
         for (Point point : furniture.keySet()) {
@@ -45,9 +50,35 @@ public class Structure {
     }
 
     public void draw(short[] map, int xt, int yt, int mapWidth) {
-        for (TilePoint point : tiles) {
-            map[(xt + point.x) + (yt + point.y) * mapWidth] = point.t.id;
+        Stamp stamp = getStamp();
+        int mapHeight = map.length / mapWidth;
+
+        for (int i = 0; i < stamp.runs.length; i += 4) {
+            int x = xt + stamp.runs[i];
+            int y = yt + stamp.runs[i + 1];
+            int offset = stamp.runs[i + 2];
+            int length = stamp.runs[i + 3];
+
+            // Only the part of the row inside the map
+            if (y < 0 || y >= mapHeight) continue;
+            if (x < 0) {
+                offset -= x;
+                length += x;
+                x = 0;
+            }
+            length = Math.min(length, mapWidth - x);
+            if (length > 0) {
+                System.arraycopy(stamp.ids, offset, map, x + y * mapWidth, length);
+            }
+        }
+    }
+
+    private Stamp getStamp() {
+        Stamp stamp = this.stamp;
+        if (stamp == null) {
+            stamp = this.stamp = new Stamp(tiles);
         }
+        return stamp;
     }
 
     public void setData(String keys, String data) {
@@ -65,16 +96,91 @@ public class Structure {
         int width = dataLines[0].length();
         int height = dataLines.length;
 
+        // The tile of each key, so they are only looked up once
+        HashMap<Character, Tile> keyTiles = new HashMap<>();
+        for (String key : keyPairs.keySet()) {
+            keyTiles.put(key.charAt(0), Tiles.get(keyPairs.get(key)));
+        }
+
         for (int i = 0; i < dataLines.length; i++) {
             for (int c = 0; c < dataLines[i].length(); c++) {
                 if (dataLines[i].charAt(c) != '*') {
-                    Tile tile = Tiles.get(keyPairs.get(String.valueOf(dataLines[i].charAt(c))));
+                    Tile tile = keyTiles.get(dataLines[i].charAt(c));
                     this.setTile(-width / 2 + i, -height / 2 + c, tile);
                 }
             }
         }
     }
 
+    /**
+     * The tiles of a structure packed in a box, with the ids and data to write, and the rows of
+     * tiles that are part of it (the footprint) as runs, so each one is written at once.
+     */
+    static final class Stamp {
+        final int x0, y0; // Where the box starts, relative to the center
+        final int width, height;
+
+        final short[] ids;
+        final short[] data;
+        final boolean[] mask; // If the tile of the box is part of the structure
+
+        // For each run of tiles: x and y relative to the center, where it starts in the box, and its length
+        final int[] runs;
+
+        Stamp(HashSet<TilePoint> tiles) {
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+            for (TilePoint point : tiles) {
+                minX = Math.min(minX, point.x);
+                minY = Math.min(minY, point.y);
+                maxX = Math.max(maxX, point.x);
+                maxY = Math.max(maxY, point.y);
+            }
+
+            if (tiles.isEmpty()) {
+                minX = minY = 0;
+                maxX = maxY = -1;
+            }
+
+            x0 = minX;
+            y0 = minY;
+            width = maxX - minX + 1;
+            height = maxY - minY + 1;
+
+            ids = new short[width * height];
+            data = new short[width * height];
+            mask = new boolean[width * height];
+
+            // In the same order they were drawn one by one, so if two are in the same place, the same one stays
+            for (TilePoint point : tiles) {
+                int position = (point.x - x0) + (point.y - y0) * width;
+                ids[position] = point.t.id;
+                data[position] = (short) point.t.getDefaultData();
+                mask[position] = true;
+            }
+
+            int[] runs = new int[16];
+            int count = 0;
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (!mask[x + y * width]) continue;
+
+                    int start = x;
+                    while (x + 1 < width && mask[x + 1 + y * width]) x++;
+
+                    if (count + 4 > runs.length) {
+                        runs = Arrays.copyOf(runs, runs.length * 2);
+                    }
+                    runs[count++] = x0 + start;
+                    runs[count++] = y0 + y;
+                    runs[count++] = start + y * width;
+                    runs[count++] = x - start + 1;
+                }
+            }
+            this.runs = Arrays.copyOf(runs, count);
+        }
+    }
+
     static class TilePoint {
         int x, y;
 
@@ -0,0 +1,114 @@
+package minicraft.level;
+
+import minicraft.level.tile.Tile;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Keeps where the tiles that do something when ticked are (see {@link Tile#isTicked}), so the
+ * random ticks of the level only pick from those instead of from every tile of the map.
+ *
+ * Each of those tiles is still ticked as often as before: the level used to tick size / 50 random
+ * tiles, so each tile had (size / 50) / size ticks per level tick, and here the ticked tiles get the
+ * same share. Like the {@link LightMap}, the level is scanned the first time it's ticked, and again
+ * if the loaders replace the tiles array.
+ */
+class TickedTiles {
+
+	private final Level level;
+
+	private short[] scannedTiles; // The tiles array that was scanned
+	private int[] indices; // Where each tile is in positions, or -1 if it's not ticked
+	private int[] positions = new int[64];
+	private int count;
+
+	private long budget; // The ticks owed, in 1 / size of a tick
+
+	// How long ticking the tiles takes, smoothed, in nanoseconds
+	private double tickTime;
+
+	TickedTiles(Level level) {
+		this.level = level;
+	}
+
+	private void scan() {
+		indices = new int[level.w * level.h];
+		Arrays.fill(indices, -1);
+		count = 0;
+
+		for (int y = 0; y < level.h; y++) {
+			for (int x = 0; x < level.w; x++) {
+				if (level.getTile(x, y).isTicked(level, x, y)) {
+					add(x + y * level.w);
+				}
+			}
+		}
+
+		scannedTiles = level.tiles;
+	}
+
+	/** Checks again if the tile is ticked, called after the tile or its data changes. */
+	void update(int x, int y) {
+		if (scannedTiles != level.tiles) {
+			return; // Not scanned yet, or it will be scanned again
+		}
+
+		int position = x + y * level.w;
+		boolean ticked = level.getTile(x, y).isTicked(level, x, y);
+		if (ticked && indices[position] < 0) {
+			add(position);
+		} else if (!ticked && indices[position] >= 0) {
+			remove(position);
+		}
+	}
+
+	private void add(int position) {
+		if (count == positions.length) {
+			positions = Arrays.copyOf(positions, count * 2);
+		}
+		indices[position] = count;
+		positions[count++] = position;
+	}
+
+	private void remove(int position) {
+		int index = indices[position];
+		int last = positions[--count];
+		positions[index] = last;
+		indices[last] = index;
+		indices[position] = -1;
+	}
+
+	/** Does the random ticks of one level tick. */
+	void tick(Random random) {
+		long startTime = System.nanoTime();
+
+		if (scannedTiles != level.tiles) {
+			scan();
+		}
+
+		int size = level.w * level.h;
+		budget += (long) count * (size / 50);
+		while (budget >= size && count > 0) {
+			budget -= size;
+
+			int position = positions[random.nextInt(count)];
+			int xt = position % level.w;
+			int yt = position / level.w;
+			level.getTile(xt, yt).tick(level, xt, yt);
+		}
+		if (count == 0) {
+			budget = 0;
+		}
+
+		tickTime += (System.nanoTime() - startTime - tickTime) * 0.05;
+	}
+
+	int getCount() {
+		return count;
+	}
+
+	double getTickTime() {
+		return tickTime;
+	}
+}
@@ -0,0 +1,58 @@
+package minicraft.level;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps which tiles of a level have changed (the tile or its data), once each, so the server can
+ * send only those to the clients. Nothing is kept until {@link Level#trackTileChanges()} is called,
+ * the game without the server never pays for it.
+ */
+class TileChanges {
+
+	private final Level level;
+
+	private BitSet changed; // Null while not tracking
+	private int[] positions = new int[64];
+	private int count;
+
+	TileChanges(Level level) {
+		this.level = level;
+	}
+
+	void start() {
+		if (changed == null) {
+			changed = new BitSet(level.w * level.h);
+		}
+	}
+
+	/** Called after the tile or its data changes. */
+	void update(int x, int y) {
+		if (changed == null) {
+			return;
+		}
+
+		int position = x + y * level.w;
+		if (!changed.get(position)) {
+			changed.set(position);
+			if (count == positions.length) {
+				positions = Arrays.copyOf(positions, count * 2);
+			}
+			positions[count++] = position;
+		}
+	}
+
+	/** The positions (x + y * w) of the tiles that changed since the last call. */
+	int[] take() {
+		if (count == 0) {
+			return new int[0];
+		}
+
+		int[] taken = Arrays.copyOf(positions, count);
+		for (int position : taken) {
+			changed.clear(position);
+		}
+		count = 0;
+		return taken;
+	}
+}
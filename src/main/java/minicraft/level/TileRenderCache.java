@@ -0,0 +1,258 @@
+package minicraft.level;
+
+import minicraft.graphic.Screen;
+import minicraft.level.tile.Tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the tiles of a level already drawn, in square chunks, so the background of a frame is
+ * just copied from them instead of drawing every tile again.
+ *
+ * A tile is only drawn again when it, or one of the tiles around it, changes. The animated
+ * tiles (like water and lava) are not kept, those are still drawn on top every frame. The
+ * pixels that no tile draws are kept as transparent, so the sky background still shows.
+ */
+class TileRenderCache {
+
+	private static final int CHUNK_SHIFT = 4;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // In tiles
+	private static final int CHUNK_PIXELS = CHUNK_SIZE << 4; // The size of a chunk, in pixels
+	private static final int MAX_CHUNKS = 16; // About 4 MB, a screen never shows more than 9
+
+	private static final int TRANSPARENT = -1; // No sprite draws it, the colors only have 0 or 1 as alpha
+
+	private final Level level;
+	private final int chunksW;
+
+	private final Chunk[] chunks;
+	private final List<Chunk> drawnChunks = new ArrayList<>(); // The least recently used ones are dropped first
+	private int frame;
+
+	private Screen scratch; // Used to draw the tiles, the chunks are copied from it
+	private int sheetVersion;
+
+	private static final class Chunk {
+		final int index;
+		int lastFrame;
+
+		final int[] pixels = new int[CHUNK_PIXELS * CHUNK_PIXELS];
+		final boolean[] dirty = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+		final boolean[] animated = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+		final boolean[] opaque = new boolean[CHUNK_SIZE * CHUNK_SIZE];
+		int dirtyCount;
+
+		Chunk(int index) {
+			this.index = index;
+			Arrays.fill(dirty, true);
+			dirtyCount = dirty.length;
+		}
+	}
+
+	TileRenderCache(Level level) {
+		this.level = level;
+		chunksW = (level.w + CHUNK_SIZE - 1) >> CHUNK_SHIFT;
+		chunks = new Chunk[chunksW * ((level.h + CHUNK_SIZE - 1) >> CHUNK_SHIFT)];
+	}
+
+	/**
+	 * Marks a tile and the ones around it to be drawn again, since the tiles connect to their neighbours.
+	 * This can be called from the thread that ticks the level in the background, but the level is never
+	 * rendered at the same time, and the game thread waits for that thread before changing level.
+	 */
+	void invalidate(int x, int y) {
+		if (drawnChunks.isEmpty()) {
+			return;
+		}
+
+		for (int yy = y - 1; yy <= y + 1; yy++) {
+			for (int xx = x - 1; xx <= x + 1; xx++) {
+				if (xx < 0 || yy < 0 || xx >= level.w || yy >= level.h) {
+					continue;
+				}
+
+				Chunk chunk = chunks[(xx >> CHUNK_SHIFT) + (yy >> CHUNK_SHIFT) * chunksW];
+				if (chunk != null) {
+					int index = (xx & (CHUNK_SIZE - 1)) + (yy & (CHUNK_SIZE - 1)) * CHUNK_SIZE;
+					if (!chunk.dirty[index]) {
+						chunk.dirty[index] = true;
+						chunk.dirtyCount++;
+					}
+				}
+			}
+		}
+	}
+
+	/** Drops all the drawn chunks, to free the memory when the level is not being rendered. */
+	void clear() {
+		Arrays.fill(chunks, null);
+		drawnChunks.clear();
+	}
+
+	/**
+	 * Draws the tiles in the screen, the screen offset must already be set to the scroll.
+	 * Looks the same as drawing every tile with {@link Tile#render}.
+	 */
+	void render(Screen screen, int xScroll, int yScroll) {
+		frame++;
+
+		if (scratch == null || sheetVersion != screen.getSheetVersion()) {
+			scratch = new Screen(screen);
+			sheetVersion = screen.getSheetVersion();
+			clear();
+		}
+
+		int xo = xScroll >> 4;
+		int yo = yScroll >> 4;
+		int x1 = xo + (Screen.w >> 4);
+		int y1 = yo + (Screen.h >> 4);
+
+		int cx0 = Math.max(xo, 0) >> CHUNK_SHIFT;
+		int cy0 = Math.max(yo, 0) >> CHUNK_SHIFT;
+		int cx1 = Math.min(x1, level.w - 1) >> CHUNK_SHIFT;
+		int cy1 = Math.min(y1, level.h - 1) >> CHUNK_SHIFT;
+
+		for (int cy = cy0; cy <= cy1; cy++) {
+			for (int cx = cx0; cx <= cx1; cx++) {
+				Chunk chunk = getChunk(cx, cy);
+				copyChunk(screen, chunk, cx, cy, xScroll, yScroll);
+			}
+		}
+
+		// The animated tiles, and the ones outside of the level
+		for (int y = yo; y <= y1; y++) {
+			for (int x = xo; x <= x1; x++) {
+				if (x < 0 || y < 0 || x >= level.w || y >= level.h) {
+					level.getTile(x, y).render(screen, level, x, y);
+					continue;
+				}
+
+				Chunk chunk = chunks[(x >> CHUNK_SHIFT) + (y >> CHUNK_SHIFT) * chunksW];
+				if (chunk.animated[(x & (CHUNK_SIZE - 1)) + (y & (CHUNK_SIZE - 1)) * CHUNK_SIZE]) {
+					level.getTile(x, y).render(screen, level, x, y);
+				}
+			}
+		}
+	}
+
+	private Chunk getChunk(int cx, int cy) {
+		int index = cx + cy * chunksW;
+		Chunk chunk = chunks[index];
+		if (chunk == null) {
+			if (drawnChunks.size() == MAX_CHUNKS) {
+				Chunk eldest = drawnChunks.get(0);
+				for (Chunk drawn : drawnChunks) {
+					if (drawn.lastFrame < eldest.lastFrame) eldest = drawn;
+				}
+				drawnChunks.remove(eldest);
+				chunks[eldest.index] = null;
+			}
+
+			chunk = new Chunk(index);
+			chunks[index] = chunk;
+			drawnChunks.add(chunk);
+		}
+		chunk.lastFrame = frame;
+
+		if (chunk.dirtyCount > 0) {
+			drawDirtyTiles(chunk, cx, cy);
+		}
+		return chunk;
+	}
+
+	private void drawDirtyTiles(Chunk chunk, int cx, int cy) {
+		int[] pixels = scratch.pixels;
+		scratch.setOffset(cx * CHUNK_PIXELS, cy * CHUNK_PIXELS);
+
+		for (int i = 0; i < chunk.dirty.length && chunk.dirtyCount > 0; i++) {
+			if (!chunk.dirty[i]) {
+				continue;
+			}
+			chunk.dirty[i] = false;
+			chunk.dirtyCount--;
+
+			int tx = i & (CHUNK_SIZE - 1);
+			int ty = i >> CHUNK_SHIFT;
+			int x = (cx << CHUNK_SHIFT) + tx;
+			int y = (cy << CHUNK_SHIFT) + ty;
+
+			int offset = (tx << 4) + (ty << 4) * CHUNK_PIXELS;
+			Tile tile = x < level.w && y < level.h ? level.getTile(x, y) : null;
+			chunk.animated[i] = tile != null && tile.isAnimated();
+
+			if (tile == null || chunk.animated[i]) {
+				// Outside of the level, or drawn on top every frame
+				for (int row = 0; row < 16; row++) {
+					Arrays.fill(chunk.pixels, offset + row * CHUNK_PIXELS, offset + row * CHUNK_PIXELS + 16, TRANSPARENT);
+				}
+				chunk.opaque[i] = false;
+				continue;
+			}
+
+			int scratchOffset = (tx << 4) + (ty << 4) * Screen.w;
+			for (int row = 0; row < 16; row++) {
+				Arrays.fill(pixels, scratchOffset + row * Screen.w, scratchOffset + row * Screen.w + 16, TRANSPARENT);
+			}
+
+			tile.render(scratch, level, x, y);
+
+			boolean opaque = true;
+			for (int row = 0; row < 16; row++) {
+				int from = scratchOffset + row * Screen.w;
+				System.arraycopy(pixels, from, chunk.pixels, offset + row * CHUNK_PIXELS, 16);
+				for (int column = 0; column < 16 && opaque; column++) {
+					opaque = pixels[from + column] != TRANSPARENT;
+				}
+			}
+			chunk.opaque[i] = opaque;
+		}
+	}
+
+	/** Copies the part of the chunk that is on the screen, whole rows at a time where every tile is drawn. */
+	private static void copyChunk(Screen screen, Chunk chunk, int cx, int cy, int xScroll, int yScroll) {
+		int[] pixels = screen.pixels;
+
+		// The part of the chunk on the screen, in chunk pixels
+		int left = Math.max(xScroll - cx * CHUNK_PIXELS, 0);
+		int top = Math.max(yScroll - cy * CHUNK_PIXELS, 0);
+		int right = Math.min(xScroll + Screen.w - cx * CHUNK_PIXELS, CHUNK_PIXELS);
+		int bottom = Math.min(yScroll + Screen.h - cy * CHUNK_PIXELS, CHUNK_PIXELS);
+		if (left >= right || top >= bottom) {
+			return;
+		}
+
+		int screenX = cx * CHUNK_PIXELS + left - xScroll;
+		int screenY = cy * CHUNK_PIXELS + top - yScroll;
+		int width = right - left;
+
+		int tileLeft = left >> 4;
+		int tileRight = (right - 1) >> 4;
+
+		for (int ty = top >> 4; ty <= (bottom - 1) >> 4; ty++) {
+			boolean opaque = true;
+			for (int tx = tileLeft; tx <= tileRight && opaque; tx++) {
+				opaque = chunk.opaque[tx + ty * CHUNK_SIZE];
+			}
+
+			int rowStart = Math.max(ty << 4, top);
+			int rowEnd = Math.min((ty + 1) << 4, bottom);
+			for (int row = rowStart; row < rowEnd; row++) {
+				int from = left + row * CHUNK_PIXELS;
+				int to = screenX + (screenY + row - top) * Screen.w;
+
+				if (opaque) {
+					System.arraycopy(chunk.pixels, from, pixels, to, width);
+				} else {
+					for (int i = 0; i < width; i++) {
+						int color = chunk.pixels[from + i];
+						if (color != TRANSPARENT) {
+							pixels[to + i] = color;
+						}
+					}
+				}
+			}
+		}
+	}
+}
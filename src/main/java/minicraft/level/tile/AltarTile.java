@@ -27,6 +27,11 @@ public class AltarTile extends Tile {
         connectorSprite = sprite;
     }
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
@@ -43,15 +48,15 @@ public class AltarTile extends Tile {
 		Tile[] areaTiles = level.getAreaTiles(x, y, 1);
 
         if (level.depth == 1) {
-            Tiles.get("Cloud").render(screen, level, x, y); // Sky.
+            Tiles.CLOUD.render(screen, level, x, y); // Sky.
         } else {
-            Tiles.get("Dirt").render(screen, level, x, y); // caves, surface and dungeon
+            Tiles.DIRT.render(screen, level, x, y); // caves, surface and dungeon
         }
 
 		for (Tile tile : areaTiles) {
-			if (tile == Tiles.get("Obsidian")) Tiles.get("Obsidian").render(screen, level, x, y);
+			if (tile == Tiles.OBSIDIAN) Tiles.OBSIDIAN.render(screen, level, x, y);
 			if (tile == Tiles.get("Stone bricks")) Tiles.get("Stone bricks").render(screen, level, x, y);
-			if (tile == Tiles.get("Oak planks")) Tiles.get("Oak planks").render(screen, level, x, y);
+			if (tile == Tiles.OAK_PLANKS) Tiles.OAK_PLANKS.render(screen, level, x, y);
 			if (tile == Tiles.get("Spruce planks")) Tiles.get("Spruce planks").render(screen, level, x, y);
 			if (tile == Tiles.get("Birch planks")) Tiles.get("Birch planks").render(screen, level, x, y);
 			if (tile == Tiles.get("Holy bricks")) Tiles.get("Holy bricks").render(screen, level, x, y);
@@ -94,7 +99,7 @@ public class AltarTile extends Tile {
 
         if (damage >= altarHealth) {
             level.dropItem((x << 4) + 8, (y << 4) + 8, 1, 1, Items.get("Holy Stone"));
-            level.setTile(x, y, Tiles.get("Dirt"));
+            level.setTile(x, y, Tiles.DIRT);
         } else {
             level.setData(x, y, damage);
         }
@@ -41,7 +41,7 @@ public class CactusTile extends Tile {
 
         if (damage >= cactusHealth) {
         	Sound.playAt("genericHurt", x << 4, y << 4);
-            level.setTile(x, y, Tiles.get("Sand"));
+            level.setTile(x, y, Tiles.SAND);
             level.dropItem((x << 4) + 8, (y << 4) + 8, 2, 4, Items.get("Cactus"));
         } else {
             level.setData(x, y, damage);
@@ -51,7 +51,7 @@ public class CactusTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-    	Tiles.get("Sand").render(screen, level, x, y);
+    	Tiles.SAND.render(screen, level, x, y);
         sprite.render(screen, x << 4, y << 4);
     }
 
@@ -64,6 +64,11 @@ public class CactusTile extends Tile {
         ((Mob) entity).hurt(this, x, y, 1 + Settings.getIndex("diff"));
     }
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
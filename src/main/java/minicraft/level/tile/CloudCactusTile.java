@@ -70,7 +70,7 @@ public class CloudCactusTile extends Tile {
         level.add(new TextParticle("" + hurtDamage, (x << 4) + 8, (y << 4) + 8, Color.RED));
         
         if (damage >= cactusHealth) {
-            level.setTile(x, y, Tiles.get("Ferrosite"));
+            level.setTile(x, y, Tiles.FERROSITE);
         } else {
             level.setData(x, y, damage);
         }
@@ -78,7 +78,7 @@ public class CloudCactusTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Ferrosite").render(screen, level, x, y);
+        Tiles.FERROSITE.render(screen, level, x, y);
         sprite.render(screen, x << 4, y << 4);
     }
 
@@ -20,7 +20,7 @@ public class CloudTile extends Tile {
 
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) { // Cloud tile cannot connect with these tiles
-			return tile != Tiles.get("Infinite fall") && tile != Tiles.get("Ferrosite") && tile != Tiles.get("Cloud cactus") && tile != Tiles.get("Goldroot Tree");
+			return tile != Tiles.INFINITE_FALL && tile != Tiles.FERROSITE && tile != Tiles.CLOUD_CACTUS && tile != Tiles.GOLDROOT_TREE;
 		}
 	};
 
@@ -34,7 +34,7 @@ public class CloudTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Ferrosite").render(screen, level, x, y);
+		Tiles.FERROSITE.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -74,9 +74,9 @@ public class CloudTile extends Tile {
                  cloud tile ferrosite appears, if not, hole will appear
 				 */
 				if (Game.currentLevel == 4) {
-					level.setTile(xt, yt, Tiles.get("Infinite fall"), 1);
+					level.setTile(xt, yt, Tiles.INFINITE_FALL, 1);
 				} else {
-					level.setTile(xt, yt, Tiles.get("Hole"));
+					level.setTile(xt, yt, Tiles.HOLE);
 				}
 
 				level.dropItem((xt << 4) + 8, (yt << 4) + 8, 1, 2, Items.get("Cloud"));
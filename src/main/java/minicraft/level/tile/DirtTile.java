@@ -50,7 +50,7 @@ public class DirtTile extends Tile {
             if (tool.type == ToolType.Shovel) {
                 if (player.payStamina(4 - tool.level) && tool.payDurability()) {
                 	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                    level.setTile(xt, yt, Tiles.get("Hole"));
+                    level.setTile(xt, yt, Tiles.HOLE);
                     level.dropItem((xt << 4) + 8, (yt << 4) + 8, Items.get("Dirt"));
 
                     if (random.nextInt(64) == 0) { // 2% chance to drop bones
@@ -63,7 +63,7 @@ public class DirtTile extends Tile {
             if (tool.type == ToolType.Hoe) {
                 if (player.payStamina(4 - tool.level) && tool.payDurability()) {
                 	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                    level.setTile(xt, yt, Tiles.get("Farmland"));
+                    level.setTile(xt, yt, Tiles.FARMLAND);
                     return true;
                 }
             }
@@ -22,11 +22,11 @@ public class ExplodedTile extends Tile {
 
     public void render(Screen screen, Level level, int x, int y) {
     	switch (level.depth) {
-			case 1: Tiles.get("Infinite fall").render(screen, level, x, y); break; // Sky.
-	        case 0: Tiles.get("Hole").render(screen, level, x, y); break; // surface.
-	        case -4: Tiles.get("Hole").render(screen, level, x, y); break; // dungeons.
-	        case 2: Tiles.get("Infinite fall").render(screen, level, x, y); break; // the void.
-	        default: Tiles.get("Hole").render(screen, level, x, y); break; // caves.
+			case 1: Tiles.INFINITE_FALL.render(screen, level, x, y); break; // Sky.
+	        case 0: Tiles.HOLE.render(screen, level, x, y); break; // surface.
+	        case -4: Tiles.HOLE.render(screen, level, x, y); break; // dungeons.
+	        case 2: Tiles.INFINITE_FALL.render(screen, level, x, y); break; // the void.
+	        default: Tiles.HOLE.render(screen, level, x, y); break; // caves.
     	}
         sprite.render(screen, level, x, y);
     }
@@ -17,7 +17,7 @@ public class FerrositeTile extends Tile {
     private static final ConnectorSprite sprite = new ConnectorSprite(FerrositeTile.class, new Sprite(9, 21, 3, 3, 1), new Sprite(14, 21, 2, 2, 1), new Sprite(12, 21, 2, 2, 1)) {
         @Override
         public boolean connectsTo(Tile tile, boolean isSide) {
-            return tile != Tiles.get("Infinite fall");
+            return tile != Tiles.INFINITE_FALL;
         }
     };
 
@@ -69,9 +69,9 @@ public class FerrositeTile extends Tile {
                  ferrosite tile Infinite fall appears, if not, hole will appear
                 */
                 if (Game.currentLevel == 4) {
-                    level.setTile(xt, yt, Tiles.get("Infinite fall"), 2);
+                    level.setTile(xt, yt, Tiles.INFINITE_FALL, 2);
                 } else {
-                    level.setTile(xt, yt, Tiles.get("Hole"));
+                    level.setTile(xt, yt, Tiles.HOLE);
                 }
 
                 level.dropItem((xt << 4) + 8, (yt << 4) + 8, 1, 3, Items.get("Ferrosite"));
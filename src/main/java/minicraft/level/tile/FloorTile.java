@@ -52,9 +52,9 @@ public class FloorTile extends Tile {
 					Sound.playAt("genericHurt", xt << 4, yt << 4);
 
 					if (level.depth == 1) {
-						level.setTile(xt, yt, Tiles.get("Cloud hole"));
+						level.setTile(xt, yt, Tiles.CLOUD_HOLE);
 					} else {
-						level.setTile(xt, yt, Tiles.get("Hole"));
+						level.setTile(xt, yt, Tiles.HOLE);
 					}
 
 					Item drop;
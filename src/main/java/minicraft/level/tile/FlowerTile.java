@@ -56,14 +56,14 @@ public class FlowerTile extends Tile {
 		}
 
 		if (level.getTile(xn, yn) instanceof DirtTile) {
-			level.setTile(xn, yn, Tiles.get("Grass"));
+			level.setTile(xn, yn, Tiles.GRASS);
 		}
 		return false;
 	}
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Grass").render(screen, level, x, y);
+		Tiles.GRASS.render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -89,7 +89,7 @@ public class FlowerTile extends Tile {
 			if (player.payStamina(2 - tool.level) && tool.payDurability()) {
 				Sound.playAt("genericHurt", x << 4, y << 4);
 
-				level.setTile(x, y, Tiles.get("Grass"));
+				level.setTile(x, y, Tiles.GRASS);
 
 				level.dropItem((x << 4) + 8, (y << 4) + 8, 2, 2, Items.get(flower.name));
 				return true;
@@ -101,7 +101,7 @@ public class FlowerTile extends Tile {
 	@Override
 	public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
 		level.dropItem((x << 4) + 8, (y << 4) + 8, 0, 1, Items.get(flower.name));
-		level.setTile(x, y, Tiles.get("Grass"));
+		level.setTile(x, y, Tiles.GRASS);
 		return true;
 	}
 }
@@ -54,7 +54,7 @@ public class GrassTile extends Tile {
 	                level.dropItem((xt << 4) + 8, (yt << 4) + 8, 1, Items.get("Seeds"));
 	            }
 	            
-	            level.setTile(xt, yt, Tiles.get("Dirt"));
+	            level.setTile(xt, yt, Tiles.DIRT);
 	            
 	            return true;
 	        }
@@ -62,7 +62,7 @@ public class GrassTile extends Tile {
 	        if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 	        	Sound.playAt("genericHurt", xt << 4, yt << 4);
 	            
-	            level.setTile(xt, yt, Tiles.get("Dirt"));
+	            level.setTile(xt, yt, Tiles.DIRT);
 	            
 	            if (random.nextInt(15) == 0) { // 80% chance to drop seeds
 	                level.dropItem((xt << 4) + 8, (yt << 4) + 8, Items.get("Seeds"));
@@ -76,7 +76,7 @@ public class GrassTile extends Tile {
 	        if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 	        	Sound.playAt("genericHurt", xt << 4, yt << 4);
 	        	
-	            level.setTile(xt, yt, Tiles.get("path"));
+	            level.setTile(xt, yt, Tiles.PATH);
 
 	            if (random.nextInt(10) == 0) { // 20% chance to drop seeds
 	                level.dropItem((xt << 4) + 8, (yt << 4) + 8, 1, Items.get("Seeds"));
@@ -110,7 +110,7 @@ public class GrassTile extends Tile {
 		    if (level.getTile(xn, yn) instanceof DirtTile) {
 		        level.setTile(xn, yn, this);
 		    } else if (tickCount % 8192 == 0) {
-		    	level.setTile(xt, yt, Tiles.get("Lawn"), (short) random.nextInt(2));
+		    	level.setTile(xt, yt, Tiles.LAWN, (short) random.nextInt(2));
 		    }
 	    }
 	    
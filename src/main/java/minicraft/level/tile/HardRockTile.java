@@ -76,7 +76,7 @@ public class HardRockTile extends Tile {
         }
 
         if (damage >= hardrockHealth) {
-            level.setTile(x, y, Tiles.get("Dirt"));
+            level.setTile(x, y, Tiles.DIRT);
             level.dropItem((x << 4) + 8, (y << 4) + 8, 1, 3, Items.get("Stone"));
             level.dropItem((x << 4) + 8, (y << 4) + 8, 0, 1, Items.get("Coal"));
         } else {
@@ -90,6 +90,11 @@ public class HardRockTile extends Tile {
         super.render(screen, level, x, y);
     }
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
         if (damage > 0) {
@@ -94,13 +94,18 @@ public class HolyRockTile extends Tile {
                 }
                 level.dropItem((x << 4) + 8, (y << 4) + 8, mincoal, maxcoal, Items.get("coal"));
             }
-            level.setTile(x, y, Tiles.get("Sky Grass"));
+            level.setTile(x, y, Tiles.SKY_GRASS);
             
         } else {
             level.setData(x, y, damage);
         }
     }
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
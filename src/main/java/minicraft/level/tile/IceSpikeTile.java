@@ -46,7 +46,7 @@ public class IceSpikeTile extends Tile {
 
 		if (damage >= iceHealth) {
 			Sound.playAt("genericHurt", x << 4, y << 4);
-			level.setTile(x, y, Tiles.get("Snow"));
+			level.setTile(x, y, Tiles.SNOW);
 			
 			level.dropItem((x << 4) + 8, (y << 4) + 8, 2, 4, Items.get("Icicle"));
 		} else {
@@ -62,7 +62,7 @@ public class IceSpikeTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Snow").render(screen, level, x, y);
+		Tiles.SNOW.render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -74,6 +74,11 @@ public class IceSpikeTile extends Tile {
 		sprite.render(screen, x + 8 * (shape == 0 ? 1 : 0), y + 8);
 	}
 
+	@Override
+	public boolean isTicked(Level level, int xt, int yt) {
+		return level.getData(xt, yt) > 0;
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		int damage = level.getData(xt, yt);
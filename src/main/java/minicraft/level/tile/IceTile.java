@@ -30,6 +30,7 @@ public class IceTile extends Tile {
 		connectsToIce = true;
 		connectsToFluid = true;
 		maySpawn = true;
+		animated = true; // The water under it
 	}
 
 	@Override
@@ -39,7 +40,7 @@ public class IceTile extends Tile {
 			if (tool.type == ToolType.Pickaxe) {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					Sound.playAt("genericHurt", xt << 4, yt << 4);
-					level.setTile(xt, yt, Tiles.get("Water"));
+					level.setTile(xt, yt, Tiles.WATER);
 					//level.dropItem(xt *16 + 8, yt * 16 + 8, 0, 3, Items.get("Ice"));
 					return true;
 				}
@@ -50,7 +51,7 @@ public class IceTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Water").render(screen, level, x, y);
+		Tiles.WATER.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -71,13 +72,13 @@ public class IceTile extends Tile {
 
 		for (int x = -1; x < 2; x++) {
 			if (level.getTile(xt + x, yt) instanceof LavaTile) {
-				level.setTile(xt + x, yt, Tiles.get("Raw Obsidian"));
+				level.setTile(xt + x, yt, Tiles.RAW_OBSIDIAN);
 			}
 		}
 
 		for (int y = -1; y < 2; y++) {
 			if (level.getTile(xt, yt + y) instanceof LavaTile) {
-				level.setTile(xt, yt + y, Tiles.get("Raw Obsidian"));
+				level.setTile(xt, yt + y, Tiles.RAW_OBSIDIAN);
 			}
 		}
 
@@ -94,7 +95,7 @@ public class IceTile extends Tile {
 			// Break the ice if the player walks on and the tile its close to water
 			for (Tile tile : areaTiles) {
 				if (tile instanceof WaterTile && random.nextBoolean()) {
-					level.setTile(x, y, Tiles.get("Water"));
+					level.setTile(x, y, Tiles.WATER);
 				}
 			}
 		}
@@ -17,6 +17,11 @@ public class InfiniteFallTile extends Tile {
     }
 
     
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int data = level.getData(xt, yt);
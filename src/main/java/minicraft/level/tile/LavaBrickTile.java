@@ -38,7 +38,7 @@ public class LavaBrickTile extends Tile {
 		if (toolType == ToolType.Pickaxe) {
 			if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 				Sound.playAt("genericHurt", xt << 4, yt << 4);
-				level.setTile(xt, yt, Tiles.get("Lava"));
+				level.setTile(xt, yt, Tiles.LAVA);
 				return true;
 			}
 		}
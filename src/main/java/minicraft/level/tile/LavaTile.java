@@ -9,6 +9,7 @@ import minicraft.level.Level;
 public class LavaTile extends Tile {
 	
 	private static final ConnectorSprite sprite;
+	private static final Sprite[] frames = Sprite.randomDotsFrames(30, 21); // The animation of the full sprite
 	
 	static {
 		sprite = new ConnectorSprite(LavaTile.class, new Sprite(27, 21, 3, 3, 1), Sprite.dots(0)) {
@@ -24,6 +25,7 @@ public class LavaTile extends Tile {
 		connectsToSand = false;
 		connectsToFluid = true;
 		connectsToLava = false;
+		animated = true;
 	}
 
 	public int getLightRadius(Level level, int x, int y) {
@@ -36,9 +38,8 @@ public class LavaTile extends Tile {
 
 	public void render(Screen screen, Level level, int x, int y) {
 		long seed = ((tickCount + (x / 2 - y) * 4311) / 10) * 54687121L + x * 3271612L + y * 3412987161L;
-		sprite.full = Sprite.randomDots(seed, 30, 21);
 		sprite.sparse.color = DirtTile.dirtColor(level.depth);
-		sprite.render(screen, level, x, y);
+		sprite.render(screen, level, x, y, frames[Sprite.randomDotsFrame(seed)]);
 	}
 
 	public boolean tick(Level level, int xt, int yt) {
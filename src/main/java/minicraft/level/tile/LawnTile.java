@@ -36,13 +36,13 @@ public class LawnTile extends Tile {
         }
 
         if (level.getTile(xn, yn) instanceof DirtTile) {
-            level.setTile(xn, yn, Tiles.get("Grass"));
+            level.setTile(xn, yn, Tiles.GRASS);
         }
         return false;
     }
 
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Grass").render(screen, level, x, y);
+        Tiles.GRASS.render(screen, level, x, y);
 
         int data = level.getData(x, y);
         int shape = (data >> 4) % 2;
@@ -64,7 +64,7 @@ public class LawnTile extends Tile {
 
         if (toolType == ToolType.Shovel) {
             if (player.payStamina(2 - tool.level) && tool.payDurability()) {
-                level.setTile(x, y, Tiles.get("Grass"));
+                level.setTile(x, y, Tiles.GRASS);
 
                 if (random.nextInt(3) == 0) { // 28% chance to drop Seeds
                     level.dropItem((x << 4) + 8, (y << 4) + 8, 2, Items.get("Seeds"));
@@ -81,7 +81,7 @@ public class LawnTile extends Tile {
             level.dropItem((x << 4) + 8, (y << 4) + 8, 1, 2, Items.get("Seeds"));
         }
 
-        level.setTile(x, y, Tiles.get("Grass"));
+        level.setTile(x, y, Tiles.GRASS);
         return true;
     }
 }
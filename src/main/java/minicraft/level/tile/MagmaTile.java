@@ -29,6 +29,7 @@ public class MagmaTile extends Tile {
 		connectsToMagma = true;
 		connectsToFluid = true;
 		maySpawn = false;
+		animated = true; // The lava under it
 	}
 
 	@Override
@@ -38,7 +39,7 @@ public class MagmaTile extends Tile {
 			if (tool.type == ToolType.Pickaxe) {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					Sound.playAt("genericHurt", xt << 4, yt << 4);
-					level.setTile(xt, yt, Tiles.get("Lava"));
+					level.setTile(xt, yt, Tiles.LAVA);
 					return true;
 				}
 			}
@@ -48,7 +49,7 @@ public class MagmaTile extends Tile {
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Lava").render(screen, level, x, y);
+		Tiles.LAVA.render(screen, level, x, y);
 		sprite.render(screen, level, x, y);
 	}
 
@@ -69,13 +70,13 @@ public class MagmaTile extends Tile {
 
 		for (int x = -1; x < 2; x++) {
 			if (level.getTile(xt + x, yt) instanceof WaterTile) {
-				level.setTile(xt + x, yt, Tiles.get("Raw Obsidian"));
+				level.setTile(xt + x, yt, Tiles.RAW_OBSIDIAN);
 			}
 		}
 
 		for (int y = -1; y < 2; y++) {
 			if (level.getTile(xt, yt + y) instanceof WaterTile) {
-				level.setTile(xt, yt + y, Tiles.get("Raw Obsidian"));
+				level.setTile(xt, yt + y, Tiles.RAW_OBSIDIAN);
 			}
 		}
 
@@ -50,7 +50,7 @@ public class MushroomTile extends Tile {
 		if (toolType == ToolType.Shovel) {
 			if (player.payStamina(2 - tool.level) && tool.payDurability()) {
 				Sound.playAt("genericHurt", x << 4, y << 4);
-				level.setTile(x, y, Tiles.get("Mycelium"));
+				level.setTile(x, y, Tiles.MYCELIUM);
 				level.dropItem((x << 4) + 8, (y << 4) + 8, Items.get(mushroom.name));
 				return true;
 			}
@@ -61,13 +61,13 @@ public class MushroomTile extends Tile {
     @Override
     public boolean hurt(Level level, int x, int y, Mob source, int hurtDamage, Direction attackDir) {
     	level.dropItem((x << 4) + 8, (y << 4) + 8, 0, 1, Items.get(mushroom.name));
-        level.setTile(x, y, Tiles.get("Mycelium"));
+        level.setTile(x, y, Tiles.MYCELIUM);
         return true;
     }
 
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Mycelium").render(screen, level, x, y);
+		Tiles.MYCELIUM.render(screen, level, x, y);
 
 		int data = level.getData(x, y);
 		int shape = (data >> 4) % 2;
@@ -79,6 +79,11 @@ public class MushroomTile extends Tile {
 		mushroom.sprite.render(screen, x + 8 * (shape == 0 ? 1 : 0), y + 8);
 	}
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
@@ -41,7 +41,7 @@ public class MyceliumTile extends Tile {
 
 		if (toolType == ToolType.Shovel) {
 			if (player.payStamina(4 - tool.level) && tool.payDurability()) {
-				level.setTile(xt, yt, Tiles.get("Dirt"));
+				level.setTile(xt, yt, Tiles.DIRT);
 				Sound.playAt("genericHurt", xt << 4, yt << 4);
 				return true;
 			}
@@ -49,7 +49,7 @@ public class MyceliumTile extends Tile {
 
 		if (toolType == ToolType.Hoe) {
 			if (player.payStamina(4 - tool.level) && tool.payDurability()) {
-				level.setTile(xt, yt, Tiles.get("Dirt"));
+				level.setTile(xt, yt, Tiles.DIRT);
 				Sound.playAt("genericHurt", xt << 4, yt << 4);
 				if (random.nextInt(64) == 0) { // 80% chance to drop seeds
 					level.dropItem((xt << 4) + 8, (yt << 4) + 8, Items.get("Dirt"));
@@ -60,7 +60,7 @@ public class MyceliumTile extends Tile {
 
 		if (toolType == ToolType.Pickaxe) {
 			if (player.payStamina(4 - tool.level) && tool.payDurability()) {
-				level.setTile(xt, yt, Tiles.get("path"));
+				level.setTile(xt, yt, Tiles.PATH);
 				Sound.playAt("genericHurt", xt << 4, yt << 4);
 				return true;
 			}
@@ -57,7 +57,7 @@ public class ObsidianTile extends Tile {
         } else {
             if (player.payStamina(4 - tool.level) && tool.payDurability()) {
             	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                level.setTile(xt, yt, Tiles.get("Hole"));
+                level.setTile(xt, yt, Tiles.HOLE);
                 level.dropItem((xt << 4) + 8, (yt << 4) + 8, 1, 3, Items.get("Obsidian"));
                 return true;
             }
@@ -71,13 +71,13 @@ public class OreTile extends Tile {
 		if (damage > 0) {
 			int count = random.nextInt(2);
 			if (damage >= health) {
-				level.setTile(x, y, Tiles.get("Dirt"));
+				level.setTile(x, y, Tiles.DIRT);
 				count += 2;
 			} else {
 				level.setData(x, y, damage);
 			}
 
-			if (ore.drop.equals(Items.get("Gem"))){
+			if (ore.drop.equals(Items.getPrototype("Gem"))){
 				AchievementsDisplay.setAchievement("minicraft.achievement.find_gem", true);
 			}
 
@@ -111,7 +111,7 @@ public class OreTile extends Tile {
 	}
 
 	public void render(Screen screen, Level level, int x, int y) {
-		Tiles.get("Dirt").render(screen, level, x, y);
+		Tiles.DIRT.render(screen, level, x, y);
 		sprite.render(screen, x << 4, y << 4);
 	}
 }
@@ -32,7 +32,7 @@ public class PathTile extends Tile {
 		if (toolType == ToolType.Shovel) {
 			if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 				Sound.playAt("genericHurt", xt << 4, yt << 4);
-				level.setTile(xt, yt, Tiles.get("Hole"));
+				level.setTile(xt, yt, Tiles.HOLE);
 				level.dropItem((xt << 4) + 8, (yt << 4) + 8, Items.get("Dirt"));
 				return true;
 			}
@@ -28,7 +28,7 @@ public class RockTile extends Tile {
 
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
-			return tile == Tiles.get("Rock") || tile == Tiles.get("Up Rock");
+			return tile == Tiles.ROCK || tile == Tiles.UP_ROCK;
 		}
 	};
 
@@ -36,7 +36,7 @@ public class RockTile extends Tile {
 
 		@Override
 		public boolean connectsTo(Tile tile, boolean isSide) {
-            return tile == Tiles.get("Rock") || tile == Tiles.get("Up Rock");
+            return tile == Tiles.ROCK || tile == Tiles.UP_ROCK;
 		}
 	};
 
@@ -78,7 +78,7 @@ public class RockTile extends Tile {
 			} else {
 				level.dropItem(xt + 8, yt + 8, 1, 2, Items.get("Stone"));
 			}
-			level.setTile(x, y, Tiles.get("Dirt"));
+			level.setTile(x, y, Tiles.DIRT);
 		} else {
 			level.setData(x, y, damage);
 		}
@@ -119,11 +119,16 @@ public class RockTile extends Tile {
 			mossySprite.sparse.color = DirtTile.dirtColor(level.depth);
 			mossySprite.render(screen, level, x, y);
 		} else {
-			Tiles.get("Dirt").render(screen, level, x, y);
+			Tiles.DIRT.render(screen, level, x, y);
 			sprite.render(screen, level, x, y);
 		}
 	}
 
+	@Override
+	public boolean isTicked(Level level, int xt, int yt) {
+		return level.getData(xt, yt) > 0;
+	}
+
 	@Override
 	public boolean tick(Level level, int xt, int yt) {
 		damage = level.getData(xt, yt);
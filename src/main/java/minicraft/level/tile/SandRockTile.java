@@ -93,13 +93,18 @@ public class SandRockTile extends Tile {
                 }
                 level.dropItem((x << 4) + 8, (y << 4) + 8, mincoal, maxcoal, Items.get("Coal"));
             }
-            level.setTile(x, y, Tiles.get("Sand"));
+            level.setTile(x, y, Tiles.SAND);
             
         } else {
             level.setData(x, y, damage);
         }
     }
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         int damage = level.getData(xt, yt);
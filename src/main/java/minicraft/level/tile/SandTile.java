@@ -68,7 +68,7 @@ public class SandTile extends Tile {
         if (toolType == ToolType.Shovel) {
             if (player.payStamina(4 - tool.level) && tool.payDurability()) {
             	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                level.setTile(xt, yt, Tiles.get("Dirt"));
+                level.setTile(xt, yt, Tiles.DIRT);
                 level.dropItem((xt << 4) + 8, (yt << 4) + 8, Items.get("Sand"));
                 return true;
             }
@@ -101,6 +101,11 @@ public class SandTile extends Tile {
         }
     }
 
+    @Override
+    public boolean isTicked(Level level, int x, int y) {
+        return level.getData(x, y) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int x, int y) {
         int damage = level.getData(x, y);
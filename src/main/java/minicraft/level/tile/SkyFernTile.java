@@ -25,6 +25,7 @@ public class SkyFernTile extends Tile {
         super(name, (ConnectorSprite) null);
         connectsToSkyGrass = true;
         maySpawn = false;
+        animated = true;
     }
 
     @Override
@@ -43,7 +44,7 @@ public class SkyFernTile extends Tile {
         }
 
         if (level.getTile(xn, yn) instanceof DirtTile) {
-            level.setTile(xn, yn, Tiles.get("Sky Grass"));
+            level.setTile(xn, yn, Tiles.SKY_GRASS);
         }
         return false;
     }
@@ -51,7 +52,7 @@ public class SkyFernTile extends Tile {
     @Override
     public void render(Screen screen, Level level, int x, int y) {
     	fernAttackTick++;
-        Tiles.get("Sky Grass").render(screen, level, x, y);
+        Tiles.SKY_GRASS.render(screen, level, x, y);
         if (playerStepped && fernAttackTick / 8 % 2 == 0) {
             spriteFrame = (spriteFrame + 2) % 4 ;
             sprite = new Sprite(spriteFrame + 27, 22, 2, 2, 1);
@@ -80,7 +81,7 @@ public class SkyFernTile extends Tile {
                 if (player.payStamina(2 - tool.level) && tool.payDurability()) {
                 	
                 	Sound.playAt("genericHurt", x << 4, y << 4);
-                    level.setTile(x, y, Tiles.get("Sky Grass"));
+                    level.setTile(x, y, Tiles.SKY_GRASS);
 
                     if (random.nextInt(20) == 10) { // 20% chance to drop sky seeds
                         level.dropItem((x << 4) + 8, (y << 4) + 8, Items.get("Sky Seeds"));
@@ -98,7 +99,7 @@ public class SkyFernTile extends Tile {
         if (random.nextInt(12) == 6) { // 20% chance to drop sky seeds
             level.dropItem((x << 4) + 8, (y << 4) + 8, Items.get("Sky Seeds"));
         }
-        level.setTile(x, y, Tiles.get("Sky Grass"));
+        level.setTile(x, y, Tiles.SKY_GRASS);
         return true;
     }
 }
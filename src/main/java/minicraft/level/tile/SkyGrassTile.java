@@ -16,11 +16,11 @@ public class SkyGrassTile extends Tile {
     private static ConnectorSprite sprite = new ConnectorSprite(SkyGrassTile.class, new Sprite(36, 21, 3, 3, 1), new Sprite(41, 21, 2, 2, 1), new Sprite(39, 21, 2, 2, 1)) {
         @Override
         public boolean connectsTo(Tile tile, boolean isSide) { // Sky grass cannot connect with these tiles
-        	 return tile != Tiles.get("Infinite fall") && 
-        			tile != Tiles.get("Ferrosite") && 
-        			tile != Tiles.get("Cloud cactus") && 
-        			tile != Tiles.get("Cloud") && 
-        			tile != Tiles.get("Goldroot Tree");
+        	 return tile != Tiles.INFINITE_FALL && 
+        			tile != Tiles.FERROSITE && 
+        			tile != Tiles.CLOUD_CACTUS && 
+        			tile != Tiles.CLOUD && 
+        			tile != Tiles.GOLDROOT_TREE;
         }
     };
 
@@ -56,10 +56,10 @@ public class SkyGrassTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        if (Tiles.get("Cloud") != null) {
-        	Tiles.get("Cloud").render(screen, level, x, y);
+        if (Tiles.CLOUD != null) {
+        	Tiles.CLOUD.render(screen, level, x, y);
         } else {
-        	Tiles.get("Ferrosite").render(screen, level, x, y);
+        	Tiles.FERROSITE.render(screen, level, x, y);
         }
         sprite.render(screen, level, x, y);
     }
@@ -78,7 +78,7 @@ public class SkyGrassTile extends Tile {
             if (player.payStamina(4 - tool.level) && tool.payDurability()) {
             	
             	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                level.setTile(xt, yt, Tiles.get("Ferrosite")); // would allow you to shovel cloud, I think.
+                level.setTile(xt, yt, Tiles.FERROSITE); // would allow you to shovel cloud, I think.
                 
                 if (random.nextInt(20) == 0) { // 20% chance to drop sky seeds
                     level.dropItem((xt << 4) + 8, (yt << 4) + 8, 2, Items.get("Sky Seeds"));
@@ -92,7 +92,7 @@ public class SkyGrassTile extends Tile {
         if (toolType == ToolType.Hoe) {
             if (player.payStamina(4 - tool.level) && tool.payDurability()) {
             	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                level.setTile(xt, yt, Tiles.get("Sky Farmland"));
+                level.setTile(xt, yt, Tiles.SKY_FARMLAND);
                 return true;
             }
         }
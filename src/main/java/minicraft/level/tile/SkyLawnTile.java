@@ -38,7 +38,7 @@ public class SkyLawnTile extends Tile {
 			ToolItem tool = (ToolItem) item;
 			if (tool.type == ToolType.Shovel) {
 				if (player.payStamina(2 - tool.level) && tool.payDurability()) {
-					level.setTile(x, y, Tiles.get("Sky grass"));
+					level.setTile(x, y, Tiles.SKY_GRASS);
 
 					if (random.nextInt(20) == 1) { // 20% chance to drop sky seeds
 						level.dropItem((x << 4) + 8, (y << 4) + 8, Items.get("Sky Seeds"));
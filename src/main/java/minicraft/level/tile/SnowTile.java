@@ -55,7 +55,7 @@ public class SnowTile extends Tile {
 
         if (toolType == ToolType.Shovel) {
             if (player.payStamina(4 - tool.level) && tool.payDurability()) {
-                level.setTile(xt, yt, Tiles.get("Dirt"));
+                level.setTile(xt, yt, Tiles.DIRT);
                 level.dropItem((xt << 4) + 8, (yt << 4) + 8, 1, 2, Items.get("Snow Ball"));
                 return true;
             }
@@ -89,6 +89,11 @@ public class SnowTile extends Tile {
         }
     }
 
+    @Override
+    public boolean isTicked(Level level, int x, int y) {
+        return level.getData(x, y) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int x, int y) {
         int damage = level.getData(x, y);
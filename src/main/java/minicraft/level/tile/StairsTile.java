@@ -32,7 +32,7 @@ public class StairsTile extends Tile {
 		// Makes it so you can remove the stairs if you are in creative and debug mode.
 		if (item instanceof PowerGloveItem && Game.isMode("Creative") && Game.debug) {
 			Sound.playAt("genericHurt", xt << 4, yt << 4);
-			level.setTile(xt, yt, Tiles.get("Grass"));
+			level.setTile(xt, yt, Tiles.GRASS);
 			return true;
 		} else {
 			return false;
@@ -51,15 +51,15 @@ public class StairsTile extends Tile {
 		Tile[] areaTiles = level.getAreaTiles(x, y, 1);
 
         if (level.depth == 1) {
-            Tiles.get("Cloud").render(screen, level, x, y); // Sky.
+            Tiles.CLOUD.render(screen, level, x, y); // Sky.
         } else {
-            Tiles.get("Dirt").render(screen, level, x, y); // caves, surface and dungeon
+            Tiles.DIRT.render(screen, level, x, y); // caves, surface and dungeon
         }
 
 		for (Tile tile : areaTiles) {
-			if (tile == Tiles.get("Obsidian")) Tiles.get("Obsidian").render(screen, level, x, y);
+			if (tile == Tiles.OBSIDIAN) Tiles.OBSIDIAN.render(screen, level, x, y);
 			if (tile == Tiles.get("Stone bricks")) Tiles.get("Stone bricks").render(screen, level, x, y);
-			if (tile == Tiles.get("Oak planks")) Tiles.get("Oak planks").render(screen, level, x, y);
+			if (tile == Tiles.OAK_PLANKS) Tiles.OAK_PLANKS.render(screen, level, x, y);
 			if (tile == Tiles.get("Spruce planks")) Tiles.get("Spruce planks").render(screen, level, x, y);
 			if (tile == Tiles.get("Birch planks")) Tiles.get("Birch planks").render(screen, level, x, y);
 			if (tile == Tiles.get("Holy bricks")) Tiles.get("Holy bricks").render(screen, level, x, y);
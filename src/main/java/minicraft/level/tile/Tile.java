@@ -68,6 +68,8 @@ public abstract class Tile {
 
 	public int light = 1;
 	protected boolean maySpawn = false;
+	protected boolean animated = false; // If the tile changes every frame, these are not kept drawn by the level
+	private final boolean ticked = overridesTick(); // Only the tiles that do something in tick() are ticked by the level
 
 	protected Sprite sprite = null;
 	protected ConnectorSprite connectorSprite = null;
@@ -105,6 +107,26 @@ public abstract class Tile {
 		return maySpawn;
 	}
 
+	public boolean isAnimated() {
+		return animated;
+	}
+
+	/**
+	 * If ticking the tile at that position can do something. Only those are picked by the random
+	 * ticks of the level, overridden by the tiles that only do something with some data.
+	 */
+	public boolean isTicked(Level level, int x, int y) {
+		return ticked;
+	}
+
+	private boolean overridesTick() {
+		try {
+			return getClass().getMethod("tick", Level.class, int.class, int.class).getDeclaringClass() != Tile.class;
+		} catch (NoSuchMethodException exception) {
+			return true; // Can't happen, but ticking it is always safe
+		}
+	}
+
 	/** Returns if the player can walk on it, overrides in sub-classes */
 	public boolean mayPass(Level level, int x, int y, Entity entity) {
 		return true;
@@ -11,7 +11,8 @@ import minicraft.util.Utils;
 import org.tinylog.Logger;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Tiles {
 	/// idea: to save tile names while saving space, I could encode the names in
@@ -20,7 +21,18 @@ public final class Tiles {
 	/// all private, and then make a get(String) method, parameter is tile name.
 
 	public static ArrayList<String> oldids = new ArrayList<>();
-	private static final HashMap<Short, Tile> tiles = new HashMap<>();
+
+	// Indexed by tile id, torch tiles go from 16384
+	private static final Tile[] tiles = new Tile[32768];
+
+	// Upper case tile names, plus every other spelling that get(String) has resolved before
+	private static final Map<String, Tile> tilesByName = new ConcurrentHashMap<>();
+
+	// The most used tiles, so they don't have to be looked up by name in every tick
+	public static Tile GRASS, DIRT, HOLE, STAIRS_UP, STAIRS_DOWN, WATER, LAVA, ROCK, UP_ROCK, HARD_ROCK;
+	public static Tile SAND, SNOW, LAWN, PATH, FARMLAND, RAW_OBSIDIAN, OBSIDIAN, OBSIDIAN_WALL, OAK_PLANKS;
+	public static Tile OAK_TREE, BIRCH_TREE, DAISY, DANDELION, ROSE, POPPY, MYCELIUM;
+	public static Tile CLOUD, CLOUD_HOLE, CLOUD_CACTUS, INFINITE_FALL, FERROSITE, SKY_GRASS, SKY_LAWN, SKY_FARMLAND, GOLDROOT_TREE;
 
 	public static void initialize() {
 		Logger.debug("Initializing tile list ...");
@@ -154,13 +166,50 @@ public final class Tiles {
 		Tiles.add(255, new ConnectTile());
 
 		for (short tile = 0; tile < 256; tile++) {
-			if (tiles.get(tile) == null) continue;
-			tiles.get(tile).id = tile;
+			if (tiles[tile] == null) continue;
+			tiles[tile].id = tile;
 		}
+
+		GRASS = get("Grass");
+		DIRT = get("Dirt");
+		HOLE = get("Hole");
+		STAIRS_UP = get("Stairs Up");
+		STAIRS_DOWN = get("Stairs Down");
+		WATER = get("Water");
+		LAVA = get("Lava");
+		ROCK = get("Rock");
+		UP_ROCK = get("Up Rock");
+		HARD_ROCK = get("Hard Rock");
+		SAND = get("Sand");
+		SNOW = get("Snow");
+		LAWN = get("Lawn");
+		PATH = get("Path");
+		FARMLAND = get("Farmland");
+		RAW_OBSIDIAN = get("Raw Obsidian");
+		OBSIDIAN = get("Obsidian");
+		OBSIDIAN_WALL = get("Obsidian Wall");
+		OAK_PLANKS = get("Oak Planks");
+		OAK_TREE = get("Oak Tree");
+		BIRCH_TREE = get("Birch Tree");
+		DAISY = get("Daisy");
+		DANDELION = get("Dandelion");
+		ROSE = get("Rose");
+		POPPY = get("Poppy");
+		MYCELIUM = get("Mycelium");
+		CLOUD = get("Cloud");
+		CLOUD_HOLE = get("Cloud Hole");
+		CLOUD_CACTUS = get("Cloud Cactus");
+		INFINITE_FALL = get("Infinite Fall");
+		FERROSITE = get("Ferrosite");
+		SKY_GRASS = get("Sky Grass");
+		SKY_LAWN = get("Sky Lawn");
+		SKY_FARMLAND = get("Sky Farmland");
+		GOLDROOT_TREE = get("Goldroot Tree");
 	}
 
 	protected static void add(int id, Tile tile) {
-		tiles.put((short) id, tile);
+		tiles[id] = tile;
+		tilesByName.put(tile.name, tile);
 		if (Game.debug) Logger.info("Loading tile ID \"{}\", adding \"{}\" for tile list ... ", id, Utils.formatText(tile.name));
 		tile.id = (short) id;
 	}
@@ -260,8 +309,14 @@ public final class Tiles {
 
 	private static int overflowCheck = 0;
 	public static Tile get(String name) {
+		Tile getting = tilesByName.get(name);
+		if (getting != null) {
+			return getting;
+		}
+
 		// if (Game.debug) Logger.info("Getting from tile list: " + name);
 
+		String requestedName = name;
 		name = name.toUpperCase();
 		overflowCheck++;
 
@@ -281,25 +336,21 @@ public final class Tiles {
 			name = name.substring(0, name.indexOf("_"));
 		}
 
-		Tile getting = null;
-
-		for (Tile tile: tiles.values()) {
-			if (tile == null) continue;
-			if (tile.name.equals(name)) {
-				getting = tile;
-				break;
-			}
-		}
+		getting = tilesByName.get(name);
 
 		if (getting == null) {
 			Logger.warn("TILES.GET: Invalid tile requested: " + name);
-			getting = tiles.get((short) 0);
+			overflowCheck = 0;
+			return tiles[0];
 		}
 
 		if (isTorch) {
 			getting = TorchTile.getTorchTile(getting);
 		}
 
+		// The next time this name is requested it won't need to be converted
+		tilesByName.put(requestedName, getting);
+
 		overflowCheck = 0;
 		return getting;
 	}
@@ -308,7 +359,7 @@ public final class Tiles {
 		//System.out.println("Requesting tile by id: " + id);
 		if (id < 0) id += 32768;
 
-		Tile tile = tiles.get((short)id);
+		Tile tile = id < tiles.length ? tiles[id] : null;
 
 		if (tile != null) {
 			return tile;
@@ -318,14 +369,13 @@ public final class Tiles {
 
 		} else {
 			Logger.warn("TILES.GET: Unknown tile id requested: " + id);
-			return tiles.get((short) 0);
+			return tiles[0];
 		}
 	}
 
 	public static boolean containsTile(int id) {
-		return tiles.get((short)id) != null;
+		return id >= 0 && id < tiles.length && tiles[id] != null;
 	}
-
 	public static String getName(String descriptName) {
 		if (!descriptName.contains("_")) {
 			return descriptName;
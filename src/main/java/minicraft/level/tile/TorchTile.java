@@ -50,6 +50,7 @@ public class TorchTile extends Tile {
         this.connectsToFerrosite = onType.connectsToFerrosite;
         this.connectsToSnow = onType.connectsToSnow;
         this.connectsToFluid = onType.connectsToFluid;
+        this.animated = true; // Makes fire particles while it's rendered
     }
 
     @Override
@@ -24,7 +24,7 @@ public class UpRockTile extends Tile {
     private ConnectorSprite sprite = new ConnectorSprite(UpRockTile.class, new Sprite(0, 6, 3, 3, 1), new Sprite(5, 6, 2, 2, 1), new Sprite(3, 6, 2, 2, 1)) {
     	@Override
         public boolean connectsTo(Tile tile, boolean isSide) {
-            return tile != Tiles.get("Rock") && tile == Tiles.get("Up Rock");
+            return tile != Tiles.ROCK && tile == Tiles.UP_ROCK;
         }
     };
 
@@ -39,7 +39,7 @@ public class UpRockTile extends Tile {
 
     @Override
     public void render(Screen screen, Level level, int x, int y) {
-        Tiles.get("Rock").render(screen, level, x, y);
+        Tiles.ROCK.render(screen, level, x, y);
         super.render(screen, level, x, y);
     }
 
@@ -97,12 +97,17 @@ public class UpRockTile extends Tile {
 			} else {
 				level.dropItem((x << 4) + 8, (y << 4) + 8, 1, 2, Items.get("Stone"));
 			}
-			level.setTile(x, y, Tiles.get("Dirt"));
+			level.setTile(x, y, Tiles.DIRT);
 		} else {
 			level.setData(x, y, damage);
 		}
 	}
 
+    @Override
+    public boolean isTicked(Level level, int xt, int yt) {
+        return level.getData(xt, yt) > 0;
+    }
+
     @Override
     public boolean tick(Level level, int xt, int yt) {
         damage = level.getData(xt, yt);
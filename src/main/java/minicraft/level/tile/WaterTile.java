@@ -8,6 +8,7 @@ import minicraft.level.Level;
 
 public class WaterTile extends Tile {
     private static final ConnectorSprite sprite;
+    private static final Sprite[] frames = Sprite.randomDotsFrames(21, 21); // The animation of the full sprite
 
     static {
         sprite = new ConnectorSprite(WaterTile.class, new Sprite(18, 21, 3, 3, 1), Sprite.dots(0)) {
@@ -22,6 +23,7 @@ public class WaterTile extends Tile {
 		super(name, (ConnectorSprite) null);
 		connectorSprite = sprite;
 		connectsToFluid = true;
+		animated = true;
 	}
 
 	@Override
@@ -32,9 +34,8 @@ public class WaterTile extends Tile {
 	@Override
 	public void render(Screen screen, Level level, int x, int y) {
 		long seed = ((tickCount + (x / 2 - y) * 4311L) / 10);
-	    sprite.full = Sprite.randomDots(seed, 21, 21);
 	    sprite.sparse.color = DirtTile.dirtColor(level.depth);
-	    sprite.render(screen, level, x, y);
+	    sprite.render(screen, level, x, y, frames[Sprite.randomDotsFrame(seed)]);
 	}
 
 	@Override
@@ -53,12 +54,12 @@ public class WaterTile extends Tile {
 
 	    for (int x = -1; x < 2; x++) {
 	        if (level.getTile(xt + x, yt) instanceof LavaTile) {
-	            level.setTile(xt + x, yt, Tiles.get("Raw Obsidian"));
+	            level.setTile(xt + x, yt, Tiles.RAW_OBSIDIAN);
 	        }
 	    }
 	    for (int y = -1; y < 2; y++) {
 	        if (level.getTile(xt, yt + y) instanceof LavaTile) {
-	            level.setTile(xt, yt + y, Tiles.get("Raw Obsidian"));
+	            level.setTile(xt, yt + y, Tiles.RAW_OBSIDIAN);
 	        }
 	    }
 	    return false;
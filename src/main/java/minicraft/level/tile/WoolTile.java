@@ -59,7 +59,7 @@ public class WoolTile extends Tile {
 		if (toolType == ToolType.Shears) {
 			if (player.payStamina(3 - tool.level) && tool.payDurability()) {
 				Sound.playAt("genericHurt", xt << 4, yt << 4);
-				level.setTile(xt, yt, Tiles.get("Hole"));
+				level.setTile(xt, yt, Tiles.HOLE);
 				level.dropItem((xt << 4) + 8, (yt << 4) + 8, Items.get(name));
 				return true;
 			}
@@ -13,7 +13,6 @@ import minicraft.item.Items;
 import minicraft.item.ToolItem;
 import minicraft.item.ToolType;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class CarrotTile extends Plant {
@@ -42,9 +41,9 @@ public class CarrotTile extends Plant {
 		Sound.playAt("genericHurt", x << 4, y << 4);
 
         if (random.nextBoolean()) {
-        	level.setTile(x, y, Tiles.get("Dirt"));
+        	level.setTile(x, y, Tiles.DIRT);
         } else {
-        	level.setTile(x, y, Tiles.get("Farmland"));
+        	level.setTile(x, y, Tiles.FARMLAND);
         }
 	}
 
@@ -56,14 +55,7 @@ public class CarrotTile extends Plant {
 
 	@Override
 	public boolean ifWater(Level level, int xs, int ys) {
-		Tile[] areaTiles = level.getAreaTiles(xs, ys, 2);
-		for (Tile tile : areaTiles) {
-			if (tile == Tiles.get("Water")) {
-				return true;
-			}
-		}
-
-		return false;
+		return level.isTileNear(xs, ys, 2, Tiles.WATER);
 	}
 
 	@Override
@@ -73,7 +65,7 @@ public class CarrotTile extends Plant {
 			if (tool.type == ToolType.Shovel) {
 				if (player.payStamina(4 - tool.level) && tool.payDurability()) {
 					Sound.playAt("genericHurt", xt << 4, yt << 4);
-					level.setTile(xt, yt, Tiles.get("Dirt"));
+					level.setTile(xt, yt, Tiles.DIRT);
 					return true;
 				}
 			}
@@ -86,7 +78,7 @@ public class CarrotTile extends Plant {
 		int age = level.getData(x, y);
 		int icon = age / (maxAge / 5);
 
-		Tiles.get("Farmland").render(screen, level, x, y);
+		Tiles.FARMLAND.render(screen, level, x, y);
 
 		x <<= 4;
 		y <<= 4;
@@ -39,7 +39,7 @@ public class FarmTile extends Tile {
             if (tool.type == ToolType.Shovel) {
                 if (player.payStamina(4 - tool.level) && tool.payDurability()) {
                 	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                    level.setTile(xt, yt, Tiles.get("Dirt"));
+                    level.setTile(xt, yt, Tiles.DIRT);
                     return true;
                 }
             }
@@ -70,6 +70,6 @@ public class FarmTile extends Tile {
             return;
         }
         
-        level.setTile(xt, yt, Tiles.get("Dirt"));
+        level.setTile(xt, yt, Tiles.DIRT);
     }
 }
\ No newline at end of file
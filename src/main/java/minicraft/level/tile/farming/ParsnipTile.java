@@ -6,7 +6,6 @@ import minicraft.entity.mob.Player;
 import minicraft.graphic.Screen;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class ParsnipTile extends SkyPlant{
@@ -20,7 +19,7 @@ public class ParsnipTile extends SkyPlant{
         int age = level.getData(x, y);
         int icon = age / (maxAge / 5);
 
-        Tiles.get("Sky Farmland").render(screen, level, x, y);
+        Tiles.SKY_FARMLAND.render(screen, level, x, y);
         
 		x <<= 4;
 		y <<= 4;
@@ -33,14 +32,7 @@ public class ParsnipTile extends SkyPlant{
 
     @Override
     protected boolean ifCloud(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 3);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Sky grass")) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.isTileNear(xs, ys, 3, Tiles.SKY_GRASS);
     }
 
     @Override
@@ -64,6 +56,6 @@ public class ParsnipTile extends SkyPlant{
             ((Player) entity).addScore(random.nextInt(4) + 1);
         }
 
-        level.setTile(x, y, Tiles.get("Sky farmland"));
+        level.setTile(x, y, Tiles.SKY_FARMLAND);
     }
 }
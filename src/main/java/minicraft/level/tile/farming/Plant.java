@@ -9,9 +9,7 @@ import minicraft.entity.mob.Player;
 import minicraft.entity.mob.VillagerMob;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
-import minicraft.level.tile.WaterTile;
 
 public class Plant extends FarmTile {
     protected static int maxAge = 100;
@@ -53,14 +51,7 @@ public class Plant extends FarmTile {
     }
 
     protected boolean ifWater(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 3);
-        for (Tile tile : areaTiles) {
-            if (tile instanceof WaterTile) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.isTileNear(xs, ys, 3, Tiles.WATER);
     }
 
     /**
@@ -90,9 +81,9 @@ public class Plant extends FarmTile {
         Sound.playAt("genericHurt", x << 4, y << 4);
         
         if (random.nextBoolean()) {
-        	level.setTile(x, y, Tiles.get("Dirt"));
+        	level.setTile(x, y, Tiles.DIRT);
         } else {
-        	level.setTile(x, y, Tiles.get("Farmland"));
+        	level.setTile(x, y, Tiles.FARMLAND);
         }
     }
 }
\ No newline at end of file
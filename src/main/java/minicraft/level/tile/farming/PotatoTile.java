@@ -7,7 +7,6 @@ import minicraft.entity.mob.VillagerMob;
 import minicraft.graphic.Screen;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class PotatoTile extends Plant {
@@ -20,7 +19,7 @@ public class PotatoTile extends Plant {
         int age = level.getData(x, y);
         int icon = age / (maxAge / 5);
 
-        Tiles.get("Farmland").render(screen, level, x, y);
+        Tiles.FARMLAND.render(screen, level, x, y);
         
 		x <<= 4;
 		y <<= 4;
@@ -33,13 +32,7 @@ public class PotatoTile extends Plant {
 
     @Override
     protected boolean ifWater(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 1);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Water")) {
-                return true;
-            }
-        }
-        return false;
+        return level.isTileNear(xs, ys, 1, Tiles.WATER);
     }
 
     @Override
@@ -64,9 +57,9 @@ public class PotatoTile extends Plant {
         }
 
         if (random.nextBoolean()) {
-        	level.setTile(x, y, Tiles.get("Dirt"));
+        	level.setTile(x, y, Tiles.DIRT);
         } else {
-        	level.setTile(x, y, Tiles.get("Farmland"));
+        	level.setTile(x, y, Tiles.FARMLAND);
         }
     }
     
@@ -36,7 +36,7 @@ public class SkyFarmTile extends Tile {
             if (tool.type == ToolType.Shovel) {
                 if (player.payStamina(4 - tool.level) && tool.payDurability()) {
                 	Sound.playAt("genericHurt", xt << 4, yt << 4);
-                    level.setTile(xt, yt, Tiles.get("Sky grass"));
+                    level.setTile(xt, yt, Tiles.SKY_GRASS);
                     return true;
                 }
             }
@@ -59,6 +59,6 @@ public class SkyFarmTile extends Tile {
         if (random.nextInt(60) != 0) return;
         if (level.getData(xt, yt) < 5) return;
 
-        level.setTile(xt, yt, Tiles.get("Sky grass"));
+        level.setTile(xt, yt, Tiles.SKY_GRASS);
     }
 }
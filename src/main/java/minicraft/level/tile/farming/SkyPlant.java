@@ -9,7 +9,6 @@ import minicraft.entity.mob.Player;
 import minicraft.graphic.Sprite;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
 
 public class SkyPlant extends SkyFarmTile {
@@ -59,14 +58,7 @@ public class SkyPlant extends SkyFarmTile {
     }
 
     protected boolean ifCloud(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 1);
-        for (Tile tile : areaTiles) {
-            if (tile == Tiles.get("Cloud")) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.isTileNear(xs, ys, 1, Tiles.CLOUD);
     }
 
     /**
@@ -93,6 +85,6 @@ public class SkyPlant extends SkyFarmTile {
             ((Player) entity).addScore(random.nextInt(5) + 1);
         }
 
-        level.setTile(x, y, Tiles.get("Dirt"));
+        level.setTile(x, y, Tiles.DIRT);
     }
 }
\ No newline at end of file
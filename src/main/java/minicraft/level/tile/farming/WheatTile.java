@@ -8,9 +8,7 @@ import minicraft.entity.mob.VillagerMob;
 import minicraft.graphic.Screen;
 import minicraft.item.Items;
 import minicraft.level.Level;
-import minicraft.level.tile.Tile;
 import minicraft.level.tile.Tiles;
-import minicraft.level.tile.WaterTile;
 
 public class WheatTile extends Plant {
 
@@ -23,7 +21,7 @@ public class WheatTile extends Plant {
         int age = level.getData(x, y);
         int icon = age / (maxAge / 5);
 
-        Tiles.get("Farmland").render(screen, level, x, y);
+        Tiles.FARMLAND.render(screen, level, x, y);
         
 		x <<= 4;
 		y <<= 4;
@@ -36,14 +34,7 @@ public class WheatTile extends Plant {
 
     @Override
     protected boolean ifWater(Level level, int xs, int ys) {
-        Tile[] areaTiles = level.getAreaTiles(xs, ys, 3);
-        for (Tile tile : areaTiles) {
-            if (tile instanceof WaterTile) {
-                return true;
-            }
-        }
-
-        return false;
+        return level.isTileNear(xs, ys, 3, Tiles.WATER);
     }
 
     @Override
@@ -72,9 +63,9 @@ public class WheatTile extends Plant {
         Sound.playAt("genericHurt", x << 4, y << 4);
 
         if (random.nextBoolean()) {
-        	level.setTile(x, y, Tiles.get("Dirt"));
+        	level.setTile(x, y, Tiles.DIRT);
         } else {
-        	level.setTile(x, y, Tiles.get("Farmland"));
+        	level.setTile(x, y, Tiles.FARMLAND);
         }
     }
     
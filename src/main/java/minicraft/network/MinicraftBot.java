@@ -0,0 +1,160 @@
+package minicraft.network;
+
+import minicraft.network.MinicraftProtocol.InputType;
+import org.tinylog.Logger;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bots that connect to a {@link MinicraftServer}, log in, walk around, and ping the server, to
+ * test it without the game. At the end it reports the tick latency (how long a PING takes to come
+ * back, it's only answered after the next tick of the server) and the bytes received per second.
+ *
+ * Arguments: the host, the port, the number of bots and the seconds to run, all optional.
+ */
+public class MinicraftBot {
+
+	private static final int PING_INTERVAL = 100; // In milliseconds
+	private static final int MOVE_INTERVAL = 1000; // Each bot changes where it walks to this often
+
+	private static final AtomicLong bytesReceived = new AtomicLong();
+	private static final AtomicLong entityUpdates = new AtomicLong();
+	private static final List<Long> latencies = Collections.synchronizedList(new ArrayList<>()); // In nanoseconds
+
+	public static void main(String[] args) throws InterruptedException {
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : MinicraftProtocol.PORT;
+		int bots = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+		int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+		long endTime = System.currentTimeMillis() + seconds * 1000L;
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < bots; i++) {
+			String username = "Bot" + i;
+			Thread thread = new Thread(() -> runBot(host, port, username, endTime), username);
+			thread.start();
+			threads.add(thread);
+		}
+
+		long startTime = System.currentTimeMillis();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		double elapsed = (System.currentTimeMillis() - startTime) / 1000.0;
+
+		List<Long> sorted;
+		synchronized (latencies) {
+			sorted = new ArrayList<>(latencies);
+		}
+		Collections.sort(sorted);
+
+		if (sorted.isEmpty()) {
+			Logger.warn("No pings came back from {}:{}", host, port);
+		} else {
+			long total = 0;
+			for (long latency : sorted) total += latency;
+			Logger.info("Tick latency of {} pings: average {} ms, p50 {} ms, p99 {} ms, max {} ms", sorted.size(),
+				String.format("%.2f", total / 1e6 / sorted.size()), String.format("%.2f", sorted.get(sorted.size() / 2) / 1e6),
+				String.format("%.2f", sorted.get(sorted.size() * 99 / 100) / 1e6), String.format("%.2f", sorted.get(sorted.size() - 1) / 1e6));
+		}
+		Logger.info("Received {} KB per second, {} per bot, {} entity updates per second", String.format("%.1f", bytesReceived.get() / 1024.0 / elapsed),
+			String.format("%.1f KB", bytesReceived.get() / 1024.0 / elapsed / bots), String.format("%.0f", entityUpdates.get() / elapsed));
+	}
+
+	private static void runBot(String host, int port, String username, long endTime) {
+		Random random = new Random();
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+
+		try (Socket socket = new Socket(host, port)) {
+			socket.setTcpNoDelay(true);
+			OutputStream output = socket.getOutputStream();
+
+			// The messages of the server are read in another thread, until the socket is closed
+			DataInputStream input = new DataInputStream(socket.getInputStream());
+			Thread reader = new Thread(() -> receive(input, new Replica()), username + " Reader");
+			reader.setDaemon(true);
+			reader.start();
+
+			int start = MinicraftCodec.begin(buffer, InputType.LOGIN);
+			MinicraftCodec.putString(buffer, username);
+			MinicraftCodec.end(buffer, start);
+			send(output, buffer);
+
+			long nextPing = 0;
+			long nextMove = 0;
+			long now;
+			while ((now = System.currentTimeMillis()) < endTime) {
+				if (now >= nextPing) {
+					start = MinicraftCodec.begin(buffer, InputType.PING);
+					buffer.putLong(System.nanoTime());
+					MinicraftCodec.end(buffer, start);
+					nextPing = now + PING_INTERVAL;
+				}
+				if (now >= nextMove) {
+					start = MinicraftCodec.begin(buffer, InputType.MOVE);
+					buffer.put((byte) (random.nextInt(3) - 1));
+					buffer.put((byte) (random.nextInt(3) - 1));
+					MinicraftCodec.end(buffer, start);
+					nextMove = now + MOVE_INTERVAL;
+				}
+				send(output, buffer);
+
+				Thread.sleep(Math.max(1, Math.min(nextPing, nextMove) - System.currentTimeMillis()));
+			}
+
+			start = MinicraftCodec.begin(buffer, InputType.DISCONNECT);
+			MinicraftCodec.end(buffer, start);
+			send(output, buffer);
+		} catch (IOException exception) {
+			Logger.error("{} lost the connection: {}", username, exception.getMessage());
+		} catch (InterruptedException ignored) {}
+	}
+
+	private static void send(OutputStream output, ByteBuffer buffer) throws IOException {
+		if (buffer.position() > 0) {
+			output.write(buffer.array(), 0, buffer.position());
+			output.flush();
+			buffer.clear();
+		}
+	}
+
+	/** Reads the messages of the server into the replica, until the connection is closed. */
+	private static void receive(DataInputStream input, Replica replica) {
+		byte[] header = new byte[MinicraftCodec.HEADER_SIZE];
+		try {
+			while (true) {
+				input.readFully(header);
+				int length = ByteBuffer.wrap(header).getInt();
+				if (length < 0 || length > MinicraftCodec.MAX_CONTENT_SIZE) {
+					throw new IOException("Invalid message length " + length);
+				}
+
+				ByteBuffer message = ByteBuffer.allocate(MinicraftCodec.HEADER_SIZE + length);
+				message.put(header);
+				input.readFully(message.array(), MinicraftCodec.HEADER_SIZE, length);
+				message.rewind();
+				bytesReceived.addAndGet(message.capacity());
+
+				InputType type = MinicraftCodec.readType(message);
+				if (type == InputType.PING) {
+					latencies.add(System.nanoTime() - message.getLong());
+				} else {
+					int updates = replica.entityUpdates;
+					replica.apply(type, message);
+					entityUpdates.addAndGet(replica.entityUpdates - updates);
+				}
+			}
+		} catch (IOException ignored) {
+			// Closed, by the bot or the server
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package minicraft.network;
+
+import minicraft.network.MinicraftProtocol.InputType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads the messages of the {@link MinicraftProtocol} as bytes. Each message is the
+ * length of its content (an int), its {@link InputType} (a byte), and the content.
+ *
+ * The content of each type, as it's written by the server and the bot:
+ *  - LOGIN: the username.
+ *  - INIT: the eid of the player, the depth of its level, the world width and height, and the x and y of the player.
+ *  - TILES: the depth, the width and height, then all the tiles and all the data of the level.
+ *  - REMOVE, ADD, ENTITY and TILE: the changes of the entities and tiles around the player, see {@link Replicator}.
+ *  - MOVE: the x and y direction the player is moving to, -1, 0 or 1, until the next MOVE.
+ *  - PING: a time of the client, sent back by the server after its next tick, with the tick.
+ *  - DISCONNECT: nothing.
+ */
+public final class MinicraftCodec {
+	private MinicraftCodec() {}
+
+	public static final int HEADER_SIZE = 5;
+	public static final int MAX_CONTENT_SIZE = 1 << 24; // A level of 512 is a 1 MB TILES message
+
+	/** Writes the header of a message, the length is written by {@link #end}. Returns where the message starts. */
+	public static int begin(ByteBuffer buffer, InputType type) {
+		int start = buffer.position();
+		buffer.putInt(0);
+		buffer.put((byte) type.ordinal());
+		return start;
+	}
+
+	public static void end(ByteBuffer buffer, int start) {
+		buffer.putInt(start, buffer.position() - start - HEADER_SIZE);
+	}
+
+	/**
+	 * Gets the size of the next message in the buffer (ready to be read), with its header,
+	 * or 0 if it hasn't been fully received yet. The buffer is not changed.
+	 *
+	 * @throws IllegalArgumentException If the length is not valid, the connection should be closed.
+	 */
+	public static int nextSize(ByteBuffer buffer, int maxContentSize) {
+		if (buffer.remaining() < HEADER_SIZE) {
+			return 0;
+		}
+
+		int length = buffer.getInt(buffer.position());
+		if (length < 0 || length > maxContentSize) {
+			throw new IllegalArgumentException("Invalid message length " + length);
+		}
+		return buffer.remaining() >= HEADER_SIZE + length ? HEADER_SIZE + length : 0;
+	}
+
+	/** Reads the header of a message, and returns its type, the buffer is left at the content. */
+	public static InputType readType(ByteBuffer buffer) {
+		buffer.getInt();
+		int type = buffer.get() & 0xFF;
+		return type < InputType.values.length ? InputType.values[type] : InputType.INVALID;
+	}
+
+	public static void putString(ByteBuffer buffer, String string) {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		buffer.putShort((short) bytes.length);
+		buffer.put(bytes);
+	}
+
+	public static String getString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/** The bytes needed to write the string with {@link #putString}. */
+	public static int stringSize(String string) {
+		return 2 + string.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/** The bits needed to write the numbers from 0 to max. */
+	public static int bitsFor(int max) {
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+	}
+
+	/** Writes values of any number of bits one after another, the most significant bits first. */
+	public static final class BitWriter {
+		private final ByteBuffer buffer;
+		private long bits;
+		private int count; // The bits not written to the buffer yet, always less than 8 between calls
+
+		public BitWriter(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		/** Writes the lowest bits of the value, up to 32. */
+		public void write(int value, int size) {
+			bits = (bits << size) | (value & ((1L << size) - 1));
+			count += size;
+			while (count >= 8) {
+				count -= 8;
+				buffer.put((byte) (bits >>> count));
+			}
+		}
+
+		/** Writes the bits left, the last byte is filled with zeros. */
+		public void flush() {
+			if (count > 0) {
+				buffer.put((byte) (bits << (8 - count)));
+				count = 0;
+			}
+		}
+	}
+
+	/** Reads what a {@link BitWriter} wrote. */
+	public static final class BitReader {
+		private final ByteBuffer buffer;
+		private long bits;
+		private int count;
+
+		public BitReader(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public int read(int size) {
+			while (count < size) {
+				bits = (bits << 8) | (buffer.get() & 0xFF);
+				count += 8;
+			}
+			count -= size;
+			return (int) ((bits >>> count) & ((1L << size) - 1));
+		}
+
+		/** Reads a value written with its sign, in two's complement. */
+		public int readSigned(int size) {
+			int value = read(size);
+			return (value << (32 - size)) >> (32 - size);
+		}
+	}
+}
@@ -0,0 +1,381 @@
+package minicraft.network;
+
+import minicraft.core.Game;
+import minicraft.core.Updater;
+import minicraft.core.World;
+import minicraft.level.Level;
+import minicraft.network.MinicraftProtocol.InputType;
+import minicraft.saveload.Save;
+import minicraft.screen.WorldSelectDisplay;
+import org.tinylog.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The --server mode: runs a world without a window, and the clients play in it through the
+ * {@link MinicraftProtocol}, encoded with the {@link MinicraftCodec}.
+ *
+ * Everything runs in one thread: the clients are served by a NIO selector between the ticks, and
+ * what they send is only applied in the next tick, so the game is never touched from another thread.
+ * Each client gets its own {@link RemotePlayer}, and after every tick what changed around it, from its {@link Replicator}.
+ * Typing "stop" in the console stops the server, and saves the world.
+ */
+public class MinicraftServer extends Game {
+
+	private static final int MAX_CLIENT_CONTENT = 1024; // The clients only send small messages
+	private static final int MAX_PENDING_OUTPUT = 1 << 24; // A client that doesn't read this much is dropped
+	private static final int VIEW_RADIUS = 16; // In tiles, a bit more than half of the screen
+
+	private final int port;
+	private final String worldName;
+	private final List<Connection> connections = new ArrayList<>();
+
+	private Selector selector;
+	private int serverTick;
+
+	// Metrics, logged every minute
+	private long bytesSent;
+	private long tickTime;
+	private int ticks;
+
+	/** A client of the server, and what it sent since the last tick. */
+	private static final class Connection {
+		final SocketChannel channel;
+		final SelectionKey key;
+
+		ByteBuffer input = ByteBuffer.allocate(MinicraftCodec.HEADER_SIZE + MAX_CLIENT_CONTENT);
+		ByteBuffer output = ByteBuffer.allocate(1 << 12);
+
+		RemotePlayer player; // Null until the client logs in
+		final Replicator replicator = new Replicator(VIEW_RADIUS);
+		final List<Long> pings = new ArrayList<>(); // The times to send back after the next tick
+		boolean closed;
+
+		Connection(SocketChannel channel, SelectionKey key) {
+			this.channel = channel;
+			this.key = key;
+		}
+
+		/** Makes sure there's space to write this many bytes in the output. */
+		ByteBuffer reserve(int bytes) {
+			output = Replicator.reserve(output, bytes);
+			return output;
+		}
+	}
+
+	public MinicraftServer(int port, String worldName) {
+		this.port = port;
+		this.worldName = worldName;
+	}
+
+	/** Loads the world, or makes it if it doesn't exist, and serves it until the server is stopped. */
+	public void run() {
+		boolean exists = new File(gameDir + "/saves/" + worldName).isDirectory();
+		Logger.info("{} the world {} ...", exists ? "Loading" : "Generating", worldName);
+		WorldSelectDisplay.setWorldName(worldName, exists);
+		World.initWorld();
+
+		// The player made with the world is only used to know the spawn position, each client has its own
+		levels[currentLevel].remove(player);
+
+		for (Level level : levels) {
+			level.trackTileChanges();
+		}
+
+		try {
+			selector = Selector.open();
+			ServerSocketChannel server = ServerSocketChannel.open();
+			server.configureBlocking(false);
+			server.bind(new InetSocketAddress(port));
+			server.register(selector, SelectionKey.OP_ACCEPT);
+			Logger.info("Server listening on port {}", port);
+
+			startConsole();
+			loop(server);
+
+			for (Connection connection : new ArrayList<>(connections)) {
+				close(connection, "server stopped");
+			}
+			server.close();
+			selector.close();
+		} catch (IOException exception) {
+			Logger.error("Server error: {}", exception.getMessage());
+			exception.printStackTrace();
+		}
+
+		Updater.tickServer(); // Takes the players of the clients out of the levels, they are not saved
+
+		Logger.info("Saving the world {} ...", worldName);
+		new Save(worldName);
+
+		Logger.info("Server stopped");
+	}
+
+	/** Reads the console in another thread, "stop" stops the server. */
+	private void startConsole() {
+		Thread console = new Thread(() -> {
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.trim().equalsIgnoreCase("stop")) {
+						quit();
+						selector.wakeup();
+						return;
+					}
+				}
+			} catch (IOException ignored) {}
+		}, "Server Console");
+		console.setDaemon(true);
+		console.start();
+	}
+
+	private void loop(ServerSocketChannel server) throws IOException {
+		long nsPerTick = 1000000000L / Updater.normalSpeed;
+		long nextTick = System.nanoTime();
+		long lastReport = System.currentTimeMillis();
+
+		while (running) {
+			long wait = nextTick - System.nanoTime();
+			if (wait > 1000000) {
+				selector.select(wait / 1000000);
+			} else {
+				selector.selectNow();
+			}
+
+			Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				keys.remove();
+
+				if (!key.isValid()) continue;
+				if (key.isAcceptable()) {
+					accept(server);
+				} else {
+					Connection connection = (Connection) key.attachment();
+					if (key.isReadable()) read(connection);
+					if (key.isValid() && key.isWritable()) flush(connection);
+				}
+			}
+
+			long now = System.nanoTime();
+			if (now - nextTick >= 0) {
+				tick();
+				tickTime += System.nanoTime() - now;
+				ticks++;
+
+				nextTick += nsPerTick;
+				if (now - nextTick > 1000000000L) {
+					Logger.warn("Server can't keep up, skipping {} ticks", (now - nextTick) / nsPerTick);
+					nextTick = now;
+				}
+			}
+
+			if (System.currentTimeMillis() - lastReport >= 60000) {
+				long interval = System.currentTimeMillis() - lastReport;
+				Logger.info("{} clients, {} ticks per second, {} ms per tick, {} KB per second sent", connections.size(),
+					ticks * 1000 / interval, String.format("%.2f", tickTime / 1e6 / Math.max(ticks, 1)), bytesSent / interval);
+				lastReport = System.currentTimeMillis();
+				bytesSent = tickTime = ticks = 0;
+			}
+		}
+	}
+
+	private void accept(ServerSocketChannel server) throws IOException {
+		SocketChannel channel;
+		while ((channel = server.accept()) != null) {
+			channel.configureBlocking(false);
+			channel.socket().setTcpNoDelay(true);
+			SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+			Connection connection = new Connection(channel, key);
+			key.attach(connection);
+			connections.add(connection);
+			Logger.debug("Client connected from {}", channel.getRemoteAddress());
+		}
+	}
+
+	private void read(Connection connection) {
+		try {
+			int read = 0;
+			while (!connection.closed && (read = connection.channel.read(connection.input)) > 0) {
+				connection.input.flip();
+				int size;
+				while (!connection.closed && (size = MinicraftCodec.nextSize(connection.input, MAX_CLIENT_CONTENT)) > 0) {
+					int end = connection.input.position() + size;
+					handle(connection, MinicraftCodec.readType(connection.input), connection.input);
+					connection.input.position(end);
+				}
+				connection.input.compact();
+			}
+
+			if (read < 0) {
+				close(connection, "disconnected");
+			}
+		} catch (IOException | RuntimeException exception) {
+			close(connection, exception.getMessage());
+		}
+	}
+
+	/** Handles a message of a client, the buffer is at its content. */
+	private void handle(Connection connection, InputType type, ByteBuffer content) {
+		if (connection.player == null && type != InputType.LOGIN && type != InputType.PING) {
+			throw new IllegalArgumentException("Sent " + type + " before logging in");
+		}
+
+		switch (type) {
+			case LOGIN:
+				if (connection.player == null) {
+					spawn(connection, MinicraftCodec.getString(content));
+				}
+				break;
+
+			case MOVE:
+				connection.player.moveX = Integer.signum(content.get());
+				connection.player.moveY = Integer.signum(content.get());
+				break;
+
+			case PING:
+				connection.pings.add(content.getLong());
+				break;
+
+			case DISCONNECT:
+				close(connection, "disconnected");
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unexpected " + type);
+		}
+	}
+
+	/** Adds the player of a client at the spawn of the world, and sends it the level. */
+	private void spawn(Connection connection, String username) {
+		Level level = levels[currentLevel];
+
+		RemotePlayer remotePlayer = new RemotePlayer(username);
+		remotePlayer.x = player.x;
+		remotePlayer.y = player.y;
+		level.add(remotePlayer);
+		connection.player = remotePlayer;
+		connection.replicator.reset(); // The client gets the whole level
+
+		ByteBuffer output = connection.reserve(MinicraftCodec.HEADER_SIZE + 17);
+		int start = MinicraftCodec.begin(output, InputType.INIT);
+		output.putInt(remotePlayer.eid);
+		output.put((byte) level.depth);
+		output.putShort((short) level.w);
+		output.putShort((short) level.h);
+		output.putInt(remotePlayer.x);
+		output.putInt(remotePlayer.y);
+		MinicraftCodec.end(output, start);
+
+		output = connection.reserve(MinicraftCodec.HEADER_SIZE + 5 + level.tiles.length * 4);
+		start = MinicraftCodec.begin(output, InputType.TILES);
+		output.put((byte) level.depth);
+		output.putShort((short) level.w);
+		output.putShort((short) level.h);
+		output.asShortBuffer().put(level.tiles);
+		output.position(output.position() + level.tiles.length * 2);
+		output.asShortBuffer().put(level.data);
+		output.position(output.position() + level.data.length * 2);
+		MinicraftCodec.end(output, start);
+
+		Logger.info("{} joined the server", username);
+	}
+
+	private void tick() {
+		serverTick++;
+		Updater.tickServer();
+
+		// Taken once for all the clients
+		Map<Level, int[]> tileChanges = new HashMap<>();
+		for (Level level : levels) {
+			tileChanges.put(level, level.takeTileChanges());
+		}
+
+		for (Connection connection : new ArrayList<>(connections)) {
+			if (connection.player != null) {
+				if (connection.player.isRemoved()) {
+					// It died, it comes back at the spawn like a new player
+					String username = connection.player.username;
+					connection.player = null;
+					spawn(connection, username);
+				}
+				sendChanges(connection, tileChanges);
+			}
+
+			for (long time : connection.pings) {
+				ByteBuffer output = connection.reserve(MinicraftCodec.HEADER_SIZE + 12);
+				int start = MinicraftCodec.begin(output, InputType.PING);
+				output.putLong(time);
+				output.putInt(serverTick);
+				MinicraftCodec.end(output, start);
+			}
+			connection.pings.clear();
+
+			flush(connection);
+		}
+	}
+
+	/** Sends what changed around the player of the client. */
+	private void sendChanges(Connection connection, Map<Level, int[]> tileChanges) {
+		Level level = connection.player.getLevel();
+		if (level == null) {
+			return; // Not added yet
+		}
+
+		connection.output = connection.replicator.encode(connection.output, connection.player, serverTick, tileChanges.get(level));
+	}
+
+	/** Writes what the channel takes now, the rest is written when it's writable again. */
+	private void flush(Connection connection) {
+		if (connection.closed) {
+			return;
+		}
+
+		try {
+			connection.output.flip();
+			bytesSent += connection.channel.write(connection.output);
+			boolean pending = connection.output.hasRemaining();
+			connection.output.compact();
+
+			if (connection.output.position() > MAX_PENDING_OUTPUT) {
+				close(connection, "not reading fast enough");
+				return;
+			}
+			connection.key.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+		} catch (IOException exception) {
+			close(connection, exception.getMessage());
+		}
+	}
+
+	private void close(Connection connection, String reason) {
+		if (connection.closed) {
+			return;
+		}
+		connection.closed = true;
+		connections.remove(connection);
+
+		if (connection.player != null) {
+			connection.player.remove();
+			Logger.info("{} left the server: {}", connection.player.username, reason);
+		}
+
+		try {
+			connection.key.cancel();
+			connection.channel.close();
+		} catch (IOException ignored) {}
+	}
+}
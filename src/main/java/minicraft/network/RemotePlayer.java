@@ -0,0 +1,44 @@
+package minicraft.network;
+
+import minicraft.core.io.InputHandler;
+import minicraft.entity.mob.Player;
+
+/**
+ * The player of a client of the {@link MinicraftServer}. Like the other {@link minicraft.entity.ClientTickable}
+ * entities, most of its tick belongs to the client, so the server only keeps it moving in the
+ * direction the client sent, and does the damage timers, so the mobs can still hurt it.
+ */
+class RemotePlayer extends Player {
+
+	final String username;
+
+	// The direction sent in the last MOVE, kept like a held key
+	int moveX, moveY;
+
+	RemotePlayer(String username) {
+		super(null, new InputHandler()); // Nothing types in it, the input comes from the client
+		this.username = username;
+	}
+
+	@Override
+	public void tick() {
+		tickTime++;
+
+		if (level == null || isRemoved()) {
+			return;
+		}
+
+		if (health <= 0) {
+			die();
+			return;
+		}
+
+		if (hurtTime > 0) {
+			hurtTime--;
+		}
+
+		if (moveX != 0 || moveY != 0) {
+			move(moveX, moveY);
+		}
+	}
+}
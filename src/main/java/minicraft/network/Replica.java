@@ -0,0 +1,128 @@
+package minicraft.network;
+
+import minicraft.network.MinicraftCodec.BitReader;
+import minicraft.network.MinicraftProtocol.InputType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What a client knows of the level of its player, kept up to date with the messages of a
+ * {@link Replicator}: the tiles, and the entities in view.
+ */
+class Replica {
+
+	/** An entity as the client knows it. */
+	static final class Entity {
+		final int eid;
+		final String kind;
+		int x, y, dir, health, hurtTime;
+
+		Entity(int eid, String kind) {
+			this.eid = eid;
+			this.kind = kind;
+		}
+	}
+
+	int eid; // The player of the client
+	int depth;
+	int width, height;
+	short[] tiles = new short[0];
+	short[] data = new short[0];
+
+	final Map<Integer, Entity> entities = new HashMap<>();
+	private Entity[] slots = new Entity[64];
+
+	int tick; // Of the last ENTITY message
+	int entityUpdates; // How many entity changes were applied, in all
+
+	/** Applies a message of the server, the buffer is at its content. Other types are ignored. */
+	void apply(InputType type, ByteBuffer content) {
+		switch (type) {
+			case INIT:
+				eid = content.getInt();
+				depth = content.get();
+				entities.clear();
+				Arrays.fill(slots, null);
+				break;
+
+			case TILES:
+				depth = content.get();
+				width = content.getShort();
+				height = content.getShort();
+				tiles = new short[width * height];
+				data = new short[width * height];
+				content.asShortBuffer().get(tiles);
+				content.position(content.position() + tiles.length * 2);
+				content.asShortBuffer().get(data);
+				break;
+
+			case REMOVE:
+				for (int i = content.getShort(); i > 0; i--) {
+					entities.remove(content.getInt());
+				}
+				break;
+
+			case ADD:
+				for (int i = content.getShort(); i > 0; i--) {
+					int slot = content.getShort() & 0xFFFF;
+					Entity entity = new Entity(content.getInt(), MinicraftCodec.getString(content));
+					entity.x = content.getShort() & 0xFFFF;
+					entity.y = content.getShort() & 0xFFFF;
+					entity.dir = content.get();
+					entity.health = content.getShort();
+					entity.hurtTime = content.get() & 0xFF;
+
+					if (slot >= slots.length) {
+						slots = Arrays.copyOf(slots, Math.max(slots.length * 2, slot + 1));
+					}
+					slots[slot] = entity;
+					entities.put(entity.eid, entity);
+				}
+				break;
+
+			case ENTITY: {
+				tick = content.getInt();
+				int count = content.getShort();
+				int slotBits = content.get();
+				BitReader bits = new BitReader(content);
+				for (int i = 0; i < count; i++) {
+					Entity entity = slots[bits.read(slotBits)];
+					int fields = bits.read(Replicator.FIELD_BITS);
+					if ((fields & Replicator.X) != 0) entity.x = readPosition(bits, entity.x);
+					if ((fields & Replicator.Y) != 0) entity.y = readPosition(bits, entity.y);
+					if ((fields & Replicator.DIR) != 0) entity.dir = bits.read(3);
+					if ((fields & Replicator.HEALTH) != 0) entity.health = bits.readSigned(16);
+					if ((fields & Replicator.HURT) != 0) entity.hurtTime = bits.read(8);
+				}
+				entityUpdates += count;
+				break;
+			}
+
+			case TILE: {
+				int count = content.getShort();
+				int xBits = MinicraftCodec.bitsFor(width - 1);
+				int yBits = MinicraftCodec.bitsFor(height - 1);
+				BitReader bits = new BitReader(content);
+				for (int i = 0; i < count; i++) {
+					int position = bits.read(xBits) + bits.read(yBits) * width;
+					tiles[position] = (short) bits.read(16);
+					data[position] = (short) bits.read(16);
+				}
+				break;
+			}
+
+			default:
+				break;
+		}
+	}
+
+	private static int readPosition(BitReader bits, int from) {
+		if (bits.read(1) == 0) {
+			return from + bits.readSigned(Replicator.SMALL_MOVE_BITS);
+		}
+		return bits.read(16);
+	}
+}
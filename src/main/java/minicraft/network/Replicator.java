@@ -0,0 +1,293 @@
+package minicraft.network;
+
+import minicraft.entity.Direction;
+import minicraft.entity.Entity;
+import minicraft.entity.mob.Mob;
+import minicraft.level.Level;
+import minicraft.network.MinicraftCodec.BitWriter;
+import minicraft.network.MinicraftProtocol.InputType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends a client what changed around its player since the last tick, instead of all of it again.
+ *
+ * It keeps what was last sent of each entity in view of the player, and each tick only the fields
+ * that changed are sent, bit-packed, against that. The messages go over TCP in order, so what was
+ * sent last is what the client has, there's nothing to acknowledge. The messages of a tick, each
+ * one only if it has something:
+ *  - REMOVE: the number of entities, and the eid of each one that left the view or the level.
+ *  - ADD: the number of entities, and for each one the slot (short) it has from now on, the eid,
+ *    the class name, the x and y (shorts), the direction (byte), the health (short) and the hurt time (byte).
+ *  - ENTITY: the tick, the number of entities, and the bits of a slot (byte). Then bit-packed, for
+ *    each entity that changed, the slot, which fields changed (X, Y, DIR, HEALTH and HURT, 5 bits)
+ *    and those fields: the x and y as 0 and a small change, or 1 and the new value, the direction
+ *    in 3 bits, the health in 16 and the hurt time in 8.
+ *  - TILE: the number of tiles, then bit-packed the x and y (as many bits as the level is big), the
+ *    id in 16 bits (the torch tiles go from 16384) and the data in 16. The tiles that change far from the player are sent once it gets near.
+ *
+ * {@link Replica} applies them in the client.
+ */
+class Replicator {
+
+	static final int X = 1, Y = 2, DIR = 4, HEALTH = 8, HURT = 16;
+	static final int FIELD_BITS = 5;
+	static final int SMALL_MOVE_BITS = 4; // Moves from -8 to 7 pixels, a mob moves 1 or 2 per tick
+
+	// What was last sent of an entity, its slot is how ENTITY refers to it
+	private static final class Sent {
+		final int slot;
+		int x, y, dir, health, hurtTime;
+		int seen; // The last tick it was in view
+
+		Sent(int slot) {
+			this.slot = slot;
+		}
+	}
+
+	private final int radius;
+	private final Map<Entity, Sent> sent = new HashMap<>();
+	private final BitSet slots = new BitSet();
+
+	private Level level; // The level of what was sent
+	private final BitSet pendingTiles = new BitSet(); // Tiles that changed out of the view, by x + y * w
+	private ByteBuffer scratch = ByteBuffer.allocate(1 << 12);
+
+	/** @param radius How far from the player, in tiles, the entities and tiles are sent. */
+	Replicator(int radius) {
+		this.radius = radius;
+	}
+
+	/** Forgets all that was sent, call it when the client gets the whole level again (INIT and TILES). */
+	void reset() {
+		sent.clear();
+		slots.clear();
+		pendingTiles.clear();
+		level = null;
+	}
+
+	/**
+	 * Writes the messages of this tick to the output.
+	 *
+	 * @param tileChanges The tiles that changed this tick in the level of the viewer, by x + y * w.
+	 * @return The output, or a bigger one if it didn't fit.
+	 */
+	ByteBuffer encode(ByteBuffer output, Entity viewer, int tick, int[] tileChanges) {
+		Level viewerLevel = viewer.getLevel();
+		if (viewerLevel != level) {
+			// The client gets the whole level again when it changes, so nothing of the old one is kept
+			reset();
+			level = viewerLevel;
+		}
+		if (level == null) {
+			return output;
+		}
+
+		int xt = viewer.x >> 4;
+		int yt = viewer.y >> 4;
+		List<Entity> inView = level.getEntitiesInTiles(xt, yt, radius);
+		if (!inView.contains(viewer)) {
+			inView.add(viewer);
+		}
+
+		// The entities that are not in view anymore are removed first, so their slots can be used again
+		List<Entity> added = new ArrayList<>();
+		for (Entity entity : inView) {
+			Sent state = sent.get(entity);
+			if (state != null) {
+				state.seen = tick;
+			} else if (!entity.isRemoved()) {
+				added.add(entity);
+			}
+		}
+
+		int removed = 0;
+		scratch.clear();
+		for (Iterator<Map.Entry<Entity, Sent>> it = sent.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<Entity, Sent> entry = it.next();
+			if (entry.getValue().seen != tick || entry.getKey().isRemoved()) {
+				scratch = reserve(scratch, 4);
+				scratch.putInt(entry.getKey().eid);
+				slots.clear(entry.getValue().slot);
+				it.remove();
+				removed++;
+			}
+		}
+		if (removed > 0) {
+			output = reserve(output, MinicraftCodec.HEADER_SIZE + 2 + scratch.position());
+			int start = MinicraftCodec.begin(output, InputType.REMOVE);
+			output.putShort((short) removed);
+			output.put(scratch.array(), 0, scratch.position());
+			MinicraftCodec.end(output, start);
+		}
+
+		if (!added.isEmpty()) {
+			int size = 2;
+			for (Entity entity : added) {
+				size += 14 + MinicraftCodec.stringSize(entity.getClass().getSimpleName());
+			}
+			output = reserve(output, MinicraftCodec.HEADER_SIZE + size);
+			int start = MinicraftCodec.begin(output, InputType.ADD);
+			output.putShort((short) added.size());
+			for (Entity entity : added) {
+				int slot = slots.nextClearBit(0);
+				slots.set(slot);
+				Sent state = new Sent(slot);
+				state.seen = tick;
+				read(entity, state);
+				sent.put(entity, state);
+
+				output.putShort((short) slot);
+				output.putInt(entity.eid);
+				MinicraftCodec.putString(output, entity.getClass().getSimpleName());
+				output.putShort((short) state.x); // The biggest world is 512 tiles, 8192 pixels
+				output.putShort((short) state.y);
+				output.put((byte) state.dir);
+				output.putShort((short) state.health);
+				output.put((byte) state.hurtTime);
+			}
+			MinicraftCodec.end(output, start);
+		}
+
+		output = encodeEntities(output, tick);
+		return encodeTiles(output, xt, yt, tileChanges);
+	}
+
+	private ByteBuffer encodeEntities(ByteBuffer output, int tick) {
+		int slotBits = MinicraftCodec.bitsFor(Math.max(slots.length() - 1, 0));
+
+		// At most the slot, the fields, two absolute positions, the direction, health and hurt time
+		scratch.clear();
+		scratch = reserve(scratch, sent.size() * ((slotBits + FIELD_BITS + 17 + 17 + 3 + 16 + 8) / 8 + 1) + 1);
+		BitWriter bits = new BitWriter(scratch);
+		int count = 0;
+
+		Sent now = new Sent(0);
+		for (Map.Entry<Entity, Sent> entry : sent.entrySet()) {
+			Sent state = entry.getValue();
+			read(entry.getKey(), now);
+
+			int fields = 0;
+			if (now.x != state.x) fields |= X;
+			if (now.y != state.y) fields |= Y;
+			if (now.dir != state.dir) fields |= DIR;
+			if (now.health != state.health) fields |= HEALTH;
+			if (now.hurtTime != state.hurtTime) fields |= HURT;
+			if (fields == 0) continue;
+
+			bits.write(state.slot, slotBits);
+			bits.write(fields, FIELD_BITS);
+			if ((fields & X) != 0) writePosition(bits, state.x, now.x);
+			if ((fields & Y) != 0) writePosition(bits, state.y, now.y);
+			if ((fields & DIR) != 0) bits.write(now.dir, 3);
+			if ((fields & HEALTH) != 0) bits.write(now.health, 16);
+			if ((fields & HURT) != 0) bits.write(now.hurtTime, 8);
+
+			state.x = now.x;
+			state.y = now.y;
+			state.dir = now.dir;
+			state.health = now.health;
+			state.hurtTime = now.hurtTime;
+			count++;
+		}
+		bits.flush();
+
+		if (count > 0) {
+			output = reserve(output, MinicraftCodec.HEADER_SIZE + 7 + scratch.position());
+			int start = MinicraftCodec.begin(output, InputType.ENTITY);
+			output.putInt(tick);
+			output.putShort((short) count);
+			output.put((byte) slotBits);
+			output.put(scratch.array(), 0, scratch.position());
+			MinicraftCodec.end(output, start);
+		}
+		return output;
+	}
+
+	private static void writePosition(BitWriter bits, int from, int to) {
+		int change = to - from;
+		if (change >= -(1 << (SMALL_MOVE_BITS - 1)) && change < (1 << (SMALL_MOVE_BITS - 1))) {
+			bits.write(0, 1);
+			bits.write(change, SMALL_MOVE_BITS);
+		} else {
+			bits.write(1, 1);
+			bits.write(to, 16);
+		}
+	}
+
+	private ByteBuffer encodeTiles(ByteBuffer output, int xt, int yt, int[] tileChanges) {
+		for (int position : tileChanges) {
+			pendingTiles.set(position);
+		}
+		if (pendingTiles.isEmpty()) {
+			return output;
+		}
+
+		int x0 = Math.max(xt - radius, 0);
+		int y0 = Math.max(yt - radius, 0);
+		int x1 = Math.min(xt + radius, level.w - 1);
+		int y1 = Math.min(yt + radius, level.h - 1);
+		int xBits = MinicraftCodec.bitsFor(level.w - 1);
+		int yBits = MinicraftCodec.bitsFor(level.h - 1);
+
+		// At most all the pending tiles, or all the tiles in view
+		scratch.clear();
+		scratch = reserve(scratch, Math.min(pendingTiles.cardinality(), (x1 - x0 + 1) * (y1 - y0 + 1)) * ((xBits + yBits + 32) / 8 + 1) + 1);
+		BitWriter bits = new BitWriter(scratch);
+		int count = 0;
+		for (int y = y0; y <= y1; y++) {
+			int end = x1 + y * level.w;
+			for (int position = pendingTiles.nextSetBit(x0 + y * level.w); position >= 0 && position <= end; position = pendingTiles.nextSetBit(position + 1)) {
+				pendingTiles.clear(position);
+				bits.write(position % level.w, xBits);
+				bits.write(y, yBits);
+				bits.write(level.tiles[position] & 0xFFFF, 16);
+				bits.write(level.data[position], 16);
+				count++;
+			}
+		}
+		bits.flush();
+
+		if (count > 0) {
+			output = reserve(output, MinicraftCodec.HEADER_SIZE + 2 + scratch.position());
+			int start = MinicraftCodec.begin(output, InputType.TILE);
+			output.putShort((short) count);
+			output.put(scratch.array(), 0, scratch.position());
+			MinicraftCodec.end(output, start);
+		}
+		return output;
+	}
+
+	/** Gets the fields that are sent of an entity, the ones that are not a mob are always 0. */
+	private static void read(Entity entity, Sent state) {
+		state.x = entity.x;
+		state.y = entity.y;
+		if (entity instanceof Mob) {
+			Mob mob = (Mob) entity;
+			state.dir = mob.dir.ordinal();
+			state.health = Math.max(Math.min(mob.health, Short.MAX_VALUE), Short.MIN_VALUE);
+			state.hurtTime = Math.max(Math.min(mob.hurtTime, 255), 0);
+		} else {
+			state.dir = Direction.NONE.ordinal();
+			state.health = 0;
+			state.hurtTime = 0;
+		}
+	}
+
+	/** Makes sure there's space to write this many bytes in the buffer, keeping what's in it. */
+	static ByteBuffer reserve(ByteBuffer buffer, int bytes) {
+		if (buffer.remaining() < bytes) {
+			ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+			buffer.flip();
+			bigger.put(buffer);
+			return bigger;
+		}
+		return buffer;
+	}
+}
@@ -0,0 +1,312 @@
+package minicraft.saveload;
+
+import minicraft.level.Level;
+import minicraft.level.tile.Tile;
+import minicraft.level.tile.Tiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary level save format, replaces the text .level, .data and .map files.
+ *
+ * The file starts with a header (magic, format version, size, seed and depth), then
+ * a palette with the names of the tiles used in the level, so the tile ids can change
+ * between versions without breaking the saves. After that goes the explored map as a
+ * compressed bit set, and then the level split in square regions, each one compressed
+ * on its own with the palette index and the data of every tile as raw shorts.
+ */
+public class LevelFile {
+
+	private static final int MAGIC = 0x4D434C56; // "MCLV"
+	private static final short FORMAT_VERSION = 1;
+	private static final int REGION_SIZE = 32; // In tiles
+
+	public final int w, h;
+	public final long seed;
+	public final int depth;
+
+	public final short[] tiles;
+	public final short[] data;
+	public final boolean[][] explored;
+
+	public LevelFile(int w, int h, long seed, int depth, short[] tiles, short[] data, boolean[][] explored) {
+		this.w = w;
+		this.h = h;
+		this.seed = seed;
+		this.depth = depth;
+		this.tiles = tiles;
+		this.data = data;
+		this.explored = explored;
+	}
+
+	/** Copies the arrays of the level, so the level can keep changing while this is written. */
+	public LevelFile(Level level) {
+		this(level.w, level.h, level.getSeed(), level.depth, level.tiles.clone(), level.data.clone(), copyOf(level.explored));
+	}
+
+	private static boolean[][] copyOf(boolean[][] explored) {
+		if (explored == null) {
+			return null;
+		}
+
+		boolean[][] copy = new boolean[explored.length][];
+		for (int i = 0; i < explored.length; i++) {
+			copy[i] = explored[i].clone();
+		}
+		return copy;
+	}
+
+	public void write(String filename) throws IOException {
+		// Builds the palette with the tiles used in this level
+		short[] paletteIndex = new short[1 << 16];
+		Arrays.fill(paletteIndex, (short) -1);
+		List<String> palette = new ArrayList<>();
+		short[] indexed = new short[tiles.length];
+
+		for (int i = 0; i < tiles.length; i++) {
+			int key = tiles[i] & 0xFFFF;
+			if (paletteIndex[key] < 0) {
+				int id = tiles[i];
+				if (id < 0) id += 256; // Same as Level.getTile()
+				paletteIndex[key] = (short) palette.size();
+				palette.add(Tiles.get(id).name);
+			}
+			indexed[i] = paletteIndex[key];
+		}
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			List<byte[]> regions = new ArrayList<>();
+			for (int ry = 0; ry < h; ry += REGION_SIZE) {
+				for (int rx = 0; rx < w; rx += REGION_SIZE) {
+					regions.add(compress(deflater, packRegion(indexed, rx, ry)));
+				}
+			}
+
+			byte[] exploredData = compress(deflater, packExplored());
+
+			List<byte[]> names = new ArrayList<>();
+			int headerSize = 4 + 2 + 4 + 4 + 8 + 4 + 2 + 2;
+			for (String name : palette) {
+				byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+				names.add(bytes);
+				headerSize += 2 + bytes.length;
+			}
+			headerSize += 4 + 4 + 4 + exploredData.length + 4 + 4 * regions.size();
+
+			ByteBuffer header = ByteBuffer.allocate(headerSize);
+			header.putInt(MAGIC).putShort(FORMAT_VERSION);
+			header.putInt(w).putInt(h).putLong(seed).putInt(depth);
+			header.putShort((short) REGION_SIZE);
+
+			header.putShort((short) names.size());
+			for (byte[] name : names) {
+				header.putShort((short) name.length).put(name);
+			}
+
+			header.putInt(explored == null ? 0 : explored.length);
+			header.putInt(explored == null || explored.length == 0 ? 0 : explored[0].length);
+			header.putInt(exploredData.length).put(exploredData);
+
+			header.putInt(regions.size());
+			for (byte[] region : regions) {
+				header.putInt(region.length);
+			}
+			header.flip();
+
+			ByteBuffer[] buffers = new ByteBuffer[regions.size() + 1];
+			buffers[0] = header;
+			for (int i = 0; i < regions.size(); i++) {
+				buffers[i + 1] = ByteBuffer.wrap(regions.get(i));
+			}
+
+			try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				while (buffers[buffers.length - 1].hasRemaining()) {
+					channel.write(buffers);
+				}
+			}
+		} finally {
+			deflater.end();
+		}
+	}
+
+	public static LevelFile read(String filename) throws IOException {
+		ByteBuffer buffer;
+		Path path = Paths.get(filename);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = ByteBuffer.allocate((int) channel.size());
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) break;
+			}
+			buffer.flip();
+		}
+
+		if (buffer.getInt() != MAGIC) {
+			throw new IOException("Not a level file: " + filename);
+		}
+
+		short version = buffer.getShort();
+		if (version > FORMAT_VERSION) {
+			throw new IOException("Level file " + filename + " has unsupported format version " + version);
+		}
+
+		int w = buffer.getInt();
+		int h = buffer.getInt();
+		long seed = buffer.getLong();
+		int depth = buffer.getInt();
+		int regionSize = buffer.getShort();
+
+		// Resolves the palette names to the current tile ids
+		short[] palette = new short[buffer.getShort()];
+		for (int i = 0; i < palette.length; i++) {
+			byte[] name = new byte[buffer.getShort()];
+			buffer.get(name);
+			Tile tile = Tiles.get(new String(name, StandardCharsets.UTF_8));
+			palette[i] = tile.id;
+		}
+
+		Inflater inflater = new Inflater();
+		try {
+			int exploredW = buffer.getInt();
+			int exploredH = buffer.getInt();
+			byte[] exploredData = inflate(inflater, buffer, buffer.getInt(), (exploredW * exploredH + 7) / 8);
+			boolean[][] explored = unpackExplored(exploredData, exploredW, exploredH);
+
+			int[] regionLengths = new int[buffer.getInt()];
+			for (int i = 0; i < regionLengths.length; i++) {
+				regionLengths[i] = buffer.getInt();
+			}
+
+			short[] tiles = new short[w * h];
+			short[] data = new short[w * h];
+
+			int region = 0;
+			for (int ry = 0; ry < h; ry += regionSize) {
+				for (int rx = 0; rx < w; rx += regionSize) {
+					int rw = Math.min(regionSize, w - rx);
+					int rh = Math.min(regionSize, h - ry);
+
+					ByteBuffer raw = ByteBuffer.wrap(inflate(inflater, buffer, regionLengths[region++], rw * rh * 4));
+					for (int y = ry; y < ry + rh; y++) {
+						for (int x = rx; x < rx + rw; x++) {
+							tiles[x + y * w] = palette[raw.getShort()];
+						}
+					}
+					for (int y = ry; y < ry + rh; y++) {
+						for (int x = rx; x < rx + rw; x++) {
+							data[x + y * w] = raw.getShort();
+						}
+					}
+				}
+			}
+
+			return new LevelFile(w, h, seed, depth, tiles, data, explored);
+		} catch (DataFormatException exception) {
+			throw new IOException("Corrupted level file: " + filename, exception);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private byte[] packRegion(short[] indexed, int rx, int ry) {
+		int rw = Math.min(REGION_SIZE, w - rx);
+		int rh = Math.min(REGION_SIZE, h - ry);
+
+		ByteBuffer raw = ByteBuffer.allocate(rw * rh * 4);
+		for (int y = ry; y < ry + rh; y++) {
+			for (int x = rx; x < rx + rw; x++) {
+				raw.putShort(indexed[x + y * w]);
+			}
+		}
+		for (int y = ry; y < ry + rh; y++) {
+			for (int x = rx; x < rx + rw; x++) {
+				raw.putShort(data[x + y * w]);
+			}
+		}
+
+		return raw.array();
+	}
+
+	private byte[] packExplored() {
+		if (explored == null || explored.length == 0) {
+			return new byte[0];
+		}
+
+		int rowLength = explored[0].length;
+		byte[] bits = new byte[(explored.length * rowLength + 7) / 8];
+		for (int i = 0; i < explored.length; i++) {
+			for (int j = 0; j < rowLength; j++) {
+				if (explored[i][j]) {
+					int bit = i * rowLength + j;
+					bits[bit >> 3] |= (byte) (1 << (bit & 7));
+				}
+			}
+		}
+
+		return bits;
+	}
+
+	private static boolean[][] unpackExplored(byte[] bits, int exploredW, int exploredH) {
+		if (exploredW == 0) {
+			return null;
+		}
+
+		boolean[][] explored = new boolean[exploredW][exploredH];
+		for (int i = 0; i < exploredW; i++) {
+			for (int j = 0; j < exploredH; j++) {
+				int bit = i * exploredH + j;
+				explored[i][j] = (bits[bit >> 3] & (1 << (bit & 7))) != 0;
+			}
+		}
+
+		return explored;
+	}
+
+	private static byte[] compress(Deflater deflater, byte[] raw) {
+		deflater.reset();
+		deflater.setInput(raw);
+		deflater.finish();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 16);
+		byte[] chunk = new byte[4096];
+		while (!deflater.finished()) {
+			int length = deflater.deflate(chunk);
+			out.write(chunk, 0, length);
+		}
+
+		return out.toByteArray();
+	}
+
+	private static byte[] inflate(Inflater inflater, ByteBuffer buffer, int length, int rawLength) throws DataFormatException {
+		byte[] compressed = new byte[length];
+		buffer.get(compressed);
+
+		inflater.reset();
+		inflater.setInput(compressed);
+
+		byte[] raw = new byte[rawLength];
+		int offset = 0;
+		while (offset < rawLength && !inflater.finished()) {
+			int read = inflater.inflate(raw, offset, rawLength - offset);
+			if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+				throw new DataFormatException("Unexpected end of compressed data");
+			}
+			offset += read;
+		}
+
+		return raw;
+	}
+}
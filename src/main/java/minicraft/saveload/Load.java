@@ -8,7 +8,6 @@ import minicraft.core.io.Settings;
 import minicraft.entity.*;
 import minicraft.entity.furniture.*;
 import minicraft.entity.mob.*;
-import minicraft.entity.particle.TextParticle;
 import minicraft.graphic.Color;
 import minicraft.item.*;
 import minicraft.level.Level;
@@ -28,7 +27,9 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Load {
 
@@ -38,21 +39,16 @@ public class Load {
 	private static final String dataExtension = Save.dataExtension;
 	private static final String saveExtension = Save.saveExtension;
 	private static final String mapExtension = Save.mapExtension;
+	private static final String levelExtension = Save.levelExtension;
 
 	private static final String oldExtension = Save.oldExtension;
 
 	private float loadPercent;
 
-	private ArrayList<String> data;
-	private ArrayList<String> extradata; // These two are changed when loading a new file. (see loadFromFile())
-
 	private Version worldVersion;
 
 	{
 		worldVersion = null;
-
-		data = new ArrayList<>();
-		extradata = new ArrayList<>();
 	}
 
 	public Load(String worldname) {
@@ -60,10 +56,12 @@ public class Load {
 	}
 
 	public Load(String worldname, boolean loadGame) {
-		loadFromFile(location + "/saves/" + worldname + "/Game" + saveExtension);
+		Save.waitForAutosave(); // the files could be half written
+
+		SaveReader data = loadFromFile(location + "/saves/" + worldname + "/Game" + saveExtension);
 
-		if (data.get(0).contains(".")) {
-			worldVersion = new Version(data.get(0));
+		if (data.hasNext() && data.peek(0).contains(".")) {
+			worldVersion = new Version(data.peek(0));
 		}
 
 		if (worldVersion == null) {
@@ -83,20 +81,36 @@ public class Load {
 
 			LoadingDisplay.setPercentage(0);
 
+			long startTime = System.nanoTime();
+			long stepTime = startTime;
+
 			// More of the version will be determined here
 			loadGame("Game");
+			stepTime = logLoadTime("game", stepTime);
 			loadWorld("Level");
+			stepTime = logLoadTime("levels", stepTime);
 			loadMap("Level");
+			stepTime = logLoadTime("maps", stepTime);
 			loadEntities("Entities");
+			stepTime = logLoadTime("entities", stepTime);
 			loadInventory("Inventory", Game.player.getInventory());
 			loadPlayer("Player", Game.player);
+			logLoadTime("player", stepTime);
 
 			if (Game.isMode("Creative")) {
 				Items.fillCreativeInventory(Game.player.getInventory(), false);
 			}
+
+			Logger.info("Loaded world \"{}\" in {} ms", worldname, (System.nanoTime() - startTime) / 1000000);
 		}
 	}
 
+	private static long logLoadTime(String step, long startTime) {
+		long time = System.nanoTime();
+		Logger.debug("Loaded {} in {} ms", step, (time - startTime) / 1000000);
+		return time;
+	}
+
 	public Load() {
 		this(Game.VERSION);
 	}
@@ -182,30 +196,17 @@ public class Load {
 		return lines;
 	}
 
-	private void loadFromFile(String filename) {
-		data.clear();
-		extradata.clear();
-
-		String total;
+	private SaveReader loadFromFile(String filename) {
+		SaveReader data;
 		try {
-			total = loadFromFile(filename, true);
-			if (total.length() > 0) {
-				data.addAll(Arrays.asList(total.split(",")));
-			}
+			data = SaveReader.open(filename);
 		} catch (IOException exception) {
 			exception.printStackTrace();
-		}
-
-		if (filename.contains("Level")) {
-			try {
-				total = Load.loadFromFile(filename.substring(0, filename.lastIndexOf("/") + 7) + dataExtension, true);
-				extradata.addAll(Arrays.asList(total.split(",")));
-			} catch (IOException exception) {
-				exception.printStackTrace();
-			}
+			data = new SaveReader("");
 		}
 
 		LoadingDisplay.progress(loadPercent);
+		return data;
 	}
 
 	public static String loadFromFile(String filename, boolean isWorldSave) throws IOException {
@@ -223,37 +224,37 @@ public class Load {
 	}
 
 	private void loadGame(String filename) {
-		loadFromFile(location + filename + saveExtension);
+		SaveReader data = loadFromFile(location + filename + saveExtension);
 
 		// Gets the world version
-		worldVersion = new Version(data.remove(0));
+		worldVersion = new Version(data.next());
 
         if (worldVersion.compareTo(new Version("2.2.0-dev1")) >= 0) {
-			World.setWorldSeed(Long.parseLong(data.remove(0)));
+			World.setWorldSeed(data.nextLong());
         }
 
 		if (worldVersion.compareTo(new Version("2.0.4-dev8")) >= 0) {
-			loadMode(data.remove(0));
+			loadMode(data.next());
 		}
 
-		Updater.setTime(Integer.parseInt(data.remove(0)));
+		Updater.setTime(data.nextInt());
 
-		Updater.gameTime = Integer.parseInt(data.remove(0));
+		Updater.gameTime = data.nextInt();
 		if (worldVersion.compareTo(new Version("1.9.3-dev2")) >= 0) {
 			Updater.pastFirstDay = Updater.gameTime > 65000;
 		} else {
 			Updater.gameTime = 65000; // Prevents time cheating.
 		}
 
-		int diffIdx = Integer.parseInt(data.remove(0));
+		int diffIdx = data.nextInt();
 		if (worldVersion.compareTo(new Version("1.9.3-dev3")) < 0) {
 			diffIdx--; // Account for change in difficulty
 		}
 
 		Settings.setIndex("diff", diffIdx);
-		AirWizard.beaten = Boolean.parseBoolean(data.remove(0));
-		EyeQueen.beaten = Boolean.parseBoolean(data.remove(0));
-		Settings.set("Cheats", Boolean.parseBoolean(data.remove(0)));
+		AirWizard.beaten = data.nextBoolean();
+		EyeQueen.beaten = data.nextBoolean();
+		Settings.set("Cheats", data.nextBoolean());
 
 		// Check if the AirWizard was beaten in versions prior to 2.1.0
 		if (worldVersion.compareTo(new Version("2.1.0-dev2")) < 0) {
@@ -300,44 +301,47 @@ public class Load {
 	}
 
 	private void loadPrefsOld(String filename) {
-		loadFromFile(location + filename + oldExtension);
+		SaveReader data = loadFromFile(location + filename + oldExtension);
 
 		// the default, because this doesn't really matter much being specific past this if it's not set below.
 		Version prefVer = new Version("2.0.2");
 
 		// signifies that this file was last written to by a version after 2.0.2.
-		if (!data.get(2).contains(";")) {
-			prefVer = new Version(data.remove(0));
+		if (!data.peek(2).contains(";")) {
+			prefVer = new Version(data.next());
 		}
 
-		Settings.set("sound", Boolean.parseBoolean(data.remove(0)));
-		Settings.set("autosave", Boolean.parseBoolean(data.remove(0)));
+		Settings.set("sound", data.nextBoolean());
+		Settings.set("autosave", data.nextBoolean());
 
 		if (prefVer.compareTo(new Version("2.0.4-dev2")) >= 0) {
-			Settings.set("fps", Integer.parseInt(data.remove(0)));
+			Settings.set("fps", data.nextInt());
 		}
 
 		List<String> subdata;
 
 		if (prefVer.compareTo(new Version("2.0.3-dev1")) < 0) {
-			subdata = data;
+			subdata = new ArrayList<>(data.remaining());
+			while (data.hasNext()) {
+				subdata.add(data.next());
+			}
 
 		} else {
 
-			MultiplayerDisplay.savedIP = data.remove(0);
+			MultiplayerDisplay.savedIP = data.next();
 
 			if (prefVer.compareTo(new Version("2.0.3-dev3")) > 0) {
-				MultiplayerDisplay.savedUUID = data.remove(0);
-				MultiplayerDisplay.savedUsername = data.remove(0);
+				MultiplayerDisplay.savedUUID = data.next();
+				MultiplayerDisplay.savedUsername = data.next();
 			}
 
 			if (prefVer.compareTo(new Version("2.0.4-dev3")) >= 0) {
-				String lang = data.remove(0);
+				String lang = data.next();
 				Settings.set("language", lang);
 				Localization.changeLanguage(lang);
 			}
 
-			String keyData = data.get(0);
+			String keyData = data.next();
 			subdata = Arrays.asList(keyData.split(":"));
 		}
 
@@ -393,9 +397,10 @@ public class Load {
 	}
 
 	private void loadUnlocksOld(String filename) {
-		loadFromFile(location + filename + oldExtension);
+		SaveReader data = loadFromFile(location + filename + oldExtension);
 
-		for (String unlock : data) {
+		while (data.hasNext()) {
+			String unlock = data.next();
 			if (unlock.equals("AirSkin")) {
 				Settings.set("unlockedskin", true);
 			}
@@ -432,45 +437,76 @@ public class Load {
 
 
 	private void loadWorld(String filename) {
+		// The conversions needed by the version of the save, the same for every tile
+		boolean hasSeed = worldVersion.compareTo(new Version("2.0.7-dev2")) >= 0;
+		boolean oldIds = worldVersion.compareTo(new Version("1.9.4-dev6")) < 0;
+		boolean convertWool = worldVersion.compareTo(new Version("2.0.6-dev4")) < 0;
+		boolean renameWood = worldVersion.compareTo(new Version("2.2.0-dev1")) >= 0;
+		boolean oldLapis = worldVersion.compareTo(new Version("2.0.3-dev6")) < 0;
+
 		for (int levelDepth = World.maxLevelDepth; levelDepth >= World.minLevelDepth; levelDepth--) {
 			LoadingDisplay.setProgressType(Level.getDepthString(levelDepth));
 			int levelIndex = World.levelIndex(levelDepth);
-			loadFromFile(location + filename + levelIndex + worldExtension);
+			Level parent = World.levels[World.levelIndex(levelDepth + 1)];
+			boolean convertLapis = oldLapis && levelDepth == World.minLevelDepth + 1;
+
+			// Worlds saved with the binary format, the text format below is only read to migrate old worlds
+			String levelFile = location + filename + levelIndex + levelExtension;
+			if (new File(levelFile).exists()) {
+				LevelFile file;
+				try {
+					file = LevelFile.read(levelFile);
+				} catch (IOException exception) {
+					throw new RuntimeException("Failed to load level file \"" + levelFile + "\"", exception);
+				}
+
+				Settings.set("size", file.w);
+
+				Level currentLevel = new Level(file.w, file.h, file.seed, levelDepth, parent, false);
+				currentLevel.tiles = file.tiles;
+				currentLevel.data = file.data;
+				currentLevel.explored = file.explored;
+				World.levels[levelIndex] = currentLevel;
+
+				LoadingDisplay.progress(loadPercent);
+				checkStairs(currentLevel, parent);
+				continue;
+			}
+
+			SaveReader data = loadFromFile(location + filename + levelIndex + worldExtension);
+			SaveReader extradata;
+			try {
+				extradata = SaveReader.open(location + filename + levelIndex + dataExtension);
+			} catch (IOException exception) {
+				exception.printStackTrace();
+				extradata = new SaveReader("");
+			}
 
-			int worldWidth = Integer.parseInt(data.get(0));
-			int worldHeight = Integer.parseInt(data.get(1));
+			int worldWidth = data.nextInt();
+			int worldHeight = data.nextInt();
 
-			boolean hasSeed = worldVersion.compareTo(new Version("2.0.7-dev2")) >= 0;
-			long seed = hasSeed ? Long.parseLong(data.get(2)) : 0;
+			long seed = hasSeed ? data.nextLong() : 0;
+			data.skip(1); // the level depth
 			Settings.set("size", worldWidth);
 
 			short[] tiles = new short[worldWidth * worldHeight];
 			short[] datas = new short[worldWidth * worldHeight];
 
-			for (int x = 0; x < worldWidth; x++) {
-				for (int y = 0; y < worldHeight; y++) {
+			// The tiles of old saves only have to be converted once per name
+			Map<String, String> tileNames = new HashMap<>();
+			Map<String, Short> tileIds = new HashMap<>();
 
-					// The tiles are saved with x outer loop, and y inner loop, meaning that
-					// the list reads down, then right one, rather than right, then down one.
+			// The tiles are saved row by row, but the level arrays are column by column,
+			// so the values are read in order and written down, then right one.
+			for (int y = 0; y < worldHeight; y++) {
+				for (int x = 0; x < worldWidth; x++) {
 					int tilesArrayIndex = y + x * worldWidth;
-					int tileIndex = x + y * worldWidth;
-
-					String tilename = data.get(tileIndex + (hasSeed ? 4 : 3));
-					if (worldVersion.compareTo(new Version("1.9.4-dev6")) < 0) {
-
-						// they were id numbers, not names, at this point
-						int tileID = Integer.parseInt(tilename);
 
-						if (Tiles.oldids.get(tileID) != null) {
-							tilename = Tiles.oldids.get(tileID);
-						} else {
-							Logger.warn("Tile list doesn't contain tile {}", tileID);
-							tilename = "grass";
-						}
-					}
+					String tilename = tileNames.computeIfAbsent(data.next(), name -> convertTileName(name, oldIds, renameWood));
+					short tileData = extradata.nextShort();
 
-					if (tilename.equalsIgnoreCase("WOOL") && worldVersion.compareTo(new Version("2.0.6-dev4")) < 0) {
-						switch (Integer.parseInt(extradata.get(tileIndex))) {
+					if (convertWool && tilename.equalsIgnoreCase("WOOL")) {
+						switch (tileData) {
 							case 1: tilename = "Red Wool"; break;
 							case 2: tilename = "Yellow Wool"; break;
 							case 3: tilename = "Green Wool"; break;
@@ -481,69 +517,86 @@ public class Load {
 						}
 					}
 
-					if (worldVersion.compareTo(new Version("2.2.0-dev1")) >= 0) {
-						if (tilename.equalsIgnoreCase("TREE")) {
-							tilename = "Oak Tree";
-							Logger.info("Detected old TREE tile, converting to new OAK TREE tile...");
-						}
-
-						if (tilename.equalsIgnoreCase("WOOD PLANKS")) {
-							tilename = "Oak Planks";
-							Logger.info("Detected old WOOD PLANKS tile, converting to new OAK PLANKS tile...");
-						}
-
-						if (tilename.equalsIgnoreCase("WOOD WALL")) {
-							tilename = "Oak Wall";
-							Logger.info("Detected old WOOD WALL tile, converting to new OAK WALL tile...");
-						}
-
-						if (tilename.equalsIgnoreCase("WOOD DOOR")) {
-							tilename = "Oak Door";
-							Logger.info("Detected old WOOD DOOR tile, converting to new OAK DOOR tile...");
+					if (convertLapis && tilename.equalsIgnoreCase("LAPIS")) {
+						// don't replace *all* the lapis
+						if (Math.random() < 0.8) {
+							tilename = "Gem Ore";
 						}
 					}
 
-					if (worldVersion.compareTo(new Version("2.0.3-dev6")) < 0) {
-						if (levelDepth == World.minLevelDepth + 1 && tilename.equalsIgnoreCase("LAPIS")) {
-							// don't replace *all* the lapis
-							if (Math.random() < 0.8) {
-								tilename = "Gem Ore";
-							}
-						}
-					}
-
-					tiles[tilesArrayIndex] = Tiles.get(tilename).id;
-					datas[tilesArrayIndex] = Short.parseShort(extradata.get(tileIndex));
+					tiles[tilesArrayIndex] = tileIds.computeIfAbsent(tilename, name -> Tiles.get(name).id);
+					datas[tilesArrayIndex] = tileData;
 				}
 			}
 
-			Level parent = World.levels[World.levelIndex(levelDepth + 1)];
 			World.levels[levelIndex] = new Level(worldWidth, worldHeight, seed, levelDepth, parent, false);
 
 			Level currentLevel = World.levels[levelIndex];
 			currentLevel.tiles = tiles;
 			currentLevel.data = datas;
 
-			if (Game.debug) {
-				currentLevel.printTileLocs(Tiles.get("Stairs Down"));
+			checkStairs(currentLevel, parent);
+		}
+	}
+
+	private static String convertTileName(String tilename, boolean oldIds, boolean renameWood) {
+		if (oldIds) {
+			// they were id numbers, not names, at this point
+			int tileID = Integer.parseInt(tilename);
+
+			if (Tiles.oldids.get(tileID) != null) {
+				tilename = Tiles.oldids.get(tileID);
+			} else {
+				Logger.warn("Tile list doesn't contain tile {}", tileID);
+				tilename = "grass";
+			}
+		}
+
+		if (renameWood) {
+			if (tilename.equalsIgnoreCase("TREE")) {
+				tilename = "Oak Tree";
+				Logger.info("Detected old TREE tile, converting to new OAK TREE tile...");
 			}
 
-			if (parent == null) {
-				continue;
+			if (tilename.equalsIgnoreCase("WOOD PLANKS")) {
+				tilename = "Oak Planks";
+				Logger.info("Detected old WOOD PLANKS tile, converting to new OAK PLANKS tile...");
 			}
 
-			/// confirm that there are stairs in all the places that should have stairs.
-			for (minicraft.graphic.Point p : parent.getMatchingTiles(Tiles.get("Stairs Down"))) {
-				if (currentLevel.getTile(p.x, p.y) != Tiles.get("Stairs Up")) {
-					currentLevel.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsUp", p.x, p.y);
-					currentLevel.setTile(p.x, p.y, Tiles.get("Stairs Up"));
-				}
+			if (tilename.equalsIgnoreCase("WOOD WALL")) {
+				tilename = "Oak Wall";
+				Logger.info("Detected old WOOD WALL tile, converting to new OAK WALL tile...");
 			}
-			for (minicraft.graphic.Point p : currentLevel.getMatchingTiles(Tiles.get("Stairs Up"))) {
-				if (parent.getTile(p.x, p.y) != Tiles.get("Stairs Down")) {
-					parent.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsDown", p.x, p.y);
-					parent.setTile(p.x, p.y, Tiles.get("Stairs Down"));
-				}
+
+			if (tilename.equalsIgnoreCase("WOOD DOOR")) {
+				tilename = "Oak Door";
+				Logger.info("Detected old WOOD DOOR tile, converting to new OAK DOOR tile...");
+			}
+		}
+
+		return tilename;
+	}
+
+	private static void checkStairs(Level currentLevel, @Nullable Level parent) {
+		if (Game.debug) {
+			currentLevel.printTileLocs(Tiles.get("Stairs Down"));
+		}
+
+		if (parent == null) {
+			return;
+		}
+
+		/// confirm that there are stairs in all the places that should have stairs.
+		for (minicraft.graphic.Point p : parent.getMatchingTiles(Tiles.get("Stairs Down"))) {
+			if (currentLevel.getTile(p.x, p.y) != Tiles.get("Stairs Up")) {
+				currentLevel.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsUp", p.x, p.y);
+				currentLevel.setTile(p.x, p.y, Tiles.get("Stairs Up"));
+			}
+		}
+		for (minicraft.graphic.Point p : currentLevel.getMatchingTiles(Tiles.get("Stairs Up"))) {
+			if (parent.getTile(p.x, p.y) != Tiles.get("Stairs Down")) {
+				parent.printLevelLoc("INCONSISTENT STAIRS detected; placing stairsDown", p.x, p.y);
+				parent.setTile(p.x, p.y, Tiles.get("Stairs Down"));
 			}
 		}
 	}
@@ -554,16 +607,18 @@ public class Load {
 		    LoadingDisplay.setProgressType(Level.getDepthString(levelDepth));
 		    int levelIndex = World.levelIndex(levelDepth);
 
-		    // Clear the data list before loading each level's map data
-		    data.clear();
+		    // The binary level files already contain the map
+		    if (new File(location + filename + levelIndex + levelExtension).exists()) {
+		        continue;
+		    }
 
-		    loadFromFile(location + filename + levelIndex + mapExtension);
+		    SaveReader data = loadFromFile(location + filename + levelIndex + mapExtension);
 
-		    if (data.size() >= 1) { // Check if there is at least one element in the data list
+		    if (data.hasNext()) { // Check if there is at least one value in the file
 		        Level currentLevel = World.levels[levelIndex];
 
-		        // Get the base64-encoded explored data from the data list
-		        String exploredData = data.get(0);
+		        // Get the base64-encoded explored data from the file
+		        String exploredData = data.next();
 
 		        // Decode the base64 string to a byte array
 		        byte[] byteArray = Base64.getDecoder().decode(exploredData);
@@ -581,46 +636,43 @@ public class Load {
 
 	public void loadPlayer(String filename, Player player) {
 		LoadingDisplay.setProgressType("Player");
-		loadFromFile(location + filename + saveExtension);
-		loadPlayer(player, data);
+		loadPlayer(player, loadFromFile(location + filename + saveExtension));
 	}
 
 
-	public void loadPlayer(Player player, List<String> origData) {
-		List<String> data = new ArrayList<>(origData);
-
-		player.x = Integer.parseInt(data.remove(0));
-		player.y = Integer.parseInt(data.remove(0));
-		player.spawnx = Integer.parseInt(data.remove(0));
-		player.spawny = Integer.parseInt(data.remove(0));
-		player.health = Integer.parseInt(data.remove(0));
+	private void loadPlayer(Player player, SaveReader data) {
+		player.x = data.nextInt();
+		player.y = data.nextInt();
+		player.spawnx = data.nextInt();
+		player.spawny = data.nextInt();
+		player.health = data.nextInt();
 
 		if (worldVersion.compareTo(new Version("2.0.4-dev7")) >= 0) {
-			player.hunger = Integer.parseInt(data.remove(0));
+			player.hunger = data.nextInt();
 		}
-		player.armor = Integer.parseInt(data.remove(0));
+		player.armor = data.nextInt();
 
-		if (worldVersion.compareTo(new Version("2.0.5-dev5")) >= 0 || player.armor > 0 || worldVersion.compareTo(new Version("2.0.5-dev4")) == 0 && data.size() > 5) {
+		if (worldVersion.compareTo(new Version("2.0.5-dev5")) >= 0 || player.armor > 0 || worldVersion.compareTo(new Version("2.0.5-dev4")) == 0 && data.remaining() > 5) {
 			if (worldVersion.compareTo(new Version("2.0.4-dev7")) < 0) {
 				// Reverse order b/c we are taking from the end
-				player.currentArmor = (ArmorItem) Items.get(data.remove(data.size() - 1));
-				player.armorDamageBuffer = Integer.parseInt(data.remove(data.size() - 1));
+				player.currentArmor = (ArmorItem) Items.get(data.last());
+				player.armorDamageBuffer = Integer.parseInt(data.last());
 			} else {
-				player.armorDamageBuffer = Integer.parseInt(data.remove(0));
-				player.currentArmor = (ArmorItem) Items.get(data.remove(0), true);
+				player.armorDamageBuffer = data.nextInt();
+				player.currentArmor = (ArmorItem) Items.get(data.next(), true);
 			}
 		}
-		player.setScore(Integer.parseInt(data.remove(0)));
+		player.setScore(data.nextInt());
 
 		if (worldVersion.compareTo(new Version("2.0.4-dev7")) < 0) {
-			int arrowCount = Integer.parseInt(data.remove(0));
+			int arrowCount = data.nextInt();
 
 			if (worldVersion.compareTo(new Version("2.0.1-dev1")) < 0) {
 				player.getInventory().add(Items.get("arrow"), arrowCount);
 			}
 		}
 
-		Game.currentLevel = Integer.parseInt(data.remove(0));
+		Game.currentLevel = data.nextInt();
 		Level level = World.levels[Game.currentLevel];
 
 		// Removes the user player from the level, in case they would be added twice.
@@ -635,13 +687,13 @@ public class Load {
 		}
 
 		if (worldVersion.compareTo(new Version("2.0.4-dev8")) < 0) {
-			String modedata = data.remove(0);
+			String modedata = data.next();
 			if (player == Game.player) {
 				loadMode(modedata); // Only load if you're loading the main player
 			}
 		}
 
-		String potionEffects = data.remove(0);
+		String potionEffects = data.next();
 		if (!potionEffects.equals("PotionEffects[]")) {
 			String[] effects = potionEffects.replace("PotionEffects[", "").replace("]", "").split(":");
 
@@ -653,7 +705,7 @@ public class Load {
 		}
 
 		if (worldVersion.compareTo(new Version("1.9.4-dev4")) < 0) {
-			String colorsList = data.remove(0).replace("[", "").replace("]", "");
+			String colorsList = data.next().replace("[", "").replace("]", "");
 			String[] color = colorsList.split(";");
 			int[] colors = new int[color.length];
 
@@ -666,7 +718,7 @@ public class Load {
 			player.shirtColor = Integer.parseInt(spriteColor);
 
 		} else if (worldVersion.compareTo(new Version("2.0.6-dev4")) < 0) {
-			String color = data.remove(0);
+			String color = data.next();
 			int[] colors = new int[3];
 
 			for (int i = 0; i < 3; i++) {
@@ -675,14 +727,14 @@ public class Load {
 
 			player.shirtColor = Color.get(1, colors[0] * 51, colors[1] * 51, colors[2] * 51);
 		} else {
-			player.shirtColor = Integer.parseInt(data.remove(0));
+			player.shirtColor = data.nextInt();
 		}
 
 		// This works for some reason... lol
-		Settings.set("skinon", player.suitOn = Boolean.parseBoolean(data.remove(0)));
+		Settings.set("skinon", player.suitOn = data.nextBoolean());
 
-		player.nightCount  = Integer.parseInt(data.remove(0));
-        player.isNiceNight = Boolean.parseBoolean(data.remove(0));
+		player.nightCount  = data.nextInt();
+        player.isNiceNight = data.nextBoolean();
 	}
 
 	protected static String subOldName(String name, Version worldVer) {
@@ -741,14 +793,14 @@ public class Load {
 	}
 
 	public void loadInventory(String filename, Inventory inventory) {
-		loadFromFile(location + filename + saveExtension);
-		loadInventory(inventory, data);
+		loadInventory(inventory, loadFromFile(location + filename + saveExtension));
 	}
 
-	public void loadInventory(Inventory inventory, List<String> data) {
+	private void loadInventory(Inventory inventory, SaveReader data) {
 		inventory.clear();
 
-		for (String item : data) {
+		while (data.hasNext()) {
+			String item = data.next();
 			if (item.length() == 0) {
 				System.err.println("loadInventory: Item in data list is \"\", skipping item");
 				continue;
@@ -787,13 +839,14 @@ public class Load {
 
 	private void loadEntities(String filename) {
 		LoadingDisplay.setProgressType("Entities");
-		loadFromFile(location + filename + saveExtension);
+		SaveReader data = loadFromFile(location + filename + saveExtension);
 
 		for (Level level : World.levels) {
 			level.clearEntities();
 		}
 
-		for (String name : data) {
+		while (data.hasNext()) {
+			String name = data.next();
 			if (name.startsWith("Player")) {
 				continue;
 			}
@@ -875,15 +928,7 @@ public class Load {
 
 		} else {
 			int mobLvl = 1;
-			Class c = null;
-			if (!Crafter.names.contains(entityName)) {
-				try {
-					c = Class.forName("minicraft.entity.mob." + entityName);
-				} catch (ClassNotFoundException ignored) {
-				}
-			}
-
-			if (c != null && EnemyMob.class.isAssignableFrom(c)) {
+			if (Mobs.isEnemy(entityName)) {
 				mobLvl = Integer.parseInt(info.get(info.size() - 2));
 			}
 
@@ -981,12 +1026,6 @@ public class Load {
 				double za = Double.parseDouble(info.get(8));
 				newEntity = new ItemEntity(item, x, y, zz, lifetime, timeleft, xa, ya, za);
 			}
-			if (newEntity instanceof TextParticle) {
-				int textColor = Integer.parseInt(info.get(3));
-				newEntity = new TextParticle(info.get(2), x, y, textColor);
-
-				// if (Game.debug) System.out.println("Loaded text particle; color: "+ Color.toString(textColor)+", text: " + info.get(2));
-			}
 		}
 
 		newEntity.eid = eid; // This will be -1 unless set earlier, so a new one will be generated when adding it to the level.
@@ -1003,34 +1042,16 @@ public class Load {
 
     @Nullable
     private static Entity getEntity(String string, int moblvl) {
+        // Load Mob entities
+        MobAi mob = Mobs.get(string, moblvl);
+        if (mob != null) {
+            return mob;
+        }
 
         switch (string) {
-	        // Load Mob entities
+	        // The players are not loaded here
 	        case "Player": return null;
 	        case "RemotePlayer": return null;
-	        case "Cow": return new Cow();
-	        case "Goat": return new Goat();
-	        case "Sheep": return new Sheep();
-	        case "Sheepuff": return new Sheepuff();
-	        case "Chicken": return new Chicken();
-	        case "Pig": return new Pig();
-	        case "Phyg": return new Phyg();
-	        case "Cleric": return new Cleric();
-	        case "Librarian": return new Librarian();
-	        case "GuiMan": return new GuiMan();
-	        case "Cat": return new Cat();
-	        case "Golem": return new Golem();
-	        case "Zombie": return new Zombie(moblvl);
-	        case "Slime": return new Slime(moblvl);
-	        case "Creeper": return new Creeper(moblvl);
-	        case "Skeleton": return new Skeleton(moblvl);
-	        case "Knight": return new Knight(moblvl);
-	        case "OldGolem": return new OldGolem(moblvl);
-	        case "Snake": return new Snake(moblvl);
-	        case "EyeQueen": return new EyeQueen(moblvl);
-	        case "Keeper": return new Keeper(moblvl);
-	        case "AirWizard": return new AirWizard(moblvl > 1);
-	        case "Firefly": return new Firefly();
 
 	        // Load Furniture entities
 	        case "Boat": return new Boat();
@@ -1,6 +1,7 @@
 package minicraft.saveload;
 
 import minicraft.core.Game;
+import minicraft.core.LevelTicker;
 import minicraft.core.Renderer;
 import minicraft.core.Updater;
 import minicraft.core.World;
@@ -9,8 +10,6 @@ import minicraft.core.io.Settings;
 import minicraft.entity.*;
 import minicraft.entity.furniture.*;
 import minicraft.entity.mob.*;
-import minicraft.entity.particle.Particle;
-import minicraft.entity.particle.TextParticle;
 import minicraft.item.Inventory;
 import minicraft.item.Item;
 import minicraft.item.PotionType;
@@ -21,10 +20,20 @@ import org.json.JSONObject;
 import org.tinylog.Logger;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Save {
 
@@ -39,11 +48,27 @@ public class Save {
 	public static final String dataExtension = ".data";
 	public static final String saveExtension = ".dat";
 	public static final String mapExtension = ".map";
+	public static final String levelExtension = ".bin";
 
 	public static final String oldExtension = ".miniplussave";
 
 	List<String> data;
 
+	// The files of this save, filled by the write methods and written to disk by writeFiles()
+	private final Map<String, List<String>> textFiles = new LinkedHashMap<>();
+	private final Map<String, LevelFile> levelFiles = new LinkedHashMap<>();
+
+	// Autosaves are written in this thread, so the game doesn't stop while saving
+	private static final ExecutorService autosaveThread = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Autosave Thread");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private static Future<?> autosaveTask;
+	private static volatile int autosaveProgress;
+	private static final AtomicBoolean autosaveFinished = new AtomicBoolean(false);
+
 	/**
 	 * This is the main save method. Called by all Save() methods.
 	 *
@@ -84,11 +109,10 @@ public class Save {
 
 		this(new File(Game.gameDir + "/saves/" + worldname + "/"));
 
-		writeGame("Game");
-		writeWorld("Level");
-		writePlayer("Player", Game.player);
-		writeInventory("Inventory", Game.player);
-		writeEntities("Entities");
+		waitForAutosave(); // Don't write the same files at the same time
+
+		writeWorldSave();
+		writeFiles(false);
 
 		WorldSelectDisplay.updateWorlds();
 
@@ -97,6 +121,68 @@ public class Save {
 		Updater.saving = false;
 	}
 
+	/**
+	 * Takes a snapshot of the world in this thread, and writes it to disk in the autosave thread.
+	 * Does nothing if the last autosave is still being written.
+	 *
+	 * @param worldname The name of the world.
+	 */
+	public static void autosave(String worldname) {
+		if (isAutosaving()) {
+			return;
+		}
+
+		Save save = new Save(new File(Game.gameDir + "/saves/" + worldname + "/"));
+		save.writeWorldSave();
+
+		autosaveProgress = 0;
+		autosaveTask = autosaveThread.submit(() -> {
+			save.writeFiles(true);
+			autosaveFinished.set(true);
+		});
+	}
+
+	/** @return If an autosave is being written right now. */
+	public static boolean isAutosaving() {
+		return autosaveTask != null && !autosaveTask.isDone();
+	}
+
+	/** @return The percentage of the current autosave that has been written. */
+	public static int getAutosaveProgress() {
+		return autosaveProgress;
+	}
+
+	/** @return True only once after an autosave is written, to notify it from the game thread. */
+	public static boolean checkAutosaveFinished() {
+		return autosaveFinished.getAndSet(false);
+	}
+
+	/** Blocks until the current autosave, if any, is written. */
+	public static void waitForAutosave() {
+		if (autosaveTask == null) {
+			return;
+		}
+
+		try {
+			autosaveTask.get();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException exception) {
+			Logger.error("Autosave failed");
+			exception.getCause().printStackTrace();
+		}
+	}
+
+	private void writeWorldSave() {
+		LevelTicker.waitForBatches(); // The other levels can't change while they are copied
+
+		writeGame("Game");
+		writeWorld("Level");
+		writePlayer("Player", Game.player);
+		writeInventory("Inventory", Game.player);
+		writeEntities("Entities");
+	}
+
 	/** This will save the settings in the settings menu. */
 	public Save() {
 		this(new File(Game.gameDir + "/"));
@@ -113,6 +199,7 @@ public class Save {
 		if (writePlayer) {
 			writePlayer("Player", player);
 			writeInventory("Inventory", player);
+			writeFiles(false);
 		}
 	}
 
@@ -122,15 +209,79 @@ public class Save {
 		}
 	}
 
-	public void writeToFile(String filename, List<String> savedata) {
+	private void addFile(String filename, List<String> savedata) {
+		textFiles.put(filename, new ArrayList<>(savedata));
+		data.clear();
+	}
+
+	/**
+	 * Writes the files of this save. Every file is written to a temporary file first and then
+	 * moved over the old one, so a save that fails half way doesn't leave broken files.
+	 *
+	 * @param background If this is called from the autosave thread, then it won't touch the loading display.
+	 */
+	private void writeFiles(boolean background) {
+		int total = levelFiles.size() + textFiles.size();
+		int written = 0;
+
+		for (Map.Entry<String, LevelFile> levelFile : levelFiles.entrySet()) {
+			String filename = levelFile.getKey();
+			try {
+				levelFile.getValue().write(filename + ".tmp");
+				replaceFile(filename);
+			} catch (IOException exception) {
+				exception.printStackTrace();
+				continue;
+			}
+
+			// the tiles, data and map are all in the level file now, so remove the old text files
+			String oldFilename = filename.substring(0, filename.length() - levelExtension.length());
+			for (String oldExtension : new String[] { worldExtension, dataExtension, mapExtension }) {
+				File oldFile = new File(oldFilename + oldExtension);
+				if (oldFile.exists() && !oldFile.delete()) {
+					Logger.warn("Failed to delete old level file \"{}\"", oldFile);
+				}
+			}
+
+			updateProgress(background, ++written, total);
+		}
+
+		for (Map.Entry<String, List<String>> textFile : textFiles.entrySet()) {
+			String filename = textFile.getKey();
+			try {
+				writeToFile(filename + ".tmp", textFile.getValue().toArray(new String[0]), true);
+				replaceFile(filename);
+			} catch (IOException exception) {
+				exception.printStackTrace();
+			}
+
+			updateProgress(background, ++written, total);
+		}
+
+		levelFiles.clear();
+		textFiles.clear();
+	}
+
+	private static void replaceFile(String filename) throws IOException {
+		Path temp = Paths.get(filename + ".tmp");
+		Path target = Paths.get(filename);
 		try {
-			writeToFile(filename, savedata.toArray(new String[0]), true);
-		} catch (IOException exception) {
-			exception.printStackTrace();
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException exception) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
 		}
+	}
 
-		data.clear();
+	private static void updateProgress(boolean background, int written, int total) {
+		if (background) {
+			autosaveProgress = written * 100 / total;
+			return;
+		}
+
+		updateProgress();
+	}
 
+	private static void updateProgress() {
 		LoadingDisplay.progress(7);
 		if (LoadingDisplay.getPercentage() > 100) {
 			LoadingDisplay.setPercentage(100);
@@ -172,7 +323,7 @@ public class Save {
 		data.add(String.valueOf(EyeQueen.beaten));
 		data.add(String.valueOf(Settings.get("cheats")));
 
-		writeToFile(location + filename + saveExtension, data);
+		addFile(location + filename + saveExtension, data);
 	}
 
 	private void writePrefs() {
@@ -232,71 +383,16 @@ public class Save {
 	    // set the message to display while loading
 	    LoadingDisplay.setProgressType("Levels");
 
-	    String worldSize = String.valueOf(Settings.get("size"));
-
-	    // loop through all levels in World.levels array
-	    for (int currentLevel = 0; currentLevel < World.levels.length; currentLevel++) {
-	        // add world size and level seed to data array
-	        data.add(worldSize);
-	        data.add(worldSize);
-	        data.add(Long.toString(World.levels[currentLevel].getSeed()));
-	        data.add(String.valueOf(World.levels[currentLevel].depth));
-
-	        // loop through each tile in the level and add the tile name to data array
-	        for (int x = 0; x < World.levels[currentLevel].w; x++) {
-	            for (int y = 0; y < World.levels[currentLevel].h; y++) {
-	                data.add(String.valueOf(World.levels[currentLevel].getTile(x, y).name));
-	            }
-	        }
-
-	        // write the data array to file
-	        writeToFile(location + filename + currentLevel + worldExtension, data);
-	        // clear the data array for next level
-	        data.clear();
-	    }
-
 	    // loop through all levels in World.levels array
 	    for (int currentLevel = 0; currentLevel < World.levels.length; currentLevel++) {
-	        // loop through each tile in the level and add the tile data to data array
-	        for (int x = 0; x < World.levels[currentLevel].w; x++) {
-	            for (int y = 0; y < World.levels[currentLevel].h; y++) {
-	                data.add(String.valueOf(World.levels[currentLevel].getData(x, y)));
-	            }
-	        }
-	        // write the data array to file
-	        writeToFile(location + filename + currentLevel + dataExtension, data);
-	        // clear the data array for next level
-	        data.clear();
-	    }
-
-	    for (int currentLevel = 0; currentLevel < World.levels.length; currentLevel++) {
-	        Level currentLevelObj = World.levels[currentLevel];
-
-	        // Serialize the explored array to a byte array
-	        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-	        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
-	            objectOutputStream.writeObject(currentLevelObj.explored);
-	        } catch (IOException e) {
-	            e.printStackTrace();
-	        }
-
-	        // Convert the byte array to a base64-encoded string
-	        String exploredData = Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray());
-
-	        // Add the serialized and encoded explored data to the data array
-	        data.add(exploredData);
-
-	        // write the data array to file
-	        writeToFile(location + filename + currentLevel + mapExtension, data);
-	        // clear the data array for the next level
-	        data.clear();
+	        levelFiles.put(location + filename + currentLevel + levelExtension, new LevelFile(World.levels[currentLevel]));
 	    }
 	}
 
 	private void writePlayer(String filename, Player player) {
 		LoadingDisplay.setProgressType("Player");
 		writePlayer(player, data);
-		writeToFile(location + filename + saveExtension, data);
+		addFile(location + filename + saveExtension, data);
 	}
 
 	public static void writePlayer(Player player, List<String> data) {
@@ -337,7 +433,7 @@ public class Save {
 
 	private void writeInventory(String filename, Player player) {
 		writeInventory(player, data);
-		writeToFile(location + filename + saveExtension, data);
+		addFile(location + filename + saveExtension, data);
 	}
 
 	public static void writeInventory(Player player, List<String> data) {
@@ -365,7 +461,7 @@ public class Save {
 			}
 		}
 
-		writeToFile(location + filename + saveExtension, data);
+		addFile(location + filename + saveExtension, data);
 	}
 
 	public static String writeEntity(Entity entity, boolean isLocalSave) {
@@ -373,14 +469,12 @@ public class Save {
 		entityName = entityName.substring(entityName.lastIndexOf('.') + 1);
 		StringBuilder extradata = new StringBuilder();
 
-		// Don't even write ItemEntities or particle effects; Spark... will probably is saved, eventually;
+		// Don't even write ItemEntities; Spark... will probably is saved, eventually;
 		// it presents an unfair cheat to remove the sparks by reloading the Game.
-
-		// TODO I don't want to, but there are complications.
-		// If (e instanceof Particle) return "";
+		// The particles are not entities, so they are never saved.
 
 		// wirte these only when sending a world, not writing
-		if (isLocalSave && (entity instanceof ItemEntity || entity instanceof Arrow || entity instanceof Spark || entity instanceof Fireball || entity instanceof Particle)) {
+		if (isLocalSave && (entity instanceof ItemEntity || entity instanceof Arrow || entity instanceof Spark || entity instanceof Fireball)) {
 			return "";
 		}
 
@@ -441,7 +535,6 @@ public class Save {
 			if (entity instanceof ItemEntity) extradata.append(":").append(((ItemEntity) entity).getData());
 			if (entity instanceof Arrow) extradata.append(":").append(((Arrow) entity).getData());
 			if (entity instanceof Spark) extradata.append(":").append(((Spark) entity).getData());
-			if (entity instanceof TextParticle) extradata.append(":").append(((TextParticle) entity).getData());
 			if (entity instanceof Fireball) extradata.append(":").append(((Fireball) entity).getData());
 		}
 		// else // is a local save
@@ -0,0 +1,108 @@
+package minicraft.saveload;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the values of a comma separated save file in order, without splitting
+ * the whole file into a list first. Empty values at the end of the file are
+ * ignored, same as {@link String#split(String)}.
+ */
+class SaveReader {
+
+	private final String text;
+	private int start;
+	private int end;
+	private int remaining;
+
+	SaveReader(String text) {
+		this.text = text;
+
+		end = text.length();
+		while (end > 0 && text.charAt(end - 1) == ',') {
+			end--;
+		}
+
+		if (end > 0) {
+			remaining = 1;
+			for (int i = 0; i < end; i++) {
+				if (text.charAt(i) == ',') remaining++;
+			}
+		}
+	}
+
+	static SaveReader open(String filename) throws IOException {
+		return new SaveReader(Load.loadFromFile(filename, true));
+	}
+
+	boolean hasNext() {
+		return remaining > 0;
+	}
+
+	/** @return The number of values that haven't been read yet. */
+	int remaining() {
+		return remaining;
+	}
+
+	String next() {
+		if (remaining == 0) {
+			throw new NoSuchElementException();
+		}
+
+		int comma = remaining == 1 ? end : text.indexOf(',', start);
+		String value = text.substring(start, comma);
+		start = comma + 1;
+		remaining--;
+		return value;
+	}
+
+	/** Reads the last value of the file instead of the next one. */
+	String last() {
+		if (remaining == 0) {
+			throw new NoSuchElementException();
+		}
+
+		int comma = remaining == 1 ? start - 1 : text.lastIndexOf(',', end - 1);
+		String value = text.substring(comma + 1, end);
+		end = Math.max(comma, start);
+		remaining--;
+		return value;
+	}
+
+	/** @return The value {@code offset} places after the next one, without reading it. */
+	String peek(int offset) {
+		if (offset >= remaining) {
+			throw new NoSuchElementException();
+		}
+
+		int from = start;
+		for (int i = 0; i < offset; i++) {
+			from = text.indexOf(',', from) + 1;
+		}
+
+		int comma = offset == remaining - 1 ? end : text.indexOf(',', from);
+		return text.substring(from, comma);
+	}
+
+	void skip(int count) {
+		for (int i = 0; i < count; i++) {
+			next();
+		}
+	}
+
+	int nextInt() {
+		return Integer.parseInt(next());
+	}
+
+	short nextShort() {
+		return Short.parseShort(next());
+	}
+
+	long nextLong() {
+		return Long.parseLong(next());
+	}
+
+	boolean nextBoolean() {
+		return Boolean.parseBoolean(next());
+	}
+}
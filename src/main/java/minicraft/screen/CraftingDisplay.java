@@ -108,50 +108,50 @@ public class CraftingDisplay extends Display {
 			if (selectedRecipe.getCanCraft()) {
 
 				if (!Game.isMode("Creative"))  {
-					if (selectedRecipe.getProduct().equals(Items.get("Workbench"))){
+					if (selectedRecipe.getProduct().equals(Items.getPrototype("Workbench"))){
 						AchievementsDisplay.setAchievement("minicraft.achievement.benchmarking",true);
 					}
                     // walk to planks achievement
-					if (selectedRecipe.getProduct().equals(Items.get("Oak Plank")) ||
-                        selectedRecipe.getProduct().equals(Items.get("Spruce Plank")) ||
-                        selectedRecipe.getProduct().equals(Items.get("Birch Plank"))){
+					if (selectedRecipe.getProduct().equals(Items.getPrototype("Oak Plank")) ||
+                        selectedRecipe.getProduct().equals(Items.getPrototype("Spruce Plank")) ||
+                        selectedRecipe.getProduct().equals(Items.getPrototype("Birch Plank"))){
 						AchievementsDisplay.setAchievement("minicraft.achievement.planks",true);
 					}
                     // TO, TOC! achievement
-					if (selectedRecipe.getProduct().equals(Items.get("Oak Door")) ||
-                        selectedRecipe.getProduct().equals(Items.get("Spruce Door")) ||
-                        selectedRecipe.getProduct().equals(Items.get("Birch Door"))){
+					if (selectedRecipe.getProduct().equals(Items.getPrototype("Oak Door")) ||
+                        selectedRecipe.getProduct().equals(Items.getPrototype("Spruce Door")) ||
+                        selectedRecipe.getProduct().equals(Items.getPrototype("Birch Door"))){
 						AchievementsDisplay.setAchievement("minicraft.achievement.doors",true);
 					}
                     // Upgrade! achievement
-					if (selectedRecipe.getProduct().equals(Items.get("Rock Sword")) ||
-							selectedRecipe.getProduct().equals(Items.get("Rock Pickaxe")) ||
-							selectedRecipe.getProduct().equals(Items.get("Rock Axe")) ||
-							selectedRecipe.getProduct().equals(Items.get("Rock Shovel")) ||
-							selectedRecipe.getProduct().equals(Items.get("Rock Hoe")) ||
-							selectedRecipe.getProduct().equals(Items.get("Rock Bow")) ||
-							selectedRecipe.getProduct().equals(Items.get("Rock Claymore"))) {
+					if (selectedRecipe.getProduct().equals(Items.getPrototype("Rock Sword")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Rock Pickaxe")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Rock Axe")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Rock Shovel")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Rock Hoe")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Rock Bow")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Rock Claymore"))) {
 						AchievementsDisplay.setAchievement("minicraft.achievement.upgrade", true);
 					}
                     // Iron tools achievement
-                    if (selectedRecipe.getProduct().equals(Items.get("Iron Sword")) ||
-							selectedRecipe.getProduct().equals(Items.get("Iron Pickaxe")) ||
-							selectedRecipe.getProduct().equals(Items.get("Iron Axe")) ||
-							selectedRecipe.getProduct().equals(Items.get("Iron Shovel")) ||
-							selectedRecipe.getProduct().equals(Items.get("Iron Hoe")) ||
-							selectedRecipe.getProduct().equals(Items.get("Iron Bow")) ||
-							selectedRecipe.getProduct().equals(Items.get("Iron Claymore"))) {
+                    if (selectedRecipe.getProduct().equals(Items.getPrototype("Iron Sword")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Iron Pickaxe")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Iron Axe")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Iron Shovel")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Iron Hoe")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Iron Bow")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("Iron Claymore"))) {
 						AchievementsDisplay.setAchievement("minicraft.achievement.iron_tools", true);
 					}
                     // Color full day achievement
-					if (selectedRecipe.getProduct().equals(Items.get("blue clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("green clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("yellow clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("black clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("orange clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("purple clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("cyan clothes")) ||
-							selectedRecipe.getProduct().equals(Items.get("reg clothes"))) {
+					if (selectedRecipe.getProduct().equals(Items.getPrototype("blue clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("green clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("yellow clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("black clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("orange clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("purple clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("cyan clothes")) ||
+							selectedRecipe.getProduct().equals(Items.getPrototype("reg clothes"))) {
 						AchievementsDisplay.setAchievement("minicraft.achievement.clothes", true);
 					}
 				}
@@ -67,7 +67,7 @@ public class EndGameDisplay extends Display {
 	}
 
 	private void addBonus(String item) {
-		int count = Game.player.getInventory().count(Items.get(item));
+		int count = Game.player.getInventory().count(Items.getPrototype(item));
 		int score = count * (random.nextInt(2) + 1) * 10;
         finalScore += score;
 	}
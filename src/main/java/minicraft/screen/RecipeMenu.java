@@ -9,9 +9,14 @@ import java.util.List;
 class RecipeMenu extends ItemListMenu {
 
     private static RecipeEntry[] getAndSortRecipes(List<Recipe> recipes, Player player) {
+        // checked once before, not again in each comparison
+        for (Recipe recipe : recipes) {
+            recipe.checkCanCraft(player);
+        }
+
         recipes.sort((r1, r2) -> {
-            boolean craft1 = r1.checkCanCraft(player);
-            boolean craft2 = r2.checkCanCraft(player);
+            boolean craft1 = r1.getCanCraft();
+            boolean craft2 = r2.getCanCraft();
             if (craft1 == craft2) return 0;
             if (craft1) return -1;
             if (craft2) return 1;